@@ -0,0 +1,25 @@
+plugins {
+    id("cloud.base-conventions")
+    alias(libs.plugins.jmh)
+}
+
+dependencies {
+    jmhImplementation(projects.cloudCore)
+    jmhImplementation(projects.cloudAnnotations)
+
+    testImplementation(projects.cloudCore)
+    testImplementation(libs.jolCore)
+}
+
+jmh {
+    jmhVersion = libs.versions.jmh
+    profilers.add("gc")
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/results.json")
+    providers.gradleProperty("jmhIncludes").orNull?.let { includes.add(it) }
+}
+
+/* The benchmarks are treated like tests, see cloud.base-conventions */
+tasks.named("checkstyleJmh") {
+    enabled = false
+}
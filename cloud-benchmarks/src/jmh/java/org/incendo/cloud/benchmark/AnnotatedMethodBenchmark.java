@@ -0,0 +1,128 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.annotations.AnnotationParser;
+import org.incendo.cloud.annotations.Argument;
+import org.incendo.cloud.annotations.Command;
+import org.incendo.cloud.annotations.Flag;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.execution.CommandResult;
+import org.incendo.cloud.injection.ParameterInjector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the invocation of annotated command methods, including parameter injection.
+ */
+@State(Scope.Thread)
+@Fork(3)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class AnnotatedMethodBenchmark {
+
+    private final BenchmarkSender sender = new BenchmarkSender();
+    private CommandManager<BenchmarkSender> manager;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.manager = new BenchmarkCommandManager();
+        this.manager.parameterInjectorRegistry()
+                .registerInjector(InjectedService.class, ParameterInjector.constantInjector(new InjectedService()));
+        new AnnotationParser<>(this.manager, BenchmarkSender.class).parse(new AnnotatedCommands());
+    }
+
+    @Benchmark
+    public CommandResult<BenchmarkSender> executeArguments() {
+        return this.manager.commandExecutor().executeCommand(this.sender, "arguments 5 text --flag").join();
+    }
+
+    @Benchmark
+    public CommandResult<BenchmarkSender> executeInjected() {
+        return this.manager.commandExecutor().executeCommand(this.sender, "injected 5").join();
+    }
+
+    /**
+     * Service that gets injected into the annotated methods.
+     */
+    public static final class InjectedService {
+
+        private int invocations;
+
+        void invoke(final int value) {
+            this.invocations += value;
+        }
+    }
+
+    /**
+     * Annotated command container.
+     */
+    public static final class AnnotatedCommands {
+
+        /**
+         * Command with arguments and a flag.
+         *
+         * @param context the command context
+         * @param number  the number
+         * @param string  the string
+         * @param flag    the flag
+         */
+        @Command("arguments <number> <string>")
+        public void arguments(
+                final CommandContext<BenchmarkSender> context,
+                @Argument("number") final int number,
+                @Argument("string") final String string,
+                @Flag("flag") final boolean flag
+        ) {
+            context.store("result", number + string.length());
+        }
+
+        /**
+         * Command with an injected parameter.
+         *
+         * @param number  the number
+         * @param service the injected service
+         */
+        @Command("injected <number>")
+        public void injected(
+                @Argument("number") final int number,
+                final InjectedService service
+        ) {
+            service.invoke(number);
+        }
+    }
+}
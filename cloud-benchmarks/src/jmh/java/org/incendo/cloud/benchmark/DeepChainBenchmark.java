@@ -0,0 +1,96 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.incendo.cloud.Command;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.execution.CommandResult;
+import org.incendo.cloud.parser.standard.IntegerParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks commands with long chains of literals and arguments.
+ */
+@State(Scope.Thread)
+@Fork(3)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class DeepChainBenchmark {
+
+    @Param({"10", "100"})
+    public int depth;
+
+    private final BenchmarkSender sender = new BenchmarkSender();
+    private CommandManager<BenchmarkSender> manager;
+    private String literalChain;
+    private String argumentChain;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.manager = new BenchmarkCommandManager();
+
+        final StringBuilder literalBuilder = new StringBuilder("literals");
+        Command.Builder<BenchmarkSender> literals = this.manager.commandBuilder("literals");
+        for (int i = 1; i <= this.depth; i++) {
+            final String literal = Integer.toString(i);
+            literals = literals.literal(literal);
+            literalBuilder.append(' ').append(literal);
+        }
+        this.manager.command(literals.handler(context -> {}));
+        this.literalChain = literalBuilder.toString();
+
+        final StringBuilder argumentBuilder = new StringBuilder("arguments");
+        Command.Builder<BenchmarkSender> arguments = this.manager.commandBuilder("arguments");
+        for (int i = 1; i <= this.depth; i++) {
+            arguments = arguments.required("int" + i, IntegerParser.integerParser());
+            argumentBuilder.append(' ').append(i);
+        }
+        this.manager.command(arguments.handler(context -> {}));
+        this.argumentChain = argumentBuilder.toString();
+    }
+
+    @Benchmark
+    public CommandResult<BenchmarkSender> executeLiteralChain() {
+        return this.manager.commandExecutor().executeCommand(this.sender, this.literalChain).join();
+    }
+
+    @Benchmark
+    public CommandResult<BenchmarkSender> executeArgumentChain() {
+        return this.manager.commandExecutor().executeCommand(this.sender, this.argumentChain).join();
+    }
+}
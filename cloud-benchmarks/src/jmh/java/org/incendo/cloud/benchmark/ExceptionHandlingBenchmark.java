@@ -0,0 +1,112 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.benchmark;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.exception.handling.ExceptionHandler;
+import org.incendo.cloud.parser.standard.IntegerParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the paths that end in an exception: unknown commands, invalid syntax, parse failures and throwing
+ * command handlers.
+ */
+@State(Scope.Thread)
+@Fork(3)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class ExceptionHandlingBenchmark {
+
+    /**
+     * Whether the exceptions are consumed by a registered handler, or propagated to the caller.
+     */
+    @Param({"true", "false"})
+    public boolean handled;
+
+    private final BenchmarkSender sender = new BenchmarkSender();
+    private CommandManager<BenchmarkSender> manager;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.manager = new BenchmarkCommandManager();
+        this.manager.command(
+                this.manager.commandBuilder("command")
+                        .literal("literal")
+                        .required("int", IntegerParser.integerParser())
+                        .handler(context -> {})
+        );
+        this.manager.command(
+                this.manager.commandBuilder("throwing")
+                        .handler(context -> {
+                            throw new IllegalStateException("benchmark");
+                        })
+        );
+        if (this.handled) {
+            this.manager.exceptionController().registerHandler(Throwable.class, ExceptionHandler.noopHandler());
+        }
+    }
+
+    @Benchmark
+    public Object noSuchCommand() {
+        return this.execute("unknown");
+    }
+
+    @Benchmark
+    public Object invalidSyntax() {
+        return this.execute("command");
+    }
+
+    @Benchmark
+    public Object argumentParseFailure() {
+        return this.execute("command literal abc");
+    }
+
+    @Benchmark
+    public Object throwingHandler() {
+        return this.execute("throwing");
+    }
+
+    private Object execute(final String input) {
+        try {
+            return this.manager.commandExecutor().executeCommand(this.sender, input).join();
+        } catch (final CompletionException exception) {
+            return exception;
+        }
+    }
+}
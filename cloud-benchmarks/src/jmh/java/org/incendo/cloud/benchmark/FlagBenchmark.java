@@ -0,0 +1,107 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.incendo.cloud.Command;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.execution.CommandResult;
+import org.incendo.cloud.parser.standard.IntegerParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks commands with a large amount of flags.
+ */
+@State(Scope.Thread)
+@Fork(3)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class FlagBenchmark {
+
+    private static final String PRESENCE_FLAGS = "abcdefghijklmnop";
+
+    @Param({"4", "16"})
+    public int flags;
+
+    private final BenchmarkSender sender = new BenchmarkSender();
+    private CommandManager<BenchmarkSender> manager;
+    private String valueFlagInput;
+    private String presenceFlagInput;
+    private String presenceFlagGroupInput;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.manager = new BenchmarkCommandManager();
+
+        final StringBuilder valueBuilder = new StringBuilder("values");
+        Command.Builder<BenchmarkSender> values = this.manager.commandBuilder("values");
+        for (int i = 0; i < this.flags; i++) {
+            values = values.flag(this.manager.flagBuilder("value" + i).withComponent(IntegerParser.integerParser()));
+            valueBuilder.append(" --value").append(i).append(' ').append(i);
+        }
+        this.manager.command(values.handler(context -> {}));
+        this.valueFlagInput = valueBuilder.toString();
+
+        final StringBuilder presenceBuilder = new StringBuilder("presence");
+        final StringBuilder presenceGroupBuilder = new StringBuilder("presence -");
+        Command.Builder<BenchmarkSender> presence = this.manager.commandBuilder("presence");
+        for (int i = 0; i < this.flags; i++) {
+            final String alias = String.valueOf(PRESENCE_FLAGS.charAt(i));
+            presence = presence.flag(this.manager.flagBuilder("presence" + i).withAliases(alias));
+            presenceBuilder.append(" --presence").append(i);
+            presenceGroupBuilder.append(alias);
+        }
+        this.manager.command(presence.handler(context -> {}));
+        this.presenceFlagInput = presenceBuilder.toString();
+        this.presenceFlagGroupInput = presenceGroupBuilder.toString();
+    }
+
+    @Benchmark
+    public CommandResult<BenchmarkSender> executeValueFlags() {
+        return this.manager.commandExecutor().executeCommand(this.sender, this.valueFlagInput).join();
+    }
+
+    @Benchmark
+    public CommandResult<BenchmarkSender> executePresenceFlags() {
+        return this.manager.commandExecutor().executeCommand(this.sender, this.presenceFlagInput).join();
+    }
+
+    @Benchmark
+    public CommandResult<BenchmarkSender> executePresenceFlagGroup() {
+        return this.manager.commandExecutor().executeCommand(this.sender, this.presenceFlagGroupInput).join();
+    }
+}
@@ -0,0 +1,72 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.execution.CommandResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.incendo.cloud.parser.standard.IntegerParser.integerParser;
+
+/**
+ * Benchmarks the construction of command managers, for platforms that create several managers per process.
+ */
+@State(Scope.Thread)
+@Fork(3)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class ManagerStartupBenchmark {
+
+    private final BenchmarkSender sender = new BenchmarkSender();
+
+    @Benchmark
+    public CommandManager<BenchmarkSender> createManager() {
+        return new BenchmarkCommandManager();
+    }
+
+    @Benchmark
+    public CommandManager<BenchmarkSender> createManagerAndRegisterCommand() {
+        final CommandManager<BenchmarkSender> manager = new BenchmarkCommandManager();
+        manager.command(manager.commandBuilder("command").required("value", integerParser()).handler(context -> {}));
+        return manager;
+    }
+
+    @Benchmark
+    public CommandResult<BenchmarkSender> createManagerAndExecuteCommand() {
+        final CommandManager<BenchmarkSender> manager = new BenchmarkCommandManager();
+        manager.command(manager.commandBuilder("command").required("value", integerParser()).handler(context -> {}));
+        return manager.commandExecutor().executeCommand(this.sender, "command 5").join();
+    }
+}
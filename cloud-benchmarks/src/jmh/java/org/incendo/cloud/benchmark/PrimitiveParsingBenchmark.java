@@ -0,0 +1,119 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.execution.CommandResult;
+import org.incendo.cloud.parser.standard.BooleanParser;
+import org.incendo.cloud.parser.standard.DoubleParser;
+import org.incendo.cloud.parser.standard.EnumParser;
+import org.incendo.cloud.parser.standard.IntegerParser;
+import org.incendo.cloud.parser.standard.LongParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the enum and number parsers.
+ */
+@State(Scope.Thread)
+@Fork(3)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class PrimitiveParsingBenchmark {
+
+    @Param({"int", "long", "double", "boolean", "enum"})
+    public String type;
+
+    private final BenchmarkSender sender = new BenchmarkSender();
+    private CommandManager<BenchmarkSender> manager;
+    private String input;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.manager = new BenchmarkCommandManager();
+        this.manager.command(
+                this.manager.commandBuilder("int")
+                        .required("value", IntegerParser.integerParser(0, 1000000))
+                        .handler(context -> {})
+        );
+        this.manager.command(
+                this.manager.commandBuilder("long")
+                        .required("value", LongParser.longParser())
+                        .handler(context -> {})
+        );
+        this.manager.command(
+                this.manager.commandBuilder("double")
+                        .required("value", DoubleParser.doubleParser())
+                        .handler(context -> {})
+        );
+        this.manager.command(
+                this.manager.commandBuilder("boolean")
+                        .required("value", BooleanParser.booleanParser(true))
+                        .handler(context -> {})
+        );
+        this.manager.command(
+                this.manager.commandBuilder("enum")
+                        .required("value", EnumParser.enumParser(TimeUnit.class))
+                        .handler(context -> {})
+        );
+
+        switch (this.type) {
+            case "int":
+                this.input = "int 123456";
+                break;
+            case "long":
+                this.input = "long 1234567890123";
+                break;
+            case "double":
+                this.input = "double 12345.6789";
+                break;
+            case "boolean":
+                this.input = "boolean yes";
+                break;
+            case "enum":
+                this.input = "enum milliseconds";
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown type: " + this.type);
+        }
+    }
+
+    @Benchmark
+    public CommandResult<BenchmarkSender> execute() {
+        return this.manager.commandExecutor().executeCommand(this.sender, this.input).join();
+    }
+}
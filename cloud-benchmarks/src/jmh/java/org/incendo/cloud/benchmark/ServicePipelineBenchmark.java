@@ -0,0 +1,89 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.benchmark;
+
+import io.leangen.geantyref.TypeToken;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.incendo.cloud.services.ServicePipeline;
+import org.incendo.cloud.services.type.Service;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks dispatching through a {@link ServicePipeline}.
+ */
+@State(Scope.Thread)
+@Fork(3)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class ServicePipelineBenchmark {
+
+    @Param({"1", "16"})
+    public int implementations;
+
+    private ServicePipeline pipeline;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.pipeline = ServicePipeline.builder().build();
+        this.pipeline.registerServiceType(TypeToken.get(LengthService.class), String::length);
+        for (int i = 1; i < this.implementations; i++) {
+            if (i % 2 == 0) {
+                /* Rejected by the filter */
+                this.pipeline.registerServiceImplementation(
+                        LengthService.class,
+                        context -> -1,
+                        Collections.singleton(context -> false)
+                );
+            } else {
+                /* Does not produce a result */
+                this.pipeline.registerServiceImplementation(LengthService.class, context -> null, Collections.emptyList());
+            }
+        }
+    }
+
+    @Benchmark
+    public Integer pump() {
+        return this.pipeline.pump("context").through(LengthService.class).complete();
+    }
+
+    /**
+     * Service that produces the length of the context.
+     */
+    public interface LengthService extends Service<String, Integer> {
+    }
+}
@@ -0,0 +1,110 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.execution.CommandResult;
+import org.incendo.cloud.parser.standard.StringParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the greedy and quoted string parsers.
+ */
+@State(Scope.Thread)
+@Fork(3)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class StringParsingBenchmark {
+
+    @Param({"4", "64"})
+    public int words;
+
+    private final BenchmarkSender sender = new BenchmarkSender();
+    private CommandManager<BenchmarkSender> manager;
+    private String greedyInput;
+    private String flagYieldingInput;
+    private String quotedInput;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.manager = new BenchmarkCommandManager();
+        this.manager.command(
+                this.manager.commandBuilder("greedy")
+                        .required("string", StringParser.greedyStringParser())
+                        .handler(context -> {})
+        );
+        this.manager.command(
+                this.manager.commandBuilder("yielding")
+                        .required("string", StringParser.greedyFlagYieldingStringParser())
+                        .flag(this.manager.flagBuilder("flag").withAliases("f"))
+                        .handler(context -> {})
+        );
+        this.manager.command(
+                this.manager.commandBuilder("quoted")
+                        .required("string", StringParser.quotedStringParser())
+                        .required("trailing", StringParser.stringParser())
+                        .handler(context -> {})
+        );
+
+        final StringBuilder text = new StringBuilder();
+        for (int i = 0; i < this.words; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append("word").append(i);
+        }
+        this.greedyInput = "greedy " + text;
+        this.flagYieldingInput = "yielding " + text + " -f";
+        this.quotedInput = "quoted \"" + text + "\" trailing";
+    }
+
+    @Benchmark
+    public CommandResult<BenchmarkSender> executeGreedy() {
+        return this.manager.commandExecutor().executeCommand(this.sender, this.greedyInput).join();
+    }
+
+    @Benchmark
+    public CommandResult<BenchmarkSender> executeFlagYielding() {
+        return this.manager.commandExecutor().executeCommand(this.sender, this.flagYieldingInput).join();
+    }
+
+    @Benchmark
+    public CommandResult<BenchmarkSender> executeQuoted() {
+        return this.manager.commandExecutor().executeCommand(this.sender, this.quotedInput).join();
+    }
+}
@@ -0,0 +1,101 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.parser.standard.StringParser;
+import org.incendo.cloud.suggestion.Suggestion;
+import org.incendo.cloud.suggestion.SuggestionProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks suggestion generation for components with large suggestion providers.
+ */
+@State(Scope.Thread)
+@Fork(3)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class SuggestionBenchmark {
+
+    @Param({"100", "10000"})
+    public int providerSize;
+
+    private final BenchmarkSender sender = new BenchmarkSender();
+    private CommandManager<BenchmarkSender> manager;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final List<String> values = new ArrayList<>(this.providerSize);
+        for (int i = 0; i < this.providerSize; i++) {
+            values.add("value" + i);
+        }
+
+        this.manager = new BenchmarkCommandManager();
+        this.manager.command(
+                this.manager.commandBuilder("suggest")
+                        .required(
+                                "first",
+                                StringParser.stringParser(),
+                                SuggestionProvider.blockingStrings((context, input) -> values)
+                        )
+                        .required(
+                                "second",
+                                StringParser.stringParser(),
+                                SuggestionProvider.blockingStrings((context, input) -> values)
+                        )
+                        .handler(context -> {})
+        );
+    }
+
+    @Benchmark
+    public List<? extends Suggestion> suggestUnfiltered() {
+        return this.manager.suggestionFactory().suggestImmediately(this.sender, "suggest ").list();
+    }
+
+    @Benchmark
+    public List<? extends Suggestion> suggestFiltered() {
+        return this.manager.suggestionFactory().suggestImmediately(this.sender, "suggest value1").list();
+    }
+
+    @Benchmark
+    public List<? extends Suggestion> suggestSecondComponent() {
+        return this.manager.suggestionFactory().suggestImmediately(this.sender, "suggest value1 value2").list();
+    }
+}
@@ -21,54 +21,60 @@
 // OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
 // SOFTWARE.
 //
-package org.incendo.cloud;
+package org.incendo.cloud.benchmark;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.execution.CommandResult;
+import org.incendo.cloud.suggestion.Suggestion;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
-import org.openjdk.jmh.annotations.TearDown;
-
-import static org.incendo.cloud.util.TestUtils.createManager;
+import org.openjdk.jmh.annotations.Warmup;
 
+/**
+ * Benchmarks trees with a large amount of root literals.
+ */
 @State(Scope.Thread)
+@Fork(3)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
 @BenchmarkMode(Mode.AverageTime)
-public class ExecutionBenchmark {
+public class WideTreeBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int rootLiterals;
 
-    private CommandManager<TestCommandSender> manager;
-    private String literalChain;
+    private final BenchmarkSender sender = new BenchmarkSender();
+    private CommandManager<BenchmarkSender> manager;
+    private String lastCommand;
 
     @Setup(Level.Trial)
     public void setup() {
-        manager = createManager();
-
-        final StringBuilder literalBuilder = new StringBuilder("literals");
-
-        /* Create 100 literals */
-        Command.Builder<TestCommandSender> builder = manager.commandBuilder("literals");
-        for (int i = 1; i < 101; i++) {
-            final String literal = Integer.toString(i);
-            builder = builder.literal(literal);
-            literalBuilder.append(' ').append(literal);
+        this.manager = new BenchmarkCommandManager();
+        for (int i = 0; i < this.rootLiterals; i++) {
+            this.manager.command(this.manager.commandBuilder("command" + i).handler(context -> {}));
         }
-        manager.command(builder.build());
-        literalChain = literalBuilder.toString();
+        this.lastCommand = "command" + (this.rootLiterals - 1);
     }
 
-    @TearDown
-    public void clean() {
+    @Benchmark
+    public CommandResult<BenchmarkSender> executeLastRoot() {
+        return this.manager.commandExecutor().executeCommand(this.sender, this.lastCommand).join();
     }
 
     @Benchmark
-    @Fork(3)
-    public void testCommandParsing() {
-        manager.commandExecutor().executeCommand(new TestCommandSender(), literalChain).join();
+    public List<? extends Suggestion> suggestRoots() {
+        return this.manager.suggestionFactory().suggestImmediately(this.sender, "command1").list();
     }
 }
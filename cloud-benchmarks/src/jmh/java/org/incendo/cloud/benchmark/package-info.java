@@ -0,0 +1,4 @@
+/**
+ * JMH benchmarks for the hot paths of cloud.
+ */
+package org.incendo.cloud.benchmark;
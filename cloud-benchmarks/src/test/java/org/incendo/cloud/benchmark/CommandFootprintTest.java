@@ -0,0 +1,275 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.Command;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.execution.ExecutionCoordinator;
+import org.incendo.cloud.internal.ArrayMap;
+import org.incendo.cloud.internal.CommandNode;
+import org.incendo.cloud.internal.CommandRegistrationHandler;
+import org.incendo.cloud.internal.CompactCollections;
+import org.incendo.cloud.parser.standard.LiteralParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.vm.VM;
+import org.openjdk.jol.vm.VirtualMachine;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.parser.standard.IntegerParser.integerParser;
+
+/**
+ * Verifies the memory retained by the structures that every registered command allocates, using JOL.
+ * <p>
+ * The sizes exclude the keys, values and elements that are shared with the rest of the command. Each structure must fit
+ * the budget that its layout implies on the running JVM, and must be smaller than the structure that was used before,
+ * which the test builds for comparison. A command such as {@code command0|alias0 set|s <value>} has three nodes, two of
+ * which have a single child, and two literals, and no longer allocates its own empty command meta.
+ * <p>
+ * The bytes retained per command for {@value #COMMANDS} registered commands, and the bytes retained by a command manager
+ * that are not shared with other managers, are published as test report entries.
+ */
+class CommandFootprintTest {
+
+    private static final VirtualMachine JVM = VM.current();
+
+    private static final int COMMANDS = 10_000;
+
+    private FootprintCommandManager commandManager;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = new FootprintCommandManager();
+    }
+
+    @Test
+    void nodeMetaWithinBudget() {
+        // Arrange
+        final Object senderTypes = new Object();
+        final Object access = new Object();
+
+        // Act
+        final long size = nodeMetaSize(new ArrayMap<>(), senderTypes, access);
+
+        // Assert
+        /* ArrayMap, including the key set and values of AbstractMap, and an array of two keys and two values */
+        assertThat(size).isAtMost(instanceSize(3 /* references */, 0 /* ints */) + arraySize(4));
+        assertThat(size).isLessThan(nodeMetaSize(new ConcurrentHashMap<>(), senderTypes, access));
+    }
+
+    @Test
+    void nodeChildrenWithinBudget() {
+        // Arrange
+        final Object child = new Object();
+
+        // Act
+        final long size = retainedSize(CompactCollections.list(Collections.singleton(child)), child);
+
+        // Assert
+        /* Singleton list, including the modification count of AbstractList */
+        assertThat(size).isAtMost(instanceSize(1 /* references */, 1 /* ints */));
+        assertThat(size).isLessThan(retainedSize(legacyChildren(child), child));
+    }
+
+    @Test
+    void literalWithinBudget() {
+        // Act
+        final long size = literalSize();
+
+        // Assert
+        /* Parser with the name and three alias arrays, two of which are the same array with the single alias */
+        assertThat(size).isAtMost(instanceSize(4 /* references */, 0 /* ints */) + arraySize(2) + arraySize(1));
+        assertThat(size).isLessThan(legacyAliasesSize());
+    }
+
+    @Test
+    void reportsBytesPerCommand(final @NonNull TestReporter testReporter) {
+        // Arrange
+        this.commandManager.parserRegistry();
+        this.commandManager.captionRegistry();
+        this.commandManager.parameterInjectorRegistry();
+        final long emptyBytes = retainedSize(this.commandManager);
+
+        // Act
+        this.registerCommands();
+        final long bytesPerCommand = (retainedSize(this.commandManager) - emptyBytes) / COMMANDS;
+
+        // Assert
+        final Object senderTypes = new Object();
+        final Object access = new Object();
+        final Object child = new Object();
+        final long containers = 3 * nodeMetaSize(new ArrayMap<>(), senderTypes, access)
+                + 2 * retainedSize(CompactCollections.list(Collections.singleton(child)), child)
+                + 2 * literalSize();
+        final long legacyContainers = 3 * nodeMetaSize(new ConcurrentHashMap<>(), senderTypes, access)
+                + 2 * retainedSize(legacyChildren(child), child)
+                + 2 * legacyAliasesSize()
+                + retainedSize(Collections.unmodifiableMap(new HashMap<>()));
+        testReporter.publishEntry(
+                "bytes per command",
+                String.format(
+                        "%d, of which %d in containers (%d with the previous containers)",
+                        bytesPerCommand,
+                        containers,
+                        bytesPerCommand - containers + legacyContainers
+                )
+        );
+        assertThat(containers).isLessThan(legacyContainers);
+        assertThat(bytesPerCommand).isGreaterThan(containers);
+    }
+
+    @Test
+    void commandsWithoutMetaShareTheEmptyMeta() {
+        // Arrange
+        this.registerCommands();
+
+        // Act
+        final List<Command<FootprintSender>> commands = new ArrayList<>(this.commandManager.commands());
+
+        // Assert
+        for (final Command<FootprintSender> command : commands) {
+            assertThat(command.commandMeta()).isSameInstanceAs(commands.get(0).commandMeta());
+        }
+    }
+
+    @Test
+    void managersCreateSubsystemsLazily(final @NonNull TestReporter testReporter) {
+        // Arrange
+        final FootprintCommandManager other = new FootprintCommandManager();
+        final FootprintCommandManager manager = new FootprintCommandManager();
+
+        // Act
+        final long lazyBytes = retainedSize(manager, other);
+        manager.parserRegistry();
+        manager.captionRegistry();
+        manager.parameterInjectorRegistry();
+        final long initializedBytes = retainedSize(manager, other);
+
+        // Assert
+        testReporter.publishEntry("bytes per manager", String.format("%d (%d with all subsystems)", lazyBytes, initializedBytes));
+        assertThat(lazyBytes).isLessThan(initializedBytes);
+    }
+
+    @Test
+    void managersShareTheStandardParsers() {
+        // Arrange
+        final FootprintCommandManager other = new FootprintCommandManager();
+        final FootprintCommandManager manager = new FootprintCommandManager();
+
+        // Act
+        other.parserRegistry();
+        final Object parserRegistry = manager.parserRegistry();
+
+        // Assert
+        assertThat(retainedSize(parserRegistry, other)).isLessThan(retainedSize(parserRegistry));
+    }
+
+    private static long nodeMetaSize(
+            final @NonNull Map<Object, Object> nodeMeta,
+            final @NonNull Object senderTypes,
+            final @NonNull Object access
+    ) {
+        nodeMeta.put(CommandNode.META_KEY_SENDER_TYPES, senderTypes);
+        nodeMeta.put(CommandNode.META_KEY_ACCESS, access);
+        return retainedSize(nodeMeta, CommandNode.META_KEY_SENDER_TYPES, CommandNode.META_KEY_ACCESS, senderTypes, access);
+    }
+
+    private static @NonNull List<Object> legacyChildren(final @NonNull Object child) {
+        return Collections.unmodifiableList(new ArrayList<>(Collections.singleton(child)));
+    }
+
+    private static long literalSize() {
+        return retainedSize(LiteralParser.literal("command0", "alias0").parser(), "command0", "alias0");
+    }
+
+    /* The parser used to store all aliases in a sorted set and the alternative aliases in a hash set */
+    private static long legacyAliasesSize() {
+        final Set<String> allAliases = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        allAliases.add("command0");
+        allAliases.add("alias0");
+        final Set<String> alternativeAliases = new HashSet<>(Collections.singleton("alias0"));
+        return GraphLayout.parseInstance(allAliases, alternativeAliases)
+                .subtract(GraphLayout.parseInstance("command0", "alias0", String.CASE_INSENSITIVE_ORDER))
+                .totalSize();
+    }
+
+    private static long instanceSize(final int references, final int ints) {
+        return align(JVM.objectHeaderSize() + references * JVM.sizeOfField("java.lang.Object") + ints * JVM.sizeOfField("int"));
+    }
+
+    private static long arraySize(final int references) {
+        return align(JVM.arrayHeaderSize() + references * JVM.sizeOfField("java.lang.Object"));
+    }
+
+    private static long align(final long size) {
+        final long alignment = JVM.objectAlignment();
+        return (size + alignment - 1) / alignment * alignment;
+    }
+
+    private static long retainedSize(final @NonNull Object root, final @NonNull Object @NonNull... shared) {
+        final GraphLayout layout = GraphLayout.parseInstance(root);
+        if (shared.length == 0) {
+            return layout.totalSize();
+        }
+        return layout.subtract(GraphLayout.parseInstance(shared)).totalSize();
+    }
+
+    private void registerCommands() {
+        for (int i = 0; i < COMMANDS; i++) {
+            this.commandManager.command(
+                    this.commandManager.commandBuilder("command" + i, "alias" + i)
+                            .literal("set", "s")
+                            .required("value", integerParser(0, 100))
+                            .handler(context -> {})
+            );
+        }
+    }
+
+    private static final class FootprintSender {
+    }
+
+    private static final class FootprintCommandManager extends CommandManager<FootprintSender> {
+
+        private FootprintCommandManager() {
+            super(ExecutionCoordinator.simpleCoordinator(), CommandRegistrationHandler.nullCommandRegistrationHandler());
+        }
+
+        @Override
+        public boolean hasPermission(final @NonNull FootprintSender sender, final @NonNull String permission) {
+            return true;
+        }
+    }
+}
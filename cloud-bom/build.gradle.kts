@@ -20,6 +20,10 @@ dependencies {
                 continue
             }
 
+            if (subproject.name == "cloud-benchmarks") { // not published
+                continue
+            }
+
             api(project(subproject.path))
         }
     }
@@ -4,10 +4,15 @@ plugins {
     id("org.incendo.cloud-build-logic.revapi")
 }
 
+sourceSets.main {
+    multirelease {
+        // Virtual thread support, see org.incendo.cloud.execution.VirtualThreads
+        alternateVersions(21)
+    }
+}
+
 dependencies {
     api(projects.cloudServices)
     compileOnly(libs.guice)
-    testImplementation(libs.jmhCore)
-    testImplementation(libs.jmhGeneratorAnnprocess)
     testImplementation(libs.guice)
 }
@@ -40,6 +40,7 @@ import org.incendo.cloud.component.DefaultValue;
 import org.incendo.cloud.description.CommandDescription;
 import org.incendo.cloud.description.Description;
 import org.incendo.cloud.execution.CommandExecutionHandler;
+import org.incendo.cloud.internal.CompactCollections;
 import org.incendo.cloud.key.CloudKey;
 import org.incendo.cloud.meta.CommandMeta;
 import org.incendo.cloud.parser.ParserDescriptor;
@@ -111,7 +112,7 @@ public class Command<C> {
             final @NonNull CommandMeta commandMeta,
             final @NonNull CommandDescription commandDescription
     ) {
-        this.components = Objects.requireNonNull(commandComponents, "Command components may not be null");
+        this.components = CompactCollections.list(Objects.requireNonNull(commandComponents, "Command components may not be null"));
         if (this.components.isEmpty()) {
             throw new IllegalArgumentException("At least one command component is required");
         }
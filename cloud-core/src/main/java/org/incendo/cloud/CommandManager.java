@@ -24,18 +24,23 @@
 package org.incendo.cloud;
 
 import io.leangen.geantyref.TypeToken;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.common.returnsreceiver.qual.This;
 import org.incendo.cloud.caption.Caption;
 import org.incendo.cloud.caption.CaptionFormatter;
@@ -62,7 +67,10 @@ import org.incendo.cloud.help.HelpHandlerFactory;
 import org.incendo.cloud.injection.ParameterInjectorRegistry;
 import org.incendo.cloud.internal.CommandNode;
 import org.incendo.cloud.internal.CommandRegistrationHandler;
+import org.incendo.cloud.internal.HelpIndex;
+import org.incendo.cloud.internal.Lazy;
 import org.incendo.cloud.meta.CommandMeta;
+import org.incendo.cloud.metrics.CommandMetrics;
 import org.incendo.cloud.parser.ArgumentParser;
 import org.incendo.cloud.parser.ParserParameter;
 import org.incendo.cloud.parser.ParserRegistry;
@@ -102,10 +110,14 @@ import static java.util.Objects.requireNonNull;
 public abstract class CommandManager<C> implements Stateful<RegistrationState>, CommandBuilderSource<C> {
 
     private final Configurable<ManagerSetting> settings = Configurable.enumConfigurable(ManagerSetting.class);
-    private final ServicePipeline servicePipeline = ServicePipeline.builder().build();
-    private final ParserRegistry<C> parserRegistry = new StandardParserRegistry<>();
+    /* The following subsystems are created on first use, as they are not needed by every manager */
+    private final Lazy<ServicePipeline> servicePipeline = Lazy.of(this::createServicePipeline);
+    private final Lazy<ParserRegistry<C>> parserRegistry = Lazy.of(
+            () -> new StandardParserRegistry<>(() -> this.settings.get(ManagerSetting.INTERN_PARSERS))
+    );
+    private final Lazy<ParameterInjectorRegistry<C>> parameterInjectorRegistry = Lazy.of(this::createParameterInjectorRegistry);
+    private final Lazy<CaptionRegistry<C>> captionRegistry = Lazy.of(this::createCaptionRegistry);
     private final Collection<Command<C>> commands = new LinkedList<>();
-    private final ParameterInjectorRegistry<C> parameterInjectorRegistry = new ParameterInjectorRegistry<>();
     private final CommandTree<C> commandTree;
     private final SuggestionFactory<C, ? extends Suggestion> suggestionFactory;
     private final Set<CloudCapability> capabilities = new HashSet<>();
@@ -116,9 +128,16 @@ public abstract class CommandManager<C> implements Stateful<RegistrationState>,
     private CommandSyntaxFormatter<C> commandSyntaxFormatter = new StandardCommandSyntaxFormatter<>(this);
     private SuggestionProcessor<C> suggestionProcessor = new FilteringSuggestionProcessor<>();
     private CommandRegistrationHandler<C> commandRegistrationHandler;
-    private CaptionRegistry<C> captionRegistry;
     private HelpHandlerFactory<C> helpHandlerFactory = HelpHandlerFactory.standard(this);
+    private final HelpIndex<C> helpIndex = new HelpIndex<>(this);
     private SuggestionMapper<? extends Suggestion> mapper = SuggestionMapper.identity();
+    private CommandMetrics<C> commandMetrics = CommandMetrics.noop();
+    private @Nullable Duration commandTimeout = null;
+    private int suggestionLimit = Integer.MAX_VALUE;
+    private final TypeToken<CommandPreprocessor<C>> preprocessorType = new TypeToken<CommandPreprocessor<C>>() {
+    };
+    private final TypeToken<CommandPostprocessor<C>> postprocessorType = new TypeToken<CommandPostprocessor<C>>() {
+    };
     private final AtomicReference<RegistrationState> state = new AtomicReference<>(RegistrationState.BEFORE_REGISTRATION);
 
     /**
@@ -149,19 +168,30 @@ public abstract class CommandManager<C> implements Stateful<RegistrationState>,
                 executionCoordinator,
                 commandContextFactory
         );
+    }
+
+    private @NonNull ServicePipeline createServicePipeline() {
+        final ServicePipeline servicePipeline = ServicePipeline.builder().build();
         /* Register service types */
-        this.servicePipeline.registerServiceType(new TypeToken<CommandPreprocessor<C>>() {
-        }, new AcceptingCommandPreprocessor<>());
-        this.servicePipeline.registerServiceType(new TypeToken<CommandPostprocessor<C>>() {
-        }, new AcceptingCommandPostprocessor<>());
-        /* Create the caption registry */
-        this.captionRegistry = CaptionRegistry.captionRegistry();
-        this.captionRegistry.registerProvider(new StandardCaptionsProvider<>());
+        servicePipeline.registerServiceType(this.preprocessorType, new AcceptingCommandPreprocessor<>());
+        servicePipeline.registerServiceType(this.postprocessorType, new AcceptingCommandPostprocessor<>());
+        return servicePipeline;
+    }
+
+    private @NonNull ParameterInjectorRegistry<C> createParameterInjectorRegistry() {
+        final ParameterInjectorRegistry<C> parameterInjectorRegistry = new ParameterInjectorRegistry<>();
         /* Register default injectors */
-        this.parameterInjectorRegistry().registerInjector(
+        parameterInjectorRegistry.registerInjector(
                 CommandContext.class,
                 (context, annotationAccessor) -> context
         );
+        return parameterInjectorRegistry;
+    }
+
+    private @NonNull CaptionRegistry<C> createCaptionRegistry() {
+        final CaptionRegistry<C> captionRegistry = CaptionRegistry.captionRegistry();
+        captionRegistry.registerProvider(new StandardCaptionsProvider<>());
+        return captionRegistry;
     }
 
     /**
@@ -243,6 +273,65 @@ public abstract class CommandManager<C> implements Stateful<RegistrationState>,
         }
         this.commandTree.insertCommand((Command<C>) command);
         this.commands.add((Command<C>) command);
+        this.helpIndex.add((Command<C>) command);
+        return this;
+    }
+
+    /**
+     * Replaces all registered commands that match the given {@code filter} with the given {@code commands} in a single step.
+     * <p>
+     * The root commands that are affected by the replacement are rebuilt off to the side and verified once, and are then
+     * swapped into the command tree at once. Command senders therefore never observe a state in which only some of the
+     * commands have been replaced. If the replacement is invalid, for example because it contains ambiguous commands,
+     * an exception is thrown and the registered commands are left unchanged.
+     * <p>
+     * The commands of the affected root commands are forwarded to the {@link CommandRegistrationHandler} in bulk. Root
+     * commands that no longer contain any commands after the replacement are unregistered, which requires the
+     * {@link CloudCapability.StandardCapabilities#ROOT_COMMAND_DELETION} capability.
+     *
+     * @param filter   the filter that determines which registered commands are removed
+     * @param commands the commands to register
+     * @return The command manager instance. This is returned so that these method calls may be chained. This will always
+     *         return {@code this}.
+     * @throws CloudCapability.CloudCapabilityMissingException If root commands would be deleted, and
+     *         {@link CloudCapability.StandardCapabilities#ROOT_COMMAND_DELETION} is missing
+     */
+    @SuppressWarnings("unchecked")
+    @API(status = API.Status.EXPERIMENTAL)
+    public @This @NonNull CommandManager<C> replaceCommands(
+            final @NonNull Predicate<@NonNull Command<C>> filter,
+            final @NonNull Collection<? extends @NonNull Command<? extends C>> commands
+    ) {
+        if (!(this.transitionIfPossible(RegistrationState.BEFORE_REGISTRATION, RegistrationState.REGISTERING)
+                || this.isCommandRegistrationAllowed())) {
+            throw new IllegalStateException("Unable to register commands because the manager is no longer in a registration "
+                    + "state. Your platform may allow unsafe registrations by enabling the appropriate manager setting.");
+        }
+        final List<Command<C>> added = new ArrayList<>(commands.size());
+        commands.forEach(command -> added.add((Command<C>) command));
+
+        final Set<Command<C>> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.commands.stream().filter(filter).forEach(removed::add);
+
+        final Set<String> deletedRoots = new HashSet<>();
+        removed.forEach(command -> deletedRoots.add(command.rootComponent().name()));
+        for (final Command<C> command : this.commands) {
+            if (!removed.contains(command)) {
+                deletedRoots.remove(command.rootComponent().name());
+            }
+        }
+        added.forEach(command -> deletedRoots.remove(command.rootComponent().name()));
+        if (!deletedRoots.isEmpty() && !this.hasCapability(CloudCapability.StandardCapabilities.ROOT_COMMAND_DELETION)) {
+            throw new CloudCapability.CloudCapabilityMissingException(CloudCapability.StandardCapabilities.ROOT_COMMAND_DELETION);
+        }
+
+        this.commandTree.replaceCommands(removed, added);
+
+        this.commands.removeIf(removed::contains);
+        this.commands.addAll(added);
+        removed.forEach(this.helpIndex::remove);
+        added.forEach(this.helpIndex::add);
+        removed.forEach(this.commandMetrics::commandRemoved);
         return this;
     }
 
@@ -421,7 +510,7 @@ public abstract class CommandManager<C> implements Stateful<RegistrationState>,
      */
     @API(status = API.Status.STABLE)
     public final @NonNull CaptionRegistry<C> captionRegistry() {
-        return this.captionRegistry;
+        return this.captionRegistry.get();
     }
 
     /**
@@ -435,7 +524,7 @@ public abstract class CommandManager<C> implements Stateful<RegistrationState>,
      */
     @API(status = API.Status.STABLE)
     public final void captionRegistry(final @NonNull CaptionRegistry<C> captionRegistry) {
-        this.captionRegistry = captionRegistry;
+        this.captionRegistry.set(captionRegistry);
     }
 
     /**
@@ -462,18 +551,17 @@ public abstract class CommandManager<C> implements Stateful<RegistrationState>,
             throw new CloudCapability.CloudCapabilityMissingException(CloudCapability.StandardCapabilities.ROOT_COMMAND_DELETION);
         }
 
-        // Mark the command for deletion.
-        final CommandNode<C> node = this.commandTree.getNamedNode(rootCommand);
-        if (node == null || node.component() == null) {
-            // If the node doesn't exist, we don't really need to delete it...
-            return;
-        }
-
-        // The registration handler gets to act before we destruct the command.
-        this.commandRegistrationHandler.unregisterRootCommand(node.component());
-
-        // We then delete it from the tree.
-        this.commandTree.deleteRecursively(node, true, this.commands::remove);
+        // The registration handler gets to act before we destruct the command, and the tree is locked throughout,
+        // so that the node cannot be replaced in between. If the node doesn't exist, we don't need to delete it.
+        this.commandTree.deleteRootNode(
+                rootCommand,
+                this.commandRegistrationHandler::unregisterRootCommand,
+                command -> {
+                    this.commands.remove(command);
+                    this.helpIndex.remove(command);
+                    this.commandMetrics.commandRemoved(command);
+                }
+        );
     }
 
     /**
@@ -564,12 +652,7 @@ public abstract class CommandManager<C> implements Stateful<RegistrationState>,
      * @see #preprocessContext(CommandContext, CommandInput) Preprocess a context
      */
     public void registerCommandPreProcessor(final @NonNull CommandPreprocessor<C> processor) {
-        this.servicePipeline.registerServiceImplementation(
-                new TypeToken<CommandPreprocessor<C>>() {
-                },
-                processor,
-                Collections.emptyList()
-        );
+        this.servicePipeline.get().registerServiceImplementation(this.preprocessorType, processor, Collections.emptyList());
     }
 
     /**
@@ -580,10 +663,7 @@ public abstract class CommandManager<C> implements Stateful<RegistrationState>,
      * @see #preprocessContext(CommandContext, CommandInput) Preprocess a context
      */
     public void registerCommandPostProcessor(final @NonNull CommandPostprocessor<C> processor) {
-        this.servicePipeline.registerServiceImplementation(new TypeToken<CommandPostprocessor<C>>() {
-                                                           }, processor,
-                Collections.emptyList()
-        );
+        this.servicePipeline.get().registerServiceImplementation(this.postprocessorType, processor, Collections.emptyList());
     }
 
     /**
@@ -599,10 +679,20 @@ public abstract class CommandManager<C> implements Stateful<RegistrationState>,
             final @NonNull CommandContext<C> context,
             final @NonNull CommandInput commandInput
     ) {
-        this.servicePipeline.pump(CommandPreprocessingContext.of(context, commandInput))
-                .through(new TypeToken<CommandPreprocessor<C>>() {
-                })
-                .complete();
+        final CommandMetrics<C> metrics = this.commandMetrics;
+        final long start = metrics.enabled() ? System.nanoTime() : 0L;
+        final ServicePipeline servicePipeline = this.servicePipeline.getIfPresent();
+        if (servicePipeline == null) {
+            /* No processors have been registered, so only the accepting preprocessor would have been invoked */
+            context.store(AcceptingCommandPreprocessor.PROCESSED_INDICATOR_KEY, "true");
+        } else {
+            servicePipeline.pump(CommandPreprocessingContext.of(context, commandInput))
+                    .through(this.preprocessorType)
+                    .complete();
+        }
+        if (metrics.enabled()) {
+            metrics.preprocessed(context, System.nanoTime() - start);
+        }
         return context.<String>optional(AcceptingCommandPreprocessor.PROCESSED_INDICATOR_KEY).orElse("").isEmpty()
                 ? State.REJECTED
                 : State.ACCEPTED;
@@ -620,10 +710,20 @@ public abstract class CommandManager<C> implements Stateful<RegistrationState>,
             final @NonNull CommandContext<C> context,
             final @NonNull Command<C> command
     ) {
-        this.servicePipeline.pump(CommandPostprocessingContext.of(context, command))
-                .through(new TypeToken<CommandPostprocessor<C>>() {
-                })
-                .complete();
+        final CommandMetrics<C> metrics = this.commandMetrics;
+        final long start = metrics.enabled() ? System.nanoTime() : 0L;
+        final ServicePipeline servicePipeline = this.servicePipeline.getIfPresent();
+        if (servicePipeline == null) {
+            /* No processors have been registered, so only the accepting postprocessor would have been invoked */
+            context.store(AcceptingCommandPostprocessor.PROCESSED_INDICATOR_KEY, "true");
+        } else {
+            servicePipeline.pump(CommandPostprocessingContext.of(context, command))
+                    .through(this.postprocessorType)
+                    .complete();
+        }
+        if (metrics.enabled()) {
+            metrics.postprocessed(context, command, System.nanoTime() - start);
+        }
         return context.<String>optional(AcceptingCommandPostprocessor.PROCESSED_INDICATOR_KEY).orElse("").isEmpty()
                 ? State.REJECTED
                 : State.ACCEPTED;
@@ -652,6 +752,89 @@ public abstract class CommandManager<C> implements Stateful<RegistrationState>,
         this.suggestionProcessor = suggestionProcessor;
     }
 
+    /**
+     * Returns the maximum number of suggestions that are returned from a suggestion lookup.
+     *
+     * @return the suggestion limit
+     * @see #suggestionLimit(int)
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public int suggestionLimit() {
+        return this.suggestionLimit;
+    }
+
+    /**
+     * Sets the maximum number of suggestions that are returned from a suggestion lookup. Suggestions beyond the limit
+     * are dropped after they have been processed by the {@link #suggestionProcessor() suggestion processor}.
+     * <p>
+     * Suggestion providers that produce their suggestions incrementally may use {@link CommandContext#suggestionLimit()}
+     * to stop producing suggestions once the limit has been reached. By default, suggestions are not limited, which means
+     * that such providers have to produce all of their suggestions. Setting a limit is therefore recommended when
+     * providers suggest from large or paginated sources.
+     *
+     * @param suggestionLimit the new suggestion limit, must be positive
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public void suggestionLimit(final int suggestionLimit) {
+        if (suggestionLimit < 1) {
+            throw new IllegalArgumentException("Suggestion limit must be positive: " + suggestionLimit);
+        }
+        this.suggestionLimit = suggestionLimit;
+    }
+
+    /**
+     * Returns the command metrics listener.
+     *
+     * @return the command metrics listener
+     * @see #commandMetrics(CommandMetrics)
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public @NonNull CommandMetrics<C> commandMetrics() {
+        return this.commandMetrics;
+    }
+
+    /**
+     * Sets the command metrics listener.
+     * <p>
+     * The listener receives timing events from the preprocessing, parsing, postprocessing, execution, suggestion and
+     * exception handling stages. By default, {@link CommandMetrics#noop()} is used, in which case nothing is measured.
+     *
+     * @param commandMetrics the new command metrics listener
+     * @see org.incendo.cloud.metrics.HistogramCommandMetrics
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public void commandMetrics(final @NonNull CommandMetrics<C> commandMetrics) {
+        this.commandMetrics = requireNonNull(commandMetrics, "commandMetrics");
+    }
+
+    /**
+     * Returns the time within which a command must have been parsed, or within which suggestions must have been
+     * generated.
+     *
+     * @return the command timeout, or {@code null} if commands are not bounded in time
+     * @see #commandTimeout(Duration)
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public @Nullable Duration commandTimeout() {
+        return this.commandTimeout;
+    }
+
+    /**
+     * Sets the time within which a command must have been parsed, or within which suggestions must have been generated.
+     * <p>
+     * The timeout is used as the {@link CommandContext#deadline(Duration) deadline} of new command contexts. Parsers
+     * that have not completed by the deadline fail with a {@link org.incendo.cloud.exception.ComponentTimeoutException},
+     * which is handled by the {@link #exceptionController() exception controller}, and suggestion providers that have not
+     * completed by the deadline are skipped so that the remaining suggestions are returned. Individual components may be
+     * bounded further using {@link CommandComponent.Builder#timeout(Duration)}. By default, commands are not bounded.
+     *
+     * @param commandTimeout the new command timeout, or {@code null} to not bound commands in time
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public void commandTimeout(final @Nullable Duration commandTimeout) {
+        this.commandTimeout = commandTimeout;
+    }
+
     /**
      * Returns the parser registry instance.
      * <p>
@@ -668,7 +851,7 @@ public abstract class CommandManager<C> implements Stateful<RegistrationState>,
      */
     @API(status = API.Status.STABLE)
     public @NonNull ParserRegistry<C> parserRegistry() {
-        return this.parserRegistry;
+        return this.parserRegistry.get();
     }
 
     /**
@@ -677,7 +860,7 @@ public abstract class CommandManager<C> implements Stateful<RegistrationState>,
      * @return Parameter injector registry
      */
     public final @NonNull ParameterInjectorRegistry<C> parameterInjectorRegistry() {
-        return this.parameterInjectorRegistry;
+        return this.parameterInjectorRegistry.get();
     }
 
     /**
@@ -734,6 +917,16 @@ public abstract class CommandManager<C> implements Stateful<RegistrationState>,
         return this.helpHandlerFactory.createHelpHandler(filter);
     }
 
+    /**
+     * Returns the index of the registered commands that is used by the standard help handler.
+     *
+     * @return the help index
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    public final @NonNull HelpIndex<C> helpIndex() {
+        return this.helpIndex;
+    }
+
     /**
      * Returns the help handler factory.
      *
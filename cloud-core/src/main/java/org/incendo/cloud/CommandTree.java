@@ -26,11 +26,13 @@ package org.incendo.cloud;
 import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.geantyref.TypeToken;
 import java.lang.reflect.Type;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -41,6 +43,7 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apiguardian.api.API;
@@ -50,23 +53,32 @@ import org.incendo.cloud.component.CommandComponent;
 import org.incendo.cloud.component.DefaultValue;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandInput;
-import org.incendo.cloud.context.ParsingContext;
 import org.incendo.cloud.exception.AmbiguousNodeException;
 import org.incendo.cloud.exception.ArgumentParseException;
+import org.incendo.cloud.exception.ComponentTimeoutException;
 import org.incendo.cloud.exception.InvalidCommandSenderException;
 import org.incendo.cloud.exception.InvalidSyntaxException;
 import org.incendo.cloud.exception.NoCommandInLeafException;
 import org.incendo.cloud.exception.NoPermissionException;
 import org.incendo.cloud.exception.NoSuchCommandException;
 import org.incendo.cloud.internal.CommandNode;
+import org.incendo.cloud.internal.CommandRegistrationHandler;
+import org.incendo.cloud.internal.RootNodeHint;
+import org.incendo.cloud.internal.StaticSuggestionIndex;
 import org.incendo.cloud.internal.SuggestionContext;
+import org.incendo.cloud.internal.SuggestionSession;
+import org.incendo.cloud.internal.Timeouts;
+import org.incendo.cloud.metrics.CommandMetrics;
 import org.incendo.cloud.parser.ArgumentParseResult;
 import org.incendo.cloud.parser.aggregate.AggregateParser;
 import org.incendo.cloud.parser.flag.CommandFlagParser;
 import org.incendo.cloud.parser.standard.LiteralParser;
+import org.incendo.cloud.parser.standard.StringArrayParser;
+import org.incendo.cloud.parser.standard.StringParser;
 import org.incendo.cloud.permission.Permission;
 import org.incendo.cloud.permission.PermissionResult;
 import org.incendo.cloud.setting.ManagerSetting;
+import org.incendo.cloud.suggestion.StaticSuggestionProvider;
 import org.incendo.cloud.suggestion.Suggestion;
 import org.incendo.cloud.suggestion.SuggestionMapper;
 import org.incendo.cloud.suggestion.Suggestions;
@@ -106,6 +118,8 @@ public final class CommandTree<C> {
 
     private final CommandNode<C> internalTree = new CommandNode<>(null);
     private final CommandManager<C> commandManager;
+    private volatile int longestChainLength = 0;
+    private volatile long modificationCount = 0;
 
     private CommandTree(final @NonNull CommandManager<C> commandManager) {
         this.commandManager = commandManager;
@@ -132,6 +146,31 @@ public final class CommandTree<C> {
         return this.commandManager;
     }
 
+    /**
+     * Returns the number of components in the longest command chain that has been inserted into the tree.
+     * <p>
+     * This is used to size the per-context parsing buffers.
+     *
+     * @return the length of the longest command chain
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    public int longestChainLength() {
+        return this.longestChainLength;
+    }
+
+    /**
+     * Returns the number of times that the structure of the tree has changed, through insertions or deletions.
+     * <p>
+     * This is used to invalidate state that refers to the nodes of the tree. The count is incremented while holding the
+     * lock that guards all structural changes, after the change has been published.
+     *
+     * @return the modification count
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    public long modificationCount() {
+        return this.modificationCount;
+    }
+
     /**
      * Returns an immutable view containing of the root nodes of the command tree
      *
@@ -203,10 +242,11 @@ public final class CommandTree<C> {
         }
 
        return this.parseCommand(
-                new ArrayList<>(),
+                commandContext.parsedComponentBuffer(),
                 commandContext,
                 commandInput,
                this.internalTree,
+               this.resolvedRootNode(commandContext, commandInput),
                parsingExecutor
         ).thenCompose(command -> {
             if (command != null
@@ -225,12 +265,39 @@ public final class CommandTree<C> {
         });
     }
 
+    @SuppressWarnings("unchecked")
+    private @Nullable CommandNode<C> resolvedRootNode(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull CommandInput commandInput
+    ) {
+        final RootNodeHint<C> hint = (RootNodeHint<C>) commandContext.optional(RootNodeHint.HINT_KEY).orElse(null);
+        if (hint == null) {
+            return null;
+        }
+        return hint.node(commandInput.peekString(), this.modificationCount);
+    }
+
     private @NonNull CompletableFuture<@Nullable Command<C>> parseCommand(
             final @NonNull List<@NonNull CommandComponent<C>> parsedArguments,
             final @NonNull CommandContext<C> commandContext,
             final @NonNull CommandInput commandInput,
             final @NonNull CommandNode<C> root,
             final @NonNull Executor executor
+    ) {
+        return this.parseCommand(parsedArguments, commandContext, commandInput, root, null /* resolvedChild */, executor);
+    }
+
+    /**
+     * Parses the command below the given {@code root}. When the child that matches the next literal of the input has
+     * already been resolved, only that child is attempted instead of all children of the node.
+     */
+    private @NonNull CompletableFuture<@Nullable Command<C>> parseCommand(
+            final @NonNull List<@NonNull CommandComponent<C>> parsedArguments,
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull CommandInput commandInput,
+            final @NonNull CommandNode<C> root,
+            final @Nullable CommandNode<C> resolvedChild,
+            final @NonNull Executor executor
     ) {
         final Optional<PermissionResult> permissionResult = this.determineAccess(commandContext.sender(), root);
         if (!permissionResult.isPresent()) {
@@ -253,19 +320,16 @@ public final class CommandTree<C> {
             );
         }
 
-        final CompletableFuture<@Nullable Command<C>> parsedChild = this.attemptParseUnambiguousChild(
-                parsedArguments,
-                commandContext,
-                root,
-                commandInput,
-                executor
-        );
+        final CompletableFuture<@Nullable Command<C>> parsedChild = resolvedChild != null
+                ? null
+                : this.attemptParseUnambiguousChild(parsedArguments, commandContext, root, commandInput, executor);
         if (parsedChild != null) {
             return parsedChild;
         }
 
         // There are 0 or more static arguments as children. No variable child arguments are present
-        if (root.children().isEmpty()) {
+        final List<CommandNode<C>> children = resolvedChild == null ? root.children() : Collections.singletonList(resolvedChild);
+        if (children.isEmpty()) {
             final CommandComponent<C> rootComponent = root.component();
             if (rootComponent == null || root.command() == null || !commandInput.isEmpty()) {
                 // Too many arguments. We have a unique path, so we can send the entire context
@@ -281,7 +345,7 @@ public final class CommandTree<C> {
         }
 
         CompletableFuture<Command<C>> childCompletable = CompletableFuture.completedFuture(null);
-        for (final CommandNode<C> child : new ArrayList<>(root.children())) {
+        for (final CommandNode<C> child : children) {
             if (child.component() == null) {
                 continue;
             }
@@ -292,21 +356,23 @@ public final class CommandTree<C> {
                 }
 
                 final CommandComponent<C> component = Objects.requireNonNull(child.component());
-                final ParsingContext<C> parsingContext = commandContext.createParsingContext(component);
 
                 // Skip a single space (argument delimiter)
                 commandInput.skipWhitespace(1);
                 // Copy the current queue so that we can deduce the captured input.
                 final CommandInput currentInput = commandInput.copy();
 
-                parsingContext.markStart();
+                final long parseStart = commandContext.beginParsing();
 
-                return component.parser()
-                        .parseFuture(commandContext, commandInput)
+                return this.parseFuture(commandContext, child, commandInput, executor)
                         .thenComposeAsync(result -> {
-                            parsingContext.markEnd();
-                            parsingContext.success(!result.failure().isPresent());
-                            parsingContext.consumedInput(currentInput, commandInput);
+                            commandContext.completeParsing(
+                                    component,
+                                    parseStart,
+                                    currentInput,
+                                    commandInput,
+                                    !result.failure().isPresent()
+                            );
 
                             if (result.parsedValue().isPresent()) {
                                 parsedArguments.add(component);
@@ -568,14 +634,12 @@ public final class CommandTree<C> {
             final @NonNull CommandInput commandInput,
             final @NonNull Executor executor
     ) {
-        final ParsingContext<C> parsingContext = commandContext.createParsingContext(node.component());
-        parsingContext.markStart();
+        final long parseStart = commandContext.beginParsing();
 
         final ArgumentParseResult<Boolean> preParseResult = node.component().preprocess(commandContext, commandInput);
 
         if (preParseResult.failure().isPresent() || !preParseResult.parsedValue().orElse(false)) {
-            parsingContext.markEnd();
-            parsingContext.success(false);
+            commandContext.completeParsing(node.component(), parseStart, commandInput, commandInput, false /* success */);
             if (preParseResult.failure().isPresent()) {
                 return CompletableFutures.failedFuture(
                         this.argumentParseException(commandContext, node, preParseResult)
@@ -589,12 +653,15 @@ public final class CommandTree<C> {
         // Copy the current queue so that we can deduce the captured input.
         final CommandInput currentInput = commandInput.copy();
 
-        return node.component().parser()
-                .parseFuture(commandContext, commandInput)
+        return this.parseFuture(commandContext, node, commandInput, executor)
                 .thenComposeAsync(result -> {
-                    parsingContext.consumedInput(currentInput, commandInput);
-                    parsingContext.markEnd();
-                    parsingContext.success(false);
+                    commandContext.completeParsing(
+                            node.component(),
+                            parseStart,
+                            currentInput,
+                            commandInput,
+                            !result.failure().isPresent()
+                    );
 
                     if (result.failure().isPresent()) {
                         commandInput.cursor(currentInput.cursor());
@@ -607,6 +674,90 @@ public final class CommandTree<C> {
                 }, executor);
     }
 
+    /**
+     * Parses the component of the given {@code node}, bounded by the {@link #timeoutNanos(CommandContext, CommandComponent)
+     * time given to the component}.
+     * <p>
+     * If the parser does not complete in time, then the returned future fails with a {@link ComponentTimeoutException}.
+     * When suggesting, the exception is instead returned as a failed parse result, so that the remaining suggestions are
+     * still generated. The abandoned parser may still access the context, which is therefore
+     * {@link CommandContext#abandon() excluded from pooling}.
+     *
+     * @param commandContext the command context
+     * @param node           the node containing the component to parse
+     * @param commandInput   the input to parse
+     * @param executor       executor to handle the timeout on
+     * @return future that completes with the parse result
+     */
+    private @NonNull CompletableFuture<ArgumentParseResult<?>> parseFuture(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull CommandNode<C> node,
+            final @NonNull CommandInput commandInput,
+            final @NonNull Executor executor
+    ) {
+        final CommandComponent<C> component = Objects.requireNonNull(node.component());
+        final long timeoutNanos = this.timeoutNanos(commandContext, component);
+        return Timeouts.<ArgumentParseResult<?>>within(
+                component.parser().parseFuture(commandContext, commandInput),
+                timeoutNanos,
+                executor,
+                bounded -> {
+                    commandContext.abandon();
+                    final ComponentTimeoutException exception = new ComponentTimeoutException(
+                            component,
+                            this.timeoutLimit(commandContext, component, timeoutNanos),
+                            commandContext.sender(),
+                            this.getComponentChain(node)
+                    );
+                    final boolean timedOut = commandContext.isSuggestions()
+                            ? bounded.complete(ArgumentParseResult.failure(exception))
+                            : bounded.completeExceptionally(exception);
+                    if (timedOut) {
+                        this.commandManager.commandMetrics().componentTimedOut(commandContext, component);
+                    }
+                }
+        );
+    }
+
+    /**
+     * Returns the number of nanoseconds that the parser or the suggestion provider of the given {@code component} may
+     * take, which is the smaller of the {@link CommandComponent#timeout() timeout of the component} and the
+     * {@link CommandContext#remainingTime() time remaining} until the deadline of the command.
+     *
+     * @param commandContext the command context
+     * @param component      the component
+     * @return the timeout in nanoseconds, or {@link Timeouts#NO_TIMEOUT}
+     */
+    private long timeoutNanos(final @NonNull CommandContext<C> commandContext, final @NonNull CommandComponent<C> component) {
+        final Duration timeout = component.timeout();
+        if (timeout == null) {
+            return commandContext.remainingNanos();
+        }
+        return Math.min(timeout.toNanos(), commandContext.remainingNanos());
+    }
+
+    /**
+     * Returns the configured limit that a timeout of {@code timeoutNanos} was derived from, which is either the
+     * {@link CommandComponent#timeout() timeout of the component} or the {@link CommandContext#deadlineTimeout() timeout
+     * of the command}.
+     *
+     * @param commandContext the command context
+     * @param component      the component
+     * @param timeoutNanos   the timeout returned by {@link #timeoutNanos(CommandContext, CommandComponent)}
+     * @return the configured limit
+     */
+    private @NonNull Duration timeoutLimit(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull CommandComponent<C> component,
+            final long timeoutNanos
+    ) {
+        final Duration timeout = component.timeout();
+        if (timeout != null && timeout.toNanos() == timeoutNanos) {
+            return timeout;
+        }
+        return commandContext.deadlineTimeout().orElseGet(() -> Duration.ofNanos(timeoutNanos));
+    }
+
     private @NonNull ArgumentParseException argumentParseException(
             final CommandContext<C> commandContext,
             final CommandNode<C> node,
@@ -651,8 +802,102 @@ public final class CommandTree<C> {
                 commandInput,
                 mapper
         );
-        return this.getSuggestions(suggestionCtx, commandInput, this.internalTree, executor)
-                .thenApply($ -> suggestionCtx.makeSuggestions());
+        final SuggestionSession<C> session = this.suggestionSession(context);
+        CommandNode<C> root = this.internalTree;
+        if (session != null) {
+            final SuggestionSession.Checkpoint<C> checkpoint = this.resumeCheckpoint(context);
+            suggestionCtx.session(session, checkpoint);
+            if (checkpoint != null) {
+                checkpoint.restore(context);
+                commandInput.cursor(checkpoint.cursor());
+                root = checkpoint.node();
+            }
+        }
+        return this.getSuggestions(suggestionCtx, commandInput, root, executor)
+                .thenApply($ -> {
+                    if (session != null) {
+                        session.update(suggestionCtx.checkpoint());
+                    }
+                    return suggestionCtx.makeSuggestions();
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private @Nullable SuggestionSession<C> suggestionSession(final @NonNull CommandContext<C> context) {
+        final SuggestionSession<?> session = context.optional(SuggestionSession.SESSION_KEY).orElse(null);
+        context.remove(SuggestionSession.SESSION_KEY);
+        return (SuggestionSession<C>) session;
+    }
+
+    @SuppressWarnings("unchecked")
+    private SuggestionSession.@Nullable Checkpoint<C> resumeCheckpoint(final @NonNull CommandContext<C> context) {
+        final SuggestionSession.Checkpoint<?> checkpoint = context.optional(SuggestionSession.RESUME_KEY).orElse(null);
+        context.remove(SuggestionSession.RESUME_KEY);
+        return (SuggestionSession.Checkpoint<C>) checkpoint;
+    }
+
+    /**
+     * Records a {@link SuggestionSession.Checkpoint} for the given {@code node}, if the suggestion lookup is part of a
+     * suggestion session.
+     *
+     * @param context the suggestion context
+     * @param node    the node that is about to be entered
+     * @param input   the input, with the cursor at the position that the node is entered at
+     */
+    private void recordCheckpoint(
+            final @NonNull SuggestionContext<C, ?> context,
+            final @NonNull CommandNode<C> node,
+            final @NonNull CommandInput input
+    ) {
+        if (context.session() == null) {
+            return;
+        }
+        /* Only deeper checkpoints replace the current one, so avoid copying the context for the others */
+        final SuggestionSession.Checkpoint<C> current = context.checkpoint();
+        if (current != null && current.prefix().length() >= SuggestionSession.Checkpoint.prefixLength(input)) {
+            return;
+        }
+        final SuggestionSession.Checkpoint<C> checkpoint = SuggestionSession.Checkpoint.create(
+                node,
+                input,
+                context.commandContext(),
+                this.modificationCount
+        );
+        if (checkpoint != null) {
+            context.checkpoint(checkpoint);
+        }
+    }
+
+    /**
+     * Returns whether a suggestion lookup that entered the given {@code node} after parsing its argument is guaranteed
+     * to enter it the same way when more input is appended to the consumed input.
+     * <p>
+     * This is not the case if the parent has other argument children, as they contribute suggestions too, or if the
+     * parser of the argument consumes a variable amount of input.
+     *
+     * @param node the node
+     * @return {@code true} if a checkpoint may be recorded for the node
+     */
+    private boolean isStableArgumentNode(final @NonNull CommandNode<C> node) {
+        final CommandNode<C> parent = node.parent();
+        final CommandComponent<C> component = node.component();
+        if (parent == null || component == null || component.type() == CommandComponent.ComponentType.FLAG) {
+            return false;
+        }
+        for (final CommandNode<C> sibling : parent.children()) {
+            if (sibling != node && sibling.component() != null
+                    && sibling.component().type() != CommandComponent.ComponentType.LITERAL) {
+                return false;
+            }
+        }
+        if (component.parser() instanceof StringArrayParser) {
+            return false;
+        }
+        if (component.parser() instanceof StringParser) {
+            final StringParser.StringMode mode = ((StringParser<C>) component.parser()).stringMode();
+            return mode == StringParser.StringMode.SINGLE || mode == StringParser.StringMode.QUOTED;
+        }
+        return true;
     }
 
     @SuppressWarnings("MixedMutabilityReturnType")
@@ -662,6 +907,10 @@ public final class CommandTree<C> {
             final @NonNull CommandNode<C> root,
             final @NonNull Executor executor
     ) {
+        // Abandoned lookups are dropped instead of being computed and discarded
+        if (context.commandContext().cancelled()) {
+            return CompletableFuture.completedFuture(context);
+        }
         // If the sender isn't allowed to access the root node, no suggestions are needed
         if (!this.determineAccess(context.commandContext().sender(), root).map(PermissionResult::allowed).orElse(false)) {
             return CompletableFuture.completedFuture(context);
@@ -705,6 +954,7 @@ public final class CommandTree<C> {
                     break;
                 }
 
+                this.recordCheckpoint(context, child, commandInput);
                 return this.getSuggestions(context, commandInput, child, executor);
             }
 
@@ -712,12 +962,18 @@ public final class CommandTree<C> {
             commandInput.cursor(commandInputCopy.cursor());
         }
 
+        if (commandInput.remainingTokens() <= 1 && this.commandManager.settings().get(ManagerSetting.PARALLEL_SUGGESTIONS)
+                && children.stream().noneMatch(child -> child.component() != null
+                        && child.component().parser() instanceof CommandFlagParser)) {
+            return this.addChildSuggestionsInParallel(context, children, commandInput, executor);
+        }
+
         // Calculate suggestions for the literal arguments
         CompletableFuture<SuggestionContext<C, ?>> suggestionFuture = CompletableFuture.completedFuture(context);
         if (commandInput.remainingTokens() <= 1) {
             for (final CommandNode<C> node : staticArguments) {
                 suggestionFuture = suggestionFuture
-                        .thenCompose(ctx -> this.addSuggestionsForLiteralArgument(context, node, commandInput));
+                        .thenCompose(ctx -> this.addSuggestionsForLiteralArgument(context, node, commandInput, executor));
             }
         }
 
@@ -733,25 +989,125 @@ public final class CommandTree<C> {
         return suggestionFuture;
     }
 
+    /**
+     * Requests the suggestions of all {@code children} of a node together, and merges them into the context in the same
+     * order as the sequential lookup: the literal children first, followed by the variable child.
+     * <p>
+     * This is only used while the sender is typing the token that the children would parse. The children are then not
+     * descended into, so their suggestion providers only read the command context, and each child collects its
+     * suggestions separately until all of them have completed. Providers that are not static are started on the
+     * {@code executor}, so that blocking providers overlap.
+     *
+     * @param context      the suggestion context
+     * @param children     the children of the node
+     * @param commandInput the current input
+     * @param executor     executor to start the suggestion providers on
+     * @return future that completes with the context
+     */
+    private @NonNull CompletableFuture<SuggestionContext<C, ?>> addChildSuggestionsInParallel(
+            final @NonNull SuggestionContext<C, ?> context,
+            final @NonNull List<@NonNull CommandNode<C>> children,
+            final @NonNull CommandInput commandInput,
+            final @NonNull Executor executor
+    ) {
+        final List<CommandNode<C>> ordered = new ArrayList<>(children.size());
+        children.stream()
+                .filter(child -> child.component() != null)
+                .filter(child -> child.component().type() == CommandComponent.ComponentType.LITERAL)
+                .forEach(ordered::add);
+        children.stream()
+                .filter(child -> child.component() != null)
+                .filter(child -> child.component().type() != CommandComponent.ComponentType.LITERAL)
+                .forEach(ordered::add);
+
+        final List<CompletableFuture<Consumer<SuggestionContext<C, ?>>>> collectors = new ArrayList<>(ordered.size());
+        for (final CommandNode<C> child : ordered) {
+            final boolean literal = child.component().type() == CommandComponent.ComponentType.LITERAL;
+            if (literal && !this.determineAccess(context.commandContext().sender(), child)
+                    .map(PermissionResult::allowed)
+                    .orElse(false)) {
+                continue;
+            }
+            if (child.component().suggestionProvider() instanceof StaticSuggestionProvider) {
+                collectors.add(this.childSuggestions(context, child, commandInput, executor, literal));
+            } else {
+                collectors.add(CompletableFuture.supplyAsync(
+                        () -> this.childSuggestions(context, child, commandInput, executor, literal),
+                        executor
+                ).thenCompose(Function.identity()));
+            }
+        }
+        return CompletableFuture.allOf(collectors.toArray(new CompletableFuture[0])).thenApply(v -> {
+            collectors.forEach(collector -> collector.join().accept(context));
+            return context;
+        });
+    }
+
+    /**
+     * Requests the suggestions of the given {@code child} without adding them to the context.
+     *
+     * @param context  the suggestion context
+     * @param child    the child to get suggestions from
+     * @param input    the current input
+     * @param executor executor to handle a timeout of the provider on
+     * @param literal  whether only suggestions that complete the current token should be kept, like for literals
+     * @return future that completes with a collector that adds the suggestions to a context
+     */
+    private @NonNull CompletableFuture<Consumer<SuggestionContext<C, ?>>> childSuggestions(
+            final @NonNull SuggestionContext<C, ?> context,
+            final @NonNull CommandNode<C> child,
+            final @NonNull CommandInput input,
+            final @NonNull Executor executor,
+            final boolean literal
+    ) {
+        final StaticSuggestionIndex staticSuggestions = this.staticSuggestions(context, child);
+        final String string = input.peekString();
+        if (staticSuggestions != null) {
+            if (literal) {
+                return CompletableFuture.completedFuture(ctx -> staticSuggestions.forEachCompletion(string, ctx::addMappedSuggestion));
+            }
+            return CompletableFuture.completedFuture(ctx -> staticSuggestions.forEach(ctx::addMappedSuggestion));
+        }
+        final CommandComponent<C> component = Objects.requireNonNull(child.component());
+        return this.suggestionsFuture(context, component, input, executor).thenApply(suggestions -> ctx -> {
+            if (!literal) {
+                ctx.addSuggestions(suggestions);
+                return;
+            }
+            for (final Suggestion suggestion : suggestions) {
+                if (suggestion.suggestion().equals(string) || !suggestion.suggestion().startsWith(string)) {
+                    continue;
+                }
+                ctx.addSuggestion(suggestion);
+            }
+        });
+    }
+
     /**
      * Adds the suggestions for a static argument if they match the given {@code input}
      *
-     * @param context the suggestion context
-     * @param node    the node containing the static argument
-     * @param input   the current input
+     * @param context  the suggestion context
+     * @param node     the node containing the static argument
+     * @param input    the current input
+     * @param executor executor to schedule further suggestion logic to
      * @return future that completes with the context
      */
     private CompletableFuture<SuggestionContext<C, ?>> addSuggestionsForLiteralArgument(
             final @NonNull SuggestionContext<C, ?> context,
             final @NonNull CommandNode<C> node,
-            final @NonNull CommandInput input
+            final @NonNull CommandInput input,
+            final @NonNull Executor executor
     ) {
         if (!this.determineAccess(context.commandContext().sender(), node).map(PermissionResult::allowed).orElse(false)) {
             return CompletableFuture.completedFuture(context);
         }
+        final StaticSuggestionIndex staticSuggestions = this.staticSuggestions(context, node);
+        if (staticSuggestions != null) {
+            staticSuggestions.forEachCompletion(input.peekString(), context::addMappedSuggestion);
+            return CompletableFuture.completedFuture(context);
+        }
         final CommandComponent<C> component = Objects.requireNonNull(node.component());
-        return component.suggestionProvider()
-                .suggestionsFuture(context.commandContext(), input.copy())
+        return this.suggestionsFuture(context, component, input, executor)
                 .thenApply(suggestionsToAdd -> {
                     final String string = input.peekString();
                     for (Suggestion suggestion : suggestionsToAdd) {
@@ -816,16 +1172,20 @@ public final class CommandTree<C> {
             parsingFuture = CompletableFuture.completedFuture(null);
         } else {
             // START: Parsing
-            final ParsingContext<C> parsingContext = context.commandContext().createParsingContext(child.component());
-            parsingContext.markStart();
             final CommandInput preParseInput = commandInput.copy();
+            final long parseStart = context.commandContext().beginParsing();
 
-            parsingFuture = child.component()
-                    .parser()
-                    .parseFuture(context.commandContext(), commandInput)
+            parsingFuture = this.parseFuture(context.commandContext(), child, commandInput, executor)
                     .thenComposeAsync(result -> {
                         final Optional<?> parsedValue = result.parsedValue();
                         final boolean parseSuccess = parsedValue.isPresent();
+                        context.commandContext().completeParsing(
+                                child.component(),
+                                parseStart,
+                                preParseInput,
+                                commandInput,
+                                parseSuccess
+                        );
 
                         if (result.failure().isPresent()) {
                             commandInput.cursor(preParseInput.cursor());
@@ -848,7 +1208,9 @@ public final class CommandTree<C> {
                             }
                             // the current argument at the position is parsable and there are more arguments following
                             context.commandContext().store(child.component().name(), parsedValue.get());
-                            parsingContext.success(true);
+                            if (this.isStableArgumentNode(child)) {
+                                this.recordCheckpoint(context, child, commandInput);
+                            }
                             return this.getSuggestions(context, commandInput, child, executor);
                         } else if (!parseSuccess && commandInputOriginal.remainingTokens() > 1) {
                             // at this point there should normally be no need to reset the command queue as we expect
@@ -899,7 +1261,7 @@ public final class CommandTree<C> {
             final @NonNull Executor executor
     ) {
         final CommandComponent<C> component = Objects.requireNonNull(node.component());
-        return this.addArgumentSuggestions(context, component, input, executor).thenCompose(ctx -> {
+        return this.addComponentSuggestions(context, node, input, executor).thenCompose(ctx -> {
             // When suggesting a flag, potentially suggest following nodes too
             final boolean isParsingFlag = component.type() == CommandComponent.ComponentType.FLAG
                     && !node.children().isEmpty() // Has children
@@ -913,32 +1275,121 @@ public final class CommandTree<C> {
             return CompletableFuture.allOf(
                     node.children()
                             .stream()
-                            .map(child -> this.addArgumentSuggestions(
-                                    context, Objects.requireNonNull(child.component()), input, executor))
+                            .map(child -> this.addComponentSuggestions(context, child, input, executor))
                             .toArray(CompletableFuture[]::new)
             ).thenApply(v -> ctx);
         });
     }
 
     /**
-     * Adds the suggestions for the given {@code argument} to the given {@code context}
+     * Adds the suggestions for the component of the given {@code node} to the given {@code context}
+     *
+     * @param context  the suggestion context
+     * @param node     the node containing the component to get suggestions from
+     * @param input    the input from the sender
+     * @param executor executor to schedule further suggestion logic to
+     * @return future that completes with the context
+     */
+    private CompletableFuture<SuggestionContext<C, ?>> addComponentSuggestions(
+            final @NonNull SuggestionContext<C, ?> context,
+            final @NonNull CommandNode<C> node,
+            final @NonNull CommandInput input,
+            final @NonNull Executor executor
+    ) {
+        final StaticSuggestionIndex staticSuggestions = this.staticSuggestions(context, node);
+        if (staticSuggestions != null) {
+            staticSuggestions.forEach(context::addMappedSuggestion);
+            return CompletableFuture.completedFuture(context);
+        }
+        final CommandComponent<C> component = Objects.requireNonNull(node.component());
+        return this.suggestionsFuture(context, component, input, executor)
+                .thenAcceptAsync(context::addSuggestions, executor)
+                .thenApply(in -> context);
+    }
+
+    /**
+     * Returns the cached suggestions for the component of the given {@code node}, if the component has a
+     * {@link StaticSuggestionProvider}. The suggestions are (re-)computed if they have not been cached yet, or if
+     * they were mapped by a different suggestion mapper.
+     *
+     * @param context the suggestion context
+     * @param node    the node containing the component
+     * @return the cached suggestions, or {@code null} if the suggestions of the component cannot be cached
+     */
+    private @Nullable StaticSuggestionIndex staticSuggestions(
+            final @NonNull SuggestionContext<C, ?> context,
+            final @NonNull CommandNode<C> node
+    ) {
+        final CommandComponent<C> component = Objects.requireNonNull(node.component());
+        if (!(component.suggestionProvider() instanceof StaticSuggestionProvider)) {
+            return null;
+        }
+        final Object baseMapper = this.commandManager.suggestionMapper();
+        StaticSuggestionIndex staticSuggestions = node.staticSuggestions(context.mapper(), baseMapper);
+        if (staticSuggestions == null) {
+            staticSuggestions = StaticSuggestionIndex.create(
+                    ((StaticSuggestionProvider<C>) component.suggestionProvider()).staticSuggestions(),
+                    context.mapper(),
+                    baseMapper
+            );
+            node.addStaticSuggestions(staticSuggestions);
+        }
+        return staticSuggestions;
+    }
+
+    /**
+     * Requests the suggestions from the suggestion provider of the given {@code component}, reporting the time spent
+     * to the {@link CommandManager#commandMetrics() command metrics}.
+     * <p>
+     * The provider is not invoked if the command context has been {@link CommandContext#cancelled() cancelled}, and
+     * the returned future is cancelled if the context gets cancelled before the provider completes. The future returned
+     * by the provider is not cancelled, as it may be shared with other requests. Providers that own their futures may
+     * register them using {@link CommandContext#cancelWith(CompletableFuture)}.
      *
      * @param context   the suggestion context
      * @param component the component to get suggestions from
      * @param input     the input from the sender
-     * @param executor  executor to schedule further suggestion logic to
-     * @return future that completes with the context
+     * @param executor  executor to handle a timeout of the provider on
+     * @return future that completes with the suggestions
      */
-    private CompletableFuture<SuggestionContext<C, ?>> addArgumentSuggestions(
+    private @NonNull CompletableFuture<? extends @NonNull Iterable<? extends @NonNull Suggestion>> suggestionsFuture(
             final @NonNull SuggestionContext<C, ?> context,
             final @NonNull CommandComponent<C> component,
             final @NonNull CommandInput input,
             final @NonNull Executor executor
     ) {
-        return component.suggestionProvider()
-                .suggestionsFuture(context.commandContext(), input.copy())
-                .thenAcceptAsync(context::addSuggestions, executor)
-                .thenApply(in -> context);
+        final CommandContext<C> commandContext = context.commandContext();
+        if (commandContext.cancelled()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        final CommandMetrics<C> metrics = this.commandManager.commandMetrics();
+        final long start = metrics.enabled() ? System.nanoTime() : 0L;
+        final CompletableFuture<? extends @NonNull Iterable<? extends @NonNull Suggestion>> providerFuture =
+                component.suggestionProvider().suggestionsFuture(commandContext, input.copy());
+        // The future of the provider may be shared or cached by the provider, so only the dependent stage is cancelled
+        final CompletableFuture<@NonNull Iterable<? extends @NonNull Suggestion>> dependentFuture =
+                providerFuture.thenApply(suggestions -> suggestions);
+        commandContext.cancelWith(dependentFuture);
+        final CompletableFuture<? extends @NonNull Iterable<? extends @NonNull Suggestion>> future =
+                Timeouts.<Iterable<? extends @NonNull Suggestion>>within(
+                        dependentFuture,
+                        this.timeoutNanos(commandContext, component),
+                        executor,
+                        bounded -> {
+                            commandContext.abandon();
+                            if (bounded.complete(Collections.emptyList())) {
+                                metrics.componentTimedOut(commandContext, component);
+                            }
+                        }
+                );
+        if (!metrics.enabled()) {
+            return future;
+        }
+        return future.whenComplete((suggestions, throwable) -> metrics.componentSuggested(
+                commandContext,
+                component,
+                System.nanoTime() - start
+        ));
     }
 
     /**
@@ -946,52 +1397,209 @@ public final class CommandTree<C> {
      *
      * @param command the command to insert
      */
-    @SuppressWarnings("unchecked")
     public void insertCommand(final @NonNull Command<C> command) {
         synchronized (this.commandLock) {
-            final CommandComponent<C> flagComponent = command.flagComponent();
-            final List<CommandComponent<C>> nonFlagArguments = command.nonFlagArguments();
-            final int flagStartIdx = this.flagStartIndex(nonFlagArguments);
-
-            CommandNode<C> node = this.internalTree;
-            for (int i = 0; i < nonFlagArguments.size(); i++) {
-                final CommandComponent<C> component = nonFlagArguments.get(i);
-
-                CommandNode<C> tempNode = node.getChild(component);
-                if (tempNode == null) {
-                    tempNode = node.addChild(component);
-                } else if (component.type() == CommandComponent.ComponentType.LITERAL && tempNode.component() != null) {
-                    for (final String alias : component.aliases()) {
-                        ((LiteralParser<C>) tempNode.component().parser()).insertAlias(alias);
+            final PendingInsertion<C> insertion = this.insertChain(this.internalTree, command, false /* staging */);
+            if (insertion.executorNode.component() != null) {
+                // The requirements are published before the chain is attached, as readers expect them to be present
+                this.mergeRequirements(insertion);
+            }
+            insertion.complete();
+            // Incremented after the change, so that caches keyed by the count never hold pre-change values for the new count
+            this.modificationCount++;
+
+            this.verifyAndRegister();
+        }
+    }
+
+    /**
+     * Replaces the {@code removed} commands with the {@code added} commands in a single step.
+     * <p>
+     * All root nodes that contain a removed command or that are shared with an added command are rebuilt off to the side,
+     * containing the remaining and the added commands. The rebuilt nodes are verified once, and then replace the old
+     * root nodes at once. Readers of the tree observe either the old or the new commands, never a mix of both. If the
+     * verification fails, the tree is left unchanged.
+     * <p>
+     * Root commands that no longer contain any commands are {@link CommandRegistrationHandler#unregisterRootCommand(CommandComponent)
+     * unregistered}, and the commands of the rebuilt root nodes are {@link CommandRegistrationHandler#registerCommands(Collection)
+     * registered} in bulk.
+     *
+     * @param removed the commands to remove
+     * @param added   the commands to add
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    public void replaceCommands(
+            final @NonNull Collection<@NonNull Command<C>> removed,
+            final @NonNull Collection<@NonNull Command<C>> added
+    ) {
+        synchronized (this.commandLock) {
+            final Set<Command<C>> removedCommands = Collections.newSetFromMap(new IdentityHashMap<>());
+            removedCommands.addAll(removed);
+
+            /* Determine which root nodes have to be rebuilt */
+            final Set<CommandNode<C>> affectedRoots = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (final CommandNode<C> root : this.internalTree.children()) {
+                for (final CommandNode<C> executorNode : this.getExecutorNodes(root)) {
+                    if (removedCommands.contains(executorNode.command())) {
+                        affectedRoots.add(root);
+                        break;
                     }
                 }
-                if (!node.children().isEmpty()) {
-                    node.sortChildren();
+            }
+            for (final Command<C> command : added) {
+                final CommandNode<C> root = this.internalTree.getChild(command.rootComponent());
+                if (root != null) {
+                    affectedRoots.add(root);
                 }
-                tempNode.parent(node);
-                node = tempNode;
+            }
+
+            /* Build the replacement root nodes in a detached staging node */
+            final Set<Command<C>> remainingCommands = Collections.newSetFromMap(new IdentityHashMap<>());
+            final List<Command<C>> stagedCommands = new ArrayList<>();
+            for (final CommandNode<C> root : affectedRoots) {
+                for (final CommandNode<C> executorNode : this.getExecutorNodes(root)) {
+                    final Command<C> command = executorNode.command();
+                    // Optional nodes may share the command of the node they lead to
+                    if (!removedCommands.contains(command) && remainingCommands.add(command)) {
+                        stagedCommands.add(command);
+                    }
+                }
+            }
+            stagedCommands.addAll(added);
 
-                if (flagComponent != null && i >= flagStartIdx) {
-                    tempNode = node.addChild(flagComponent);
-                    tempNode.parent(node);
-                    node = tempNode;
+            final CommandNode<C> staging = new CommandNode<>(null);
+            for (final Command<C> command : stagedCommands) {
+                this.insertChain(staging, command, true /* staging */).complete();
+            }
+            final List<CommandNode<C>> replacementRoots = staging.children();
+
+            /* Verify the resulting tree before publishing it */
+            final CommandNode<C> prospectiveTree = new CommandNode<>(null);
+            for (final CommandNode<C> root : this.internalTree.children()) {
+                if (!affectedRoots.contains(root)) {
+                    prospectiveTree.attachChild(root);
+                }
+            }
+            replacementRoots.forEach(prospectiveTree::attachChild);
+            for (final CommandNode<C> root : replacementRoots) {
+                if (root.component() == null || root.component().type() != CommandComponent.ComponentType.LITERAL) {
+                    throw new IllegalStateException("Top level command argument cannot be a variable");
+                }
+            }
+            this.checkAmbiguity(prospectiveTree);
+            final List<Command<C>> replacementCommands = new ArrayList<>();
+            for (final CommandNode<C> root : replacementRoots) {
+                for (final CommandNode<C> leaf : this.getLeaves(root)) {
+                    if (leaf.command() == null) {
+                        throw new NoCommandInLeafException(leaf.component());
+                    }
+                    replacementCommands.add(leaf.command());
                 }
             }
 
-            final CommandComponent<C> nodeComponent = node.component();
-            if (nodeComponent != null) {
-                if (node.command() != null) {
-                    throw new IllegalStateException(String.format(
-                            "Duplicate command chains detected. Node '%s' already has an owning command (%s)",
-                            node, node.command()
-                    ));
+            /* Unregister the root commands that are deleted */
+            final Set<CommandNode<C>> replacedRoots = new HashSet<>(replacementRoots);
+            for (final CommandNode<C> root : affectedRoots) {
+                if (!replacedRoots.contains(root)) {
+                    this.commandManager.commandRegistrationHandler().unregisterRootCommand(root.component());
                 }
+            }
 
-                node.command(command);
+            /* Publish the requirements and then the replacement root nodes */
+            final List<CommandNode<C>> executorNodes = new ArrayList<>();
+            for (final CommandNode<C> root : prospectiveTree.children()) {
+                root.parent(this.internalTree);
+                executorNodes.addAll(this.getExecutorNodes(root));
+            }
+            this.propagateRequirements(executorNodes, Collections.emptyList());
+            this.internalTree.replaceChildren(affectedRoots, replacementRoots);
+            for (final Command<C> command : added) {
+                this.longestChainLength = Math.max(this.longestChainLength, command.components().size());
             }
+            this.modificationCount++;
 
-            this.verifyAndRegister();
+            this.commandManager.commandRegistrationHandler().registerCommands(replacementCommands);
+        }
+    }
+
+    /**
+     * Inserts the chain of the given {@code command} below the given {@code root} node. Nodes that do not exist yet are
+     * collected in a detached chain, which is attached to the tree by {@link PendingInsertion#complete()}, so that
+     * concurrent readers never observe a partially inserted command.
+     *
+     * <p>
+     * When {@code staging}, the chain is built below a detached node that is not published until it has been verified.
+     * New literal nodes then hold {@link CommandComponent#copyLiteral() copies} of the literal components, so that
+     * merging the aliases of commands that share the node does not modify the components of the live tree, and the
+     * state of the tree itself is left untouched.
+     *
+     * @param root    the node to insert the chain below
+     * @param command the command to insert
+     * @param staging whether the chain is inserted below a detached staging node
+     * @return the pending insertion
+     */
+    @SuppressWarnings("unchecked")
+    private @NonNull PendingInsertion<C> insertChain(
+            final @NonNull CommandNode<C> root,
+            final @NonNull Command<C> command,
+            final boolean staging
+    ) {
+        if (!staging) {
+            this.longestChainLength = Math.max(this.longestChainLength, command.components().size());
+        }
+        final CommandComponent<C> flagComponent = command.flagComponent();
+        final List<CommandComponent<C>> nonFlagArguments = command.nonFlagArguments();
+        final int flagStartIdx = this.flagStartIndex(nonFlagArguments);
+
+        CommandNode<C> attachmentPoint = null;
+        CommandNode<C> detachedChain = null;
+
+        CommandNode<C> node = root;
+        for (int i = 0; i < nonFlagArguments.size(); i++) {
+            final CommandComponent<C> component = nonFlagArguments.get(i);
+
+            CommandNode<C> tempNode = node.getChild(component);
+            if (tempNode == null) {
+                tempNode = new CommandNode<>(
+                        staging && component.type() == CommandComponent.ComponentType.LITERAL ? component.copyLiteral() : component
+                );
+                if (detachedChain == null) {
+                    attachmentPoint = node;
+                    detachedChain = tempNode;
+                } else {
+                    node.attachChild(tempNode);
+                }
+            } else if (component.type() == CommandComponent.ComponentType.LITERAL && tempNode.component() != null) {
+                final LiteralParser<C> literalParser = (LiteralParser<C>) component.parser();
+                for (final String alias : staging ? literalParser.declaredAliases() : component.aliases()) {
+                    ((LiteralParser<C>) tempNode.component().parser()).insertAlias(alias);
+                }
+                tempNode.clearStaticSuggestions();
+                node.sortChildren();
+            }
+            tempNode.parent(node);
+            node = tempNode;
+
+            if (flagComponent != null && i >= flagStartIdx) {
+                tempNode = new CommandNode<>(flagComponent);
+                if (detachedChain == null) {
+                    attachmentPoint = node;
+                    detachedChain = tempNode;
+                } else {
+                    node.attachChild(tempNode);
+                }
+                tempNode.parent(node);
+                node = tempNode;
+            }
         }
+
+        if (node.component() != null && node.command() != null) {
+            throw new IllegalStateException(String.format(
+                    "Duplicate command chains detected. Node '%s' already has an owning command (%s)",
+                    node, node.command()
+            ));
+        }
+        return new PendingInsertion<>(command, node, attachmentPoint, detachedChain);
     }
 
     /**
@@ -1071,8 +1679,6 @@ public final class CommandTree<C> {
                 this.commandManager.commandRegistrationHandler().registerCommand(owningCommand);
             }
         });
-
-        this.getExecutorNodes(this.internalTree).forEach(this::propagateRequirements);
     }
 
     /**
@@ -1086,28 +1692,81 @@ public final class CommandTree<C> {
     }
 
     /**
-     * Propagates permission and sender type requirements from the {@link Command} owning the {@code leafNode}'s component down
-     * the tree, merging as is appropriate for nodes shared by multiple chains.
+     * Recomputes the permission and sender type requirements of the nodes leading up to the given executor nodes by
+     * propagating the requirements of each {@link Command} down the tree from the node that executes it, merging as is
+     * appropriate for nodes shared by multiple chains.
+     * <p>
+     * The requirements are computed in full before they replace the requirements stored in the nodes, so that readers
+     * never observe partially merged requirements.
+     *
+     * @param executorNodes     the nodes that execute commands
+     * @param pendingInsertions insertions whose executor nodes do not have their command set yet
+     */
+    private void propagateRequirements(
+            final @NonNull Collection<@NonNull CommandNode<C>> executorNodes,
+            final @NonNull Collection<@NonNull PendingInsertion<C>> pendingInsertions
+    ) {
+        final Map<CommandNode<C>, Set<Type>> senderTypes = new IdentityHashMap<>();
+        final Map<CommandNode<C>, Map<Type, Permission>> access = new IdentityHashMap<>();
+        for (final CommandNode<C> executorNode : executorNodes) {
+            this.propagateRequirements(executorNode, executorNode.command(), senderTypes, access);
+        }
+        for (final PendingInsertion<C> insertion : pendingInsertions) {
+            this.propagateRequirements(insertion.executorNode, insertion.command, senderTypes, access);
+        }
+        senderTypes.forEach((node, types) -> node.nodeMeta().store(CommandNode.META_KEY_SENDER_TYPES, types));
+        access.forEach((node, accessMap) -> node.nodeMeta().store(CommandNode.META_KEY_ACCESS, accessMap));
+    }
+
+    /**
+     * Merges the requirements of the inserted command into the nodes of its chain. As inserting a command only ever adds
+     * requirements, the nodes outside the chain are unaffected, and the requirements of the nodes on the chain are the
+     * union of their current requirements and the requirements of the command.
+     * <p>
+     * The merged requirements are stored as new maps, so that readers never observe partially merged requirements.
+     *
+     * @param insertion the insertion whose executor node does not have its command set yet
+     */
+    private void mergeRequirements(final @NonNull PendingInsertion<C> insertion) {
+        final Map<CommandNode<C>, Set<Type>> senderTypes = new IdentityHashMap<>();
+        final Map<CommandNode<C>, Map<Type, Permission>> access = new IdentityHashMap<>();
+        for (final CommandNode<C> node : this.getChain(insertion.executorNode)) {
+            final Set<Type> currentSenderTypes = node.nodeMeta().getOrNull(CommandNode.META_KEY_SENDER_TYPES);
+            senderTypes.put(node, currentSenderTypes == null ? new HashSet<>() : new HashSet<>(currentSenderTypes));
+            final Map<Type, Permission> currentAccess = node.nodeMeta().getOrNull(CommandNode.META_KEY_ACCESS);
+            access.put(node, currentAccess == null ? new HashMap<>() : new HashMap<>(currentAccess));
+        }
+        this.propagateRequirements(insertion.executorNode, insertion.command, senderTypes, access);
+        senderTypes.forEach((node, types) -> node.nodeMeta().store(CommandNode.META_KEY_SENDER_TYPES, types));
+        access.forEach((node, accessMap) -> node.nodeMeta().store(CommandNode.META_KEY_ACCESS, accessMap));
+    }
+
+    /**
+     * Propagates permission and sender type requirements from the {@code command} down the tree from the
+     * {@code executorNode}.
      *
-     * @param leafNode leafNode
+     * @param executorNode the node that executes the command
+     * @param command      the command
+     * @param senderTypes  the sender types of the nodes
+     * @param access       the access requirements of the nodes
      */
-    private void propagateRequirements(final @NonNull CommandNode<C> leafNode) {
-        final Permission commandPermission = leafNode.command().commandPermission();
-        Type senderType = leafNode.command().senderType().map(TypeToken::getType).orElse(null);
+    private void propagateRequirements(
+            final @NonNull CommandNode<C> executorNode,
+            final @NonNull Command<C> command,
+            final @NonNull Map<CommandNode<C>, Set<Type>> senderTypes,
+            final @NonNull Map<CommandNode<C>, Map<Type, Permission>> access
+    ) {
+        final Permission commandPermission = command.commandPermission();
+        Type senderType = command.senderType().map(TypeToken::getType).orElse(null);
         if (senderType == null) {
             senderType = Object.class;
         }
         // Get chain and order it tail->head
-        List<CommandNode<C>> chain = this.getChain(leafNode);
+        List<CommandNode<C>> chain = this.getChain(executorNode);
         Collections.reverse(chain);
         for (final CommandNode<C> commandArgumentNode : chain) {
-            final Set<Type> senderTypes = commandArgumentNode.nodeMeta()
-                    .computeIfAbsent(CommandNode.META_KEY_SENDER_TYPES, $ -> new HashSet<>());
-            updateSenderRequirements(senderTypes, senderType);
-
-            final Map<Type, Permission> accessMap = commandArgumentNode.nodeMeta()
-                    .computeIfAbsent(CommandNode.META_KEY_ACCESS, $ -> new HashMap<>());
-            updateAccess(accessMap, senderType, commandPermission);
+            updateSenderRequirements(senderTypes.computeIfAbsent(commandArgumentNode, $ -> new HashSet<>()), senderType);
+            updateAccess(access.computeIfAbsent(commandArgumentNode, $ -> new HashMap<>()), senderType, commandPermission);
         }
     }
 
@@ -1300,21 +1959,47 @@ public final class CommandTree<C> {
         final boolean root,
         final Consumer<Command<C>> commandConsumer
     ) {
-        for (final CommandNode<C> child : new ArrayList<>(node.children())) {
-            this.deleteRecursively(child, false, commandConsumer);
+        synchronized (this.commandLock) {
+            // The node is detached first, so that readers observe either the entire subtree or none of it
+            this.removeNode(node, root);
+            for (final CommandNode<C> child : node.children()) {
+                this.deleteRecursively(child, false, commandConsumer);
+            }
+
+            final @Nullable CommandComponent<C> component = node.component();
+            final @Nullable Command<C> owner = component == null ? null : node.command();
+            if (owner != null) {
+                commandConsumer.accept(owner);
+            }
         }
+    }
 
-        final @Nullable CommandComponent<C> component = node.component();
-        final @Nullable Command<C> owner = component == null ? null : node.command();
-        if (owner != null) {
-            commandConsumer.accept(owner);
+    /**
+     * Deletes the root node with the given {@code name} and all of its children, if it exists. The lookup and the
+     * deletion happen atomically with respect to other modifications of the tree.
+     *
+     * @param name            the name of the root node
+     * @param beforeDeletion  invoked with the component of the root node before the node is deleted
+     * @param commandConsumer consumer of the commands that are deleted
+     */
+    void deleteRootNode(
+        final @NonNull String name,
+        final @NonNull Consumer<@NonNull CommandComponent<C>> beforeDeletion,
+        final @NonNull Consumer<@NonNull Command<C>> commandConsumer
+    ) {
+        synchronized (this.commandLock) {
+            final CommandNode<C> node = this.getNamedNode(name);
+            if (node == null || node.component() == null) {
+                return;
+            }
+            beforeDeletion.accept(node.component());
+            this.deleteRecursively(node, true, commandConsumer);
         }
-        this.removeNode(node, root);
     }
 
     /**
      * Removes the {@code node} from the tree. If {@code root} is true, the code is removed from the root node. Otherwise,
-     * it is removed from its parent
+     * it is removed from its parent. Must be called while holding the command lock.
      *
      * @param node the node to remove
      * @param root whether the node is a root node
@@ -1328,5 +2013,44 @@ public final class CommandTree<C> {
         } else {
             Objects.requireNonNull(node.parent(), "parent").removeChild(node);
         }
+        this.modificationCount++;
+    }
+
+
+    /**
+     * The insertion of a command chain that has been built, but that has not been made visible to readers yet.
+     *
+     * @param <C> command sender type
+     */
+    private static final class PendingInsertion<C> {
+
+        private final Command<C> command;
+        private final CommandNode<C> executorNode;
+        private final @Nullable CommandNode<C> attachmentPoint;
+        private final @Nullable CommandNode<C> detachedChain;
+
+        private PendingInsertion(
+                final @NonNull Command<C> command,
+                final @NonNull CommandNode<C> executorNode,
+                final @Nullable CommandNode<C> attachmentPoint,
+                final @Nullable CommandNode<C> detachedChain
+        ) {
+            this.command = command;
+            this.executorNode = executorNode;
+            this.attachmentPoint = attachmentPoint;
+            this.detachedChain = detachedChain;
+        }
+
+        /**
+         * Sets the command of the executor node and attaches the detached chain to the tree.
+         */
+        private void complete() {
+            if (this.executorNode.component() != null) {
+                this.executorNode.command(this.command);
+            }
+            if (this.attachmentPoint != null && this.detachedChain != null) {
+                this.attachmentPoint.attachChild(this.detachedChain);
+            }
+        }
     }
 }
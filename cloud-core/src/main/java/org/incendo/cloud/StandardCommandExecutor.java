@@ -23,18 +23,34 @@
 //
 package org.incendo.cloud;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.function.Consumer;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandContextFactory;
+import org.incendo.cloud.context.CommandContextPool;
 import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.exception.handling.ExceptionController;
+import org.incendo.cloud.execution.CommandBatchResult;
 import org.incendo.cloud.execution.CommandExecutor;
+import org.incendo.cloud.execution.CommandRequest;
 import org.incendo.cloud.execution.CommandResult;
 import org.incendo.cloud.execution.ExecutionCoordinator;
+import org.incendo.cloud.execution.preprocessor.RateLimitExceededException;
+import org.incendo.cloud.internal.CommandNode;
+import org.incendo.cloud.internal.RootNodeHint;
+import org.incendo.cloud.metrics.CommandMetrics;
+import org.incendo.cloud.services.PipelineException;
 import org.incendo.cloud.services.State;
+import org.incendo.cloud.setting.ManagerSetting;
 import org.incendo.cloud.util.CompletableFutures;
 
 final class StandardCommandExecutor<C> implements CommandExecutor<C> {
@@ -42,6 +58,7 @@ final class StandardCommandExecutor<C> implements CommandExecutor<C> {
     private final CommandManager<C> commandManager;
     private final ExecutionCoordinator<C> executionCoordinator;
     private final CommandContextFactory<C> commandContextFactory;
+    private final CommandContextPool<C> commandContextPool;
 
     StandardCommandExecutor(
             final @NonNull CommandManager<C> commandManager,
@@ -51,6 +68,7 @@ final class StandardCommandExecutor<C> implements CommandExecutor<C> {
         this.commandManager = commandManager;
         this.executionCoordinator = executionCoordinator;
         this.commandContextFactory = commandContextFactory;
+        this.commandContextPool = new CommandContextPool<>(commandContextFactory, CommandContextPool.DEFAULT_CAPACITY);
     }
 
     @Override
@@ -59,23 +77,85 @@ final class StandardCommandExecutor<C> implements CommandExecutor<C> {
             final @NonNull String input,
             final @NonNull Consumer<CommandContext<C>> contextConsumer
     ) {
-        final CommandContext<C> context = this.commandContextFactory.create(false, commandSender);
+        final boolean pooled = this.commandManager.settings().get(ManagerSetting.POOLED_EXECUTION);
+        final boolean poisonReleased = pooled && this.commandManager.settings().get(ManagerSetting.POOLED_EXECUTION_SAFETY_CHECKS);
+        final CommandContext<C> context = pooled
+                ? this.commandContextPool.acquire(commandSender, poisonReleased)
+                : this.commandContextFactory.create(false, commandSender);
         contextConsumer.accept(context);
         final CommandInput commandInput = CommandInput.of(input);
-        return this.executeCommand(context, commandInput).whenComplete((result, throwable) -> {
+        final CompletableFuture<CommandResult<C>> resultFuture = this.executeCommand(context, commandInput)
+                .whenComplete((result, throwable) -> {
+                    if (throwable == null) {
+                        return;
+                    }
+                    final CommandMetrics<C> metrics = this.commandManager.commandMetrics();
+                    final long start = metrics.enabled() ? System.nanoTime() : 0L;
+                    final Throwable exception = ExceptionController.unwrapCompletionException(throwable);
+                    try {
+                        this.commandManager.exceptionController().handleException(context, exception);
+                    } catch (final RuntimeException runtimeException) {
+                        throw runtimeException;
+                    } catch (final Throwable e) {
+                        throw new CompletionException(e);
+                    } finally {
+                        if (metrics.enabled()) {
+                            metrics.exceptionHandled(context, exception, System.nanoTime() - start);
+                        }
+                    }
+                });
+        if (!pooled) {
+            return resultFuture;
+        }
+        /* The context is released once the result has been completed, which means that the context of the result may not be
+           used by the caller. Contexts of failed executions are dropped as the exception may still reference them. */
+        return resultFuture.whenComplete((result, throwable) -> {
             if (throwable == null) {
-                return;
+                this.commandContextPool.release(context, poisonReleased);
             }
-            try {
-                this.commandManager.exceptionController().handleException(
-                        context,
-                        ExceptionController.unwrapCompletionException(throwable)
-                );
-            } catch (final RuntimeException runtimeException) {
-                throw runtimeException;
-            } catch (final Throwable e) {
-                throw new CompletionException(e);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The root node is resolved once for every distinct literal that the inputs start with, and the parsing of each
+     * request starts at the resolved node instead of trying every root node in turn. Failed attempts are recorded when
+     * {@link ManagerSetting#DETAILED_PARSE_TRACING} is enabled, in which case the root nodes are not resolved ahead of
+     * parsing.</p>
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NonNull CompletableFuture<@NonNull List<@NonNull CommandBatchResult<C>>> executeBatch(
+            final @NonNull Collection<@NonNull CommandRequest<C>> requests
+    ) {
+        final boolean resolveRoots = !this.commandManager.settings().get(ManagerSetting.DETAILED_PARSE_TRACING);
+        final CommandTree<C> commandTree = this.commandManager.commandTree();
+        final long modificationCount = commandTree.modificationCount();
+        final Map<String, Optional<RootNodeHint<C>>> hints = new HashMap<>();
+        final CompletableFuture<CommandBatchResult<C>>[] futures = new CompletableFuture[requests.size()];
+        int index = 0;
+        for (final CommandRequest<C> request : requests) {
+            final @Nullable RootNodeHint<C> hint = resolveRoots
+                    ? hints.computeIfAbsent(CommandInput.of(request.input()).peekString(), literal -> {
+                        final CommandNode<C> node = commandTree.getNamedNode(literal);
+                        return node == null ? Optional.empty() : Optional.of(new RootNodeHint<>(node, literal, modificationCount));
+                    }).orElse(null)
+                    : null;
+            final Consumer<CommandContext<C>> contextConsumer = hint == null
+                    ? context -> {}
+                    : context -> context.store(RootNodeHint.HINT_KEY, hint);
+            futures[index++] = this.executeCommand(request.sender(), request.input(), contextConsumer)
+                    .handle((result, throwable) -> throwable == null
+                            ? CommandBatchResult.of(request, result, null)
+                            : CommandBatchResult.of(request, null, ExceptionController.unwrapCompletionException(throwable)));
+        }
+        return CompletableFuture.allOf(futures).thenApply($ -> {
+            final List<CommandBatchResult<C>> results = new ArrayList<>(futures.length);
+            for (final CompletableFuture<CommandBatchResult<C>> future : futures) {
+                results.add(future.join());
             }
+            return results;
         });
     }
 
@@ -90,6 +170,13 @@ final class StandardCommandExecutor<C> implements CommandExecutor<C> {
                 return this.executionCoordinator()
                         .coordinateExecution(this.commandManager.commandTree(), context, commandInput);
             }
+        } catch (final PipelineException e) {
+            /* Report rate limit rejections rather than the wrapper, so that they reach their handlers. Other preprocessor
+               failures are still reported as pipeline exceptions. */
+            if (e.getCause() instanceof RateLimitExceededException) {
+                return CompletableFutures.failedFuture(e.getCause());
+            }
+            return CompletableFutures.failedFuture(e);
         } catch (final Exception e) {
             return CompletableFutures.failedFuture(e);
         }
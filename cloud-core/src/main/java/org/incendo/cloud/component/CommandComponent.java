@@ -24,6 +24,7 @@
 package org.incendo.cloud.component;
 
 import io.leangen.geantyref.TypeToken;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -68,6 +69,7 @@ public class CommandComponent<C> implements Comparable<CommandComponent<C>>, Pre
     private final TypeToken<?> valueType;
     private final SuggestionProvider<C> suggestionProvider;
     private final Collection<@NonNull ComponentPreprocessor<C>> componentPreprocessors;
+    private final @Nullable Duration timeout;
 
     /**
      * Creates a new mutable builder.
@@ -148,7 +150,8 @@ public class CommandComponent<C> implements Comparable<CommandComponent<C>>, Pre
             final @NonNull ComponentType componentType,
             final @Nullable DefaultValue<C, ?> defaultValue,
             final @NonNull SuggestionProvider<C> suggestionProvider,
-            final @NonNull Collection<@NonNull ComponentPreprocessor<C>> componentPreprocessors
+            final @NonNull Collection<@NonNull ComponentPreprocessor<C>> componentPreprocessors,
+            final @Nullable Duration timeout
     ) {
         this.name = name;
         this.parser = parser;
@@ -158,6 +161,33 @@ public class CommandComponent<C> implements Comparable<CommandComponent<C>>, Pre
         this.defaultValue = defaultValue;
         this.suggestionProvider = suggestionProvider;
         this.componentPreprocessors = new ArrayList<>(componentPreprocessors);
+        this.timeout = timeout;
+    }
+
+    /**
+     * Returns a copy of this literal component with a {@link LiteralParser#copy() copy} of its parser, so that aliases
+     * can be inserted into the copy without affecting this component.
+     *
+     * @return the copy
+     * @throws IllegalStateException if this is not a literal component
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    public @NonNull CommandComponent<C> copyLiteral() {
+        if (!(this.parser instanceof LiteralParser)) {
+            throw new IllegalStateException("Only literal components can be copied");
+        }
+        final LiteralParser<C> parser = ((LiteralParser<C>) this.parser).copy();
+        return new TypedCommandComponent<>(
+                this.name,
+                parser,
+                this.valueType,
+                this.description,
+                this.componentType,
+                this.defaultValue,
+                this.suggestionProvider == this.parser ? parser : this.suggestionProvider,
+                this.componentPreprocessors,
+                this.timeout
+        );
     }
 
     /**
@@ -284,6 +314,18 @@ public class CommandComponent<C> implements Comparable<CommandComponent<C>>, Pre
         return this.suggestionProvider;
     }
 
+    /**
+     * Returns the time within which the parser and the suggestion provider of this component must complete.
+     * <p>
+     * The component is additionally bounded by the {@link CommandContext#remainingTime() deadline} of the command.
+     *
+     * @return the timeout, or {@code null} if the component is only bounded by the deadline of the command
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public final @Nullable Duration timeout() {
+        return this.timeout;
+    }
+
     /**
      * Registers a new preprocessor.
      *
@@ -389,6 +431,7 @@ public class CommandComponent<C> implements Comparable<CommandComponent<C>>, Pre
         private TypeToken<T> valueType;
         private SuggestionProvider<C> suggestionProvider;
         private final Collection<@NonNull ComponentPreprocessor<C>> componentPreprocessors = new ArrayList<>();
+        private Duration timeout;
 
         protected Builder() {
         }
@@ -627,6 +670,24 @@ public class CommandComponent<C> implements Comparable<CommandComponent<C>>, Pre
             return this;
         }
 
+        /**
+         * Sets the {@code timeout} within which the parser and the suggestion provider of the component must complete.
+         * A parser that does not complete in time fails with a
+         * {@link org.incendo.cloud.exception.ComponentTimeoutException}, and a suggestion provider that does not complete
+         * in time contributes no suggestions.
+         *
+         * <p>Defaults to {@code null}, in which case the component is only bounded by the
+         * {@link CommandManager#commandTimeout() command timeout}.</p>
+         *
+         * @param timeout the timeout
+         * @return {@code this}
+         */
+        @API(status = API.Status.EXPERIMENTAL)
+        public @This @NonNull Builder<C, T> timeout(final @Nullable Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
         /**
          * Sets the {@code parser}. If no parser is set and the {@code manager} has been set then the default
          * parser for the {@code valueType} will be used instead.
@@ -688,7 +749,8 @@ public class CommandComponent<C> implements Comparable<CommandComponent<C>>, Pre
                     componentType,
                     this.defaultValue,
                     suggestionProvider,
-                    Objects.requireNonNull(this.componentPreprocessors, "componentPreprocessors")
+                    Objects.requireNonNull(this.componentPreprocessors, "componentPreprocessors"),
+                    this.timeout
             );
         }
     }
@@ -24,6 +24,7 @@
 package org.incendo.cloud.component;
 
 import io.leangen.geantyref.TypeToken;
+import java.time.Duration;
 import java.util.Collection;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -47,9 +48,20 @@ public final class TypedCommandComponent<C, T> extends CommandComponent<C> imple
             final @NonNull ComponentType componentType,
             final @Nullable DefaultValue<C, ?> defaultValue,
             final @NonNull SuggestionProvider<C> suggestionProvider,
-            final @NonNull Collection<@NonNull ComponentPreprocessor<C>> componentPreprocessors
+            final @NonNull Collection<@NonNull ComponentPreprocessor<C>> componentPreprocessors,
+            final @Nullable Duration timeout
     ) {
-        super(name, parser, valueType, description, componentType, defaultValue, suggestionProvider, componentPreprocessors);
+        super(
+                name,
+                parser,
+                valueType,
+                description,
+                componentType,
+                defaultValue,
+                suggestionProvider,
+                componentPreprocessors,
+                timeout
+        );
     }
 
     @Override
@@ -24,17 +24,21 @@
 package org.incendo.cloud.context;
 
 import io.leangen.geantyref.TypeToken;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.Command;
 import org.incendo.cloud.CommandManager;
 import org.incendo.cloud.caption.Caption;
@@ -43,11 +47,16 @@ import org.incendo.cloud.caption.CaptionRegistry;
 import org.incendo.cloud.caption.CaptionVariable;
 import org.incendo.cloud.component.CommandComponent;
 import org.incendo.cloud.execution.postprocessor.CommandPostprocessor;
+import org.incendo.cloud.execution.preprocessor.CommandPreprocessingContext;
 import org.incendo.cloud.injection.ParameterInjectorRegistry;
+import org.incendo.cloud.internal.Timeouts;
 import org.incendo.cloud.key.CloudKey;
 import org.incendo.cloud.key.MutableCloudKeyContainer;
+import org.incendo.cloud.metrics.CommandMetrics;
 import org.incendo.cloud.parser.flag.FlagContext;
 import org.incendo.cloud.permission.Permission;
+import org.incendo.cloud.setting.ManagerSetting;
+import org.incendo.cloud.suggestion.Suggestion;
 import org.incendo.cloud.util.annotation.AnnotationAccessor;
 
 import static java.util.Objects.requireNonNull;
@@ -60,14 +69,33 @@ import static java.util.Objects.requireNonNull;
 @API(status = API.Status.STABLE)
 public class CommandContext<C> implements MutableCloudKeyContainer {
 
-    private final List<ParsingContext<C>> parsingContexts = new LinkedList<>();
-    private final FlagContext flagContext = FlagContext.create();
-    private final Map<CloudKey<?>, Object> internalStorage = new HashMap<>();
-    private final C commandSender;
+    /**
+     * Start time returned by {@link #beginParsing()} for parsing attempts that are not timed.
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    public static final long UNTIMED = Long.MIN_VALUE;
+
+    private final FlagContext flagContext;
+    private final Map<CloudKey<?>, Object> internalStorage;
+    private C commandSender;
     private final boolean suggestions;
-    private final CaptionRegistry<C> captionRegistry;
     private final CommandManager<C> commandManager;
+    private CaptionRegistry<C> captionRegistry;
+    private boolean captureParseDetails;
+    private boolean detailedParseTracing;
+    private CommandMetrics<C> commandMetrics;
+    private ParsingContext<C>[] parsingContexts;
+    private int parsingContextCount = 0;
     private volatile @MonotonicNonNull Command<C> currentCommand = null;
+    private boolean releaseChecks = false;
+    private volatile boolean released = false;
+    private volatile boolean cancelled = false;
+    private @Nullable List<CompletableFuture<?>> cancellables = null;
+    private volatile boolean hasDeadline = false;
+    private volatile long deadline = 0L;
+    private volatile @Nullable Duration deadlineTimeout = null;
+    private volatile boolean poolable = true;
+    private @Nullable List<CommandComponent<C>> parsedComponents = null;
 
     /**
      * Creates a new command context instance.
@@ -93,10 +121,17 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
             final @NonNull C commandSender,
             final @NonNull CommandManager<C> commandManager
     ) {
-        this.commandSender = commandSender;
+        this.flagContext = FlagContext.create();
+        this.internalStorage = new HashMap<>();
         this.suggestions = suggestions;
         this.commandManager = commandManager;
-        this.captionRegistry = commandManager.captionRegistry();
+        this.parsingContexts = newParsingContextArray(commandManager.commandTree().longestChainLength());
+        this.reuse(commandSender);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <C> ParsingContext<C>[] newParsingContextArray(final int length) {
+        return (ParsingContext<C>[]) new ParsingContext<?>[Math.max(length, 1)];
     }
 
     /**
@@ -141,6 +176,7 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
             final @NonNull Caption caption,
             final @NonNull CaptionVariable @NonNull... variables
     ) {
+        this.checkNotReleased();
         return formatter.formatCaption(
                 caption,
                 this.commandSender,
@@ -163,6 +199,7 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
             final @NonNull Caption caption,
             final @NonNull List<@NonNull CaptionVariable> variables
     ) {
+        this.checkNotReleased();
         return formatter.formatCaption(
                 caption,
                 this.commandSender,
@@ -178,6 +215,7 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
      */
     @API(status = API.Status.STABLE)
     public @NonNull C sender() {
+        this.checkNotReleased();
         return this.commandSender;
     }
 
@@ -189,6 +227,7 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
      */
     @API(status = API.Status.STABLE)
     public boolean hasPermission(final @NonNull Permission permission) {
+        this.checkNotReleased();
         return this.commandManager.testPermission(this.commandSender, permission).allowed();
     }
 
@@ -200,6 +239,7 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
      */
     @API(status = API.Status.STABLE)
     public boolean hasPermission(final @NonNull String permission) {
+        this.checkNotReleased();
         return this.commandManager.hasPermission(this.commandSender, permission);
     }
 
@@ -212,11 +252,189 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
         return this.suggestions;
     }
 
+    /**
+     * Returns the maximum number of suggestions that are returned from a suggestion lookup.
+     *
+     * @return the suggestion limit
+     * @see CommandManager#suggestionLimit(int)
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public int suggestionLimit() {
+        return this.commandManager.suggestionLimit();
+    }
+
+    /**
+     * Returns whether the given {@code suggestion} is kept by the {@link CommandManager#suggestionProcessor() suggestion
+     * processor} when it is suggested for the given {@code input}.
+     * <p>
+     * This runs the suggestion processor for a single suggestion. Providers that produce many suggestions should use
+     * {@link #acceptedSuggestions(CommandInput, List)} to process them in batches instead.
+     *
+     * @param input      the input that the suggestion is provided for
+     * @param suggestion the suggestion
+     * @return {@code true} if the suggestion is kept, else {@code false}
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public boolean acceptsSuggestion(final @NonNull CommandInput input, final @NonNull Suggestion suggestion) {
+        return this.acceptedSuggestions(input, Collections.singletonList(suggestion)) > 0;
+    }
+
+    /**
+     * Returns the number of the given {@code suggestions} that are kept by the
+     * {@link CommandManager#suggestionProcessor() suggestion processor} when they are suggested for the given {@code input}.
+     * <p>
+     * Suggestion providers that produce their suggestions incrementally may use this together with
+     * {@link #suggestionLimit()} to determine when they have produced enough suggestions. The processor runs once for the
+     * entire batch.
+     *
+     * @param input       the input that the suggestions are provided for
+     * @param suggestions the suggestions
+     * @return the number of suggestions that are kept
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public int acceptedSuggestions(final @NonNull CommandInput input, final @NonNull List<@NonNull Suggestion> suggestions) {
+        if (suggestions.isEmpty()) {
+            return 0;
+        }
+        return (int) this.commandManager.suggestionProcessor()
+                .process(CommandPreprocessingContext.of(this, input.copy()), suggestions.stream())
+                .count();
+    }
+
+    /**
+     * Returns whether the operation that this context belongs to has been cancelled, for example because the suggestion
+     * request was superseded by a newer request of the same sender.
+     * <p>
+     * Long-running parsers and suggestion providers may poll this to abandon work whose result would be discarded.
+     *
+     * @return {@code true} if the operation has been cancelled, else {@code false}
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public boolean cancelled() {
+        return this.cancelled;
+    }
+
+    /**
+     * Cancels the operation that this context belongs to. Futures that were registered using
+     * {@link #cancelWith(CompletableFuture)} are cancelled as well.
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    public void cancel() {
+        final List<CompletableFuture<?>> cancellables;
+        synchronized (this) {
+            if (this.cancelled) {
+                return;
+            }
+            this.cancelled = true;
+            cancellables = this.cancellables;
+            this.cancellables = null;
+        }
+        if (cancellables != null) {
+            cancellables.forEach(future -> future.cancel(true /* mayInterruptIfRunning */));
+        }
+    }
+
+    /**
+     * Registers the given {@code future} to be cancelled when this context is {@link #cancel() cancelled}. The future is
+     * cancelled immediately if the context already has been cancelled.
+     * <p>
+     * Only futures that are owned by the caller should be registered, as cancelling a future that is shared with other
+     * consumers, such as a cached result, fails it for all of them.
+     *
+     * @param future the future
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    public void cancelWith(final @NonNull CompletableFuture<?> future) {
+        if (future.isDone()) {
+            return;
+        }
+        synchronized (this) {
+            if (!this.cancelled) {
+                if (this.cancellables == null) {
+                    this.cancellables = new ArrayList<>(2);
+                }
+                this.cancellables.removeIf(CompletableFuture::isDone);
+                this.cancellables.add(future);
+                return;
+            }
+        }
+        future.cancel(true /* mayInterruptIfRunning */);
+    }
+
+    /**
+     * Sets the deadline of the operation that this context belongs to, relative to the current time. Parsers and
+     * suggestion providers that have not completed by the deadline are abandoned.
+     * <p>
+     * The deadline is initialized from the {@link CommandManager#commandTimeout() command timeout} of the manager when the
+     * context is created.
+     *
+     * @param timeout the time from now until the deadline, or {@code null} to remove the deadline
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public void deadline(final @Nullable Duration timeout) {
+        if (timeout == null) {
+            this.hasDeadline = false;
+            this.deadlineTimeout = null;
+            return;
+        }
+        this.deadline = System.nanoTime() + timeout.toNanos();
+        this.deadlineTimeout = timeout;
+        this.hasDeadline = true;
+    }
+
+    /**
+     * Returns the timeout that the current deadline was {@link #deadline(Duration) set} with.
+     *
+     * @return the timeout, or {@link Optional#empty()} if the operation has no deadline
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public @NonNull Optional<Duration> deadlineTimeout() {
+        return Optional.ofNullable(this.deadlineTimeout);
+    }
+
+    /**
+     * Marks this context as abandoned by a parser or suggestion provider that did not complete in time. The abandoned
+     * work may still access the context, which is therefore never returned to a {@link CommandContextPool}.
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    public void abandon() {
+        this.poolable = false;
+    }
+
+    /**
+     * Returns the time remaining until the deadline of the operation that this context belongs to. The returned duration
+     * is {@link Duration#ZERO} if the deadline has passed.
+     *
+     * @return the remaining time, or {@link Optional#empty()} if the operation has no deadline
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public @NonNull Optional<Duration> remainingTime() {
+        final long remainingNanos = this.remainingNanos();
+        if (remainingNanos == Timeouts.NO_TIMEOUT) {
+            return Optional.empty();
+        }
+        return Optional.of(Duration.ofNanos(remainingNanos));
+    }
+
+    /**
+     * Returns the number of nanoseconds remaining until the deadline of the operation that this context belongs to.
+     *
+     * @return the remaining nanoseconds, which are never negative, or {@link Timeouts#NO_TIMEOUT} if there is no deadline
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    public long remainingNanos() {
+        if (!this.hasDeadline) {
+            return Timeouts.NO_TIMEOUT;
+        }
+        return Math.max(0L, this.deadline - System.nanoTime());
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public <T extends @NonNull Object> void store(final @NonNull String key, final T value) {
+        this.checkNotReleased();
         this.internalStorage.put(CloudKey.of(key), value);
     }
 
@@ -225,6 +443,7 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
      */
     @Override
     public <T extends @NonNull Object> void store(final @NonNull CloudKey<T> key, final T value) {
+        this.checkNotReleased();
         this.internalStorage.put(key, value);
     }
 
@@ -233,6 +452,7 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
      */
     @Override
     public boolean contains(final @NonNull CloudKey<?> key) {
+        this.checkNotReleased();
         return this.internalStorage.containsKey(key);
     }
 
@@ -241,6 +461,7 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
      */
     @Override
     public <T extends @NonNull Object> @NonNull Optional<T> optional(final @NonNull CloudKey<T> key) {
+        this.checkNotReleased();
         final Object value = this.internalStorage.get(key);
         if (value != null) {
             @SuppressWarnings("unchecked") final T castedValue = (T) value;
@@ -255,6 +476,7 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
      */
     @Override
     public <T extends @NonNull Object> @NonNull Optional<T> optional(final @NonNull String key) {
+        this.checkNotReleased();
         final Object value = this.internalStorage.get(CloudKey.of(key));
         if (value != null) {
             @SuppressWarnings("unchecked") final T castedValue = (T) value;
@@ -269,6 +491,7 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
      */
     @Override
     public void remove(final @NonNull CloudKey<?> key) {
+        this.checkNotReleased();
         this.internalStorage.remove(key);
     }
 
@@ -280,6 +503,7 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
             final @NonNull CloudKey<T> key,
             final @NonNull Function<CloudKey<T>, T> defaultFunction
     ) {
+        this.checkNotReleased();
         @SuppressWarnings("unchecked") final T castedValue = (T) this.internalStorage.computeIfAbsent(
                 key,
                 k -> defaultFunction.apply((CloudKey<T>) k)
@@ -294,6 +518,7 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
      */
     @API(status = API.Status.STABLE)
     public @NonNull CommandInput rawInput() {
+        this.checkNotReleased();
         return this.getOrDefault("__raw_input__", CommandInput.empty()).copy();
     }
 
@@ -305,11 +530,92 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
      */
     @API(status = API.Status.MAINTAINED)
     public @NonNull ParsingContext<C> createParsingContext(final @NonNull CommandComponent<C> component) {
+        this.checkNotReleased();
         final ParsingContext<C> parsingContext = new ParsingContext<>(component);
-        this.parsingContexts.add(parsingContext);
+        this.storeParsingContext(parsingContext);
         return parsingContext;
     }
 
+    /**
+     * Marks the start of the parsing of a component.
+     * <p>
+     * No parsing context is created until the parsing is completed using
+     * {@link #completeParsing(CommandComponent, long, CommandInput, CommandInput, boolean)}, so that attempts that are not
+     * recorded do not allocate. Whether the attempt is timed is decided here, and the decision is carried by the
+     * returned start time.
+     *
+     * @return the start time, or {@link #UNTIMED} if the attempt is not timed
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    public long beginParsing() {
+        if (this.captureParseDetails || this.commandMetrics.enabled()) {
+            return System.nanoTime();
+        }
+        return UNTIMED;
+    }
+
+    /**
+     * Completes the parsing of the given {@code component}.
+     * <p>
+     * The timing and consumed input are only recorded when {@link ManagerSetting#LIGHTWEIGHT_PARSING_CONTEXTS} is disabled,
+     * and failed attempts are only stored when {@link ManagerSetting#DETAILED_PARSE_TRACING} is enabled. The attempt is
+     * only reported to the {@link CommandMetrics} if it was timed.
+     *
+     * @param component the component that was parsed
+     * @param startTime the start time returned by {@link #beginParsing()}
+     * @param original  the input before the component was parsed
+     * @param postParse the input after the component was parsed
+     * @param success   whether the component was parsed successfully
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    public void completeParsing(
+            final @NonNull CommandComponent<C> component,
+            final long startTime,
+            final @NonNull CommandInput original,
+            final @NonNull CommandInput postParse,
+            final boolean success
+    ) {
+        final long endTime = startTime == UNTIMED ? UNTIMED : System.nanoTime();
+        if (endTime != UNTIMED && this.commandMetrics.enabled()) {
+            this.commandMetrics.componentParsed(this, component, success, endTime - startTime);
+        }
+        if (!success && !this.detailedParseTracing) {
+            return;
+        }
+        final ParsingContext<C> parsingContext = new ParsingContext<>(component);
+        if (this.captureParseDetails) {
+            parsingContext.timing(startTime, endTime);
+            parsingContext.consumedInput(original, postParse);
+        }
+        parsingContext.success(success);
+        this.storeParsingContext(parsingContext);
+    }
+
+    private void storeParsingContext(final @NonNull ParsingContext<C> parsingContext) {
+        if (this.parsingContextCount == this.parsingContexts.length) {
+            this.parsingContexts = Arrays.copyOf(this.parsingContexts, this.parsingContextCount * 2);
+        }
+        this.parsingContexts[this.parsingContextCount++] = parsingContext;
+    }
+
+    /**
+     * Returns an empty list that the command tree uses to collect the components that have been parsed so far.
+     * <p>
+     * The list is owned by this context and is reused when the context is recycled by a {@link CommandContextPool}, which
+     * means that it may not be retained beyond the parsing of the command.
+     *
+     * @return the empty list
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    public @NonNull List<@NonNull CommandComponent<C>> parsedComponentBuffer() {
+        if (this.parsedComponents == null) {
+            this.parsedComponents = new ArrayList<>(this.parsingContexts.length);
+        } else {
+            this.parsedComponents.clear();
+        }
+        return this.parsedComponents;
+    }
+
     /**
      * Returns the context for the given component.
      *
@@ -318,10 +624,13 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
      */
     @API(status = API.Status.MAINTAINED)
     public @NonNull ParsingContext<C> parsingContext(final @NonNull CommandComponent<C> component) {
-        return this.parsingContexts.stream()
-                .filter(context -> context.component().equals(component))
-                .findFirst()
-                .orElseThrow(NoSuchElementException::new);
+        this.checkNotReleased();
+        for (int i = 0; i < this.parsingContextCount; i++) {
+            if (this.parsingContexts[i].component().equals(component)) {
+                return this.parsingContexts[i];
+            }
+        }
+        throw new NoSuchElementException();
     }
 
     /**
@@ -332,7 +641,15 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
      */
     @API(status = API.Status.MAINTAINED)
     public @NonNull ParsingContext<C> parsingContext(final int position) {
-        return this.parsingContexts.get(position);
+        this.checkNotReleased();
+        if (position < 0 || position >= this.parsingContextCount) {
+            throw new IndexOutOfBoundsException(String.format(
+                    "Index: %d, Size: %d",
+                    position,
+                    this.parsingContextCount
+            ));
+        }
+        return this.parsingContexts[position];
     }
 
     /**
@@ -343,10 +660,13 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
      */
     @API(status = API.Status.MAINTAINED)
     public @NonNull ParsingContext<C> parsingContext(final String name) {
-        return this.parsingContexts.stream()
-                .filter(context -> context.component().name().equals(name))
-                .findFirst()
-                .orElseThrow(NoSuchElementException::new);
+        this.checkNotReleased();
+        for (int i = 0; i < this.parsingContextCount; i++) {
+            if (this.parsingContexts[i].component().name().equals(name)) {
+                return this.parsingContexts[i];
+            }
+        }
+        throw new NoSuchElementException();
     }
 
     /**
@@ -356,7 +676,8 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
      */
     @API(status = API.Status.MAINTAINED)
     public @NonNull List<@NonNull ParsingContext<@NonNull C>> parsingContexts() {
-        return Collections.unmodifiableList(this.parsingContexts);
+        this.checkNotReleased();
+        return Collections.unmodifiableList(Arrays.asList(this.parsingContexts).subList(0, this.parsingContextCount));
     }
 
     /**
@@ -365,6 +686,7 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
      * @return flag context
      */
     public @NonNull FlagContext flags() {
+        this.checkNotReleased();
         return this.flagContext;
     }
 
@@ -375,6 +697,7 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
      * @return the current command
      */
     public @NonNull Command<C> command() {
+        this.checkNotReleased();
         if (this.currentCommand == null) {
             throw new IllegalStateException("The current command is only available once a command has been parsed. Mainly from "
                     + "execution handlers and post processors.");
@@ -428,8 +751,73 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
         return this.commandManager.parameterInjectorRegistry().getInjectable(type, this, AnnotationAccessor.empty());
     }
 
+    /**
+     * Clears the state of this context so that it can be reused by a {@link CommandContextPool}.
+     *
+     * @param poison whether the context should be marked as released, making any further access fail
+     */
+    void release(final boolean poison) {
+        this.internalStorage.clear();
+        this.flagContext.clear();
+        Arrays.fill(this.parsingContexts, 0, this.parsingContextCount, null);
+        this.parsingContextCount = 0;
+        this.currentCommand = null;
+        this.commandSender = null;
+        synchronized (this) {
+            this.cancelled = false;
+            this.cancellables = null;
+        }
+        this.hasDeadline = false;
+        this.deadlineTimeout = null;
+        if (this.parsedComponents != null) {
+            this.parsedComponents.clear();
+        }
+        this.released = poison;
+    }
+
+    /**
+     * Returns whether this context may be returned to a {@link CommandContextPool}, which is not the case once it has been
+     * {@link #abandon() abandoned}.
+     *
+     * @return whether the context may be pooled
+     */
+    boolean poolable() {
+        return this.poolable;
+    }
+
+    /**
+     * Prepares a new or recycled context for use by the given {@code commandSender}, initializing all state that is
+     * derived from the current configuration of the command manager.
+     *
+     * @param commandSender the sender of the command
+     */
+    void reuse(final @NonNull C commandSender) {
+        this.commandSender = commandSender;
+        this.captionRegistry = this.commandManager.captionRegistry();
+        this.captureParseDetails = !this.commandManager.settings().get(ManagerSetting.LIGHTWEIGHT_PARSING_CONTEXTS);
+        this.detailedParseTracing = this.commandManager.settings().get(ManagerSetting.DETAILED_PARSE_TRACING);
+        this.commandMetrics = this.commandManager.commandMetrics();
+        this.deadline(this.commandManager.commandTimeout());
+    }
+
+    /**
+     * Makes any access to this context fail once it has been released with {@code poison} set. The check is only performed
+     * for contexts that have enabled it, so that contexts that are not pooled do not pay for it.
+     */
+    void enableReleaseChecks() {
+        this.releaseChecks = true;
+    }
+
+    private void checkNotReleased() {
+        if (this.releaseChecks && this.released) {
+            throw new IllegalStateException("The command context has been released back to the context pool. "
+                    + "Pooled contexts may not be used after the command result has completed.");
+        }
+    }
+
     @Override
     public final @NonNull Map<CloudKey<?>, ? extends @NonNull Object> all() {
+        this.checkNotReleased();
         return Collections.unmodifiableMap(this.internalStorage);
     }
 }
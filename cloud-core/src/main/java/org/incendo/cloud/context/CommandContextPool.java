@@ -0,0 +1,109 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.context;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Bounded pool of reusable {@link CommandContext} instances used for pooled command execution.
+ * <p>
+ * Contexts are created by the configured {@link CommandContextFactory} and are cleared when they are released, which
+ * means that they may not be accessed after they have been returned to the pool. This includes the context that is exposed
+ * through the command result. When {@code poisonReleased} is enabled, released contexts are never handed out again and any
+ * access to them fails with an {@link IllegalStateException}, which can be used to detect use-after-release.
+ *
+ * @param <C> command sender type
+ * @see org.incendo.cloud.setting.ManagerSetting#POOLED_EXECUTION
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+public final class CommandContextPool<C> {
+
+    /**
+     * The default maximum number of idle contexts kept by the pool.
+     */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private final CommandContextFactory<C> commandContextFactory;
+    private final BlockingQueue<CommandContext<C>> idleContexts;
+
+    /**
+     * Creates a new context pool.
+     *
+     * @param commandContextFactory the factory used to create new contexts
+     * @param capacity              the maximum number of idle contexts to keep
+     */
+    public CommandContextPool(final @NonNull CommandContextFactory<C> commandContextFactory, final int capacity) {
+        this.commandContextFactory = commandContextFactory;
+        this.idleContexts = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Returns an idle context for the given {@code sender}, or creates a new context if the pool is empty.
+     *
+     * @param sender       the command sender
+     * @param safetyChecks whether accessing the context after it has been released with {@code poisonReleased} should fail
+     * @return the context
+     */
+    public @NonNull CommandContext<C> acquire(final @NonNull C sender, final boolean safetyChecks) {
+        CommandContext<C> context = this.idleContexts.poll();
+        if (context == null) {
+            context = this.commandContextFactory.create(false /* suggestions */, sender);
+        } else {
+            context.reuse(sender);
+        }
+        if (safetyChecks) {
+            context.enableReleaseChecks();
+        }
+        return context;
+    }
+
+    /**
+     * Clears the given {@code context} and returns it to the pool. Contexts that have been {@link CommandContext#abandon()
+     * abandoned} by a parser that timed out are dropped without being cleared, as the parser may still write to them.
+     *
+     * @param context        the context to release
+     * @param poisonReleased whether the context should be discarded and marked as released instead of being reused
+     */
+    public void release(final @NonNull CommandContext<C> context, final boolean poisonReleased) {
+        if (!context.poolable()) {
+            return;
+        }
+        context.release(poisonReleased);
+        if (!poisonReleased) {
+            this.idleContexts.offer(context);
+        }
+    }
+
+    /**
+     * Returns the number of idle contexts that are currently held by the pool.
+     *
+     * @return the number of idle contexts
+     */
+    public int idleCount() {
+        return this.idleContexts.size();
+    }
+}
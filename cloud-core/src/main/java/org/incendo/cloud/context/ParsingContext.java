@@ -35,6 +35,7 @@ public final class ParsingContext<C> {
 
     private final CommandComponent<@NonNull C> component;
     private @Nullable String consumed = null;
+    private @Nullable String consumedSource = null;
     private long startTime = -1;
     private long endTime = -1;
     private int consumedFrom = -1;
@@ -90,6 +91,11 @@ public final class ParsingContext<C> {
         this.endTime = System.nanoTime();
     }
 
+    void timing(final long startTime, final long endTime) {
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
     long startTime() {
         return this.startTime;
     }
@@ -119,18 +125,31 @@ public final class ParsingContext<C> {
 
     /**
      * Store information about consumed input post-parsing.
+     * <p>
+     * The consumed string is not extracted until it is requested through {@link #consumedInput()}.
      *
      * @param original pre-parse input
      * @param postParse post-parse input
      */
     @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
     public void consumedInput(final @NonNull CommandInput original, final @NonNull CommandInput postParse) {
-        if (this.consumed != null) {
+        if (this.consumedFrom >= 0) {
             throw new IllegalStateException();
         }
-        this.consumed = original.difference(postParse);
+        final String input = original.input();
         this.consumedFrom = original.cursor();
-        this.consumedTo = original.cursor() + this.consumed.length();
+        if (!input.equals(postParse.input())) {
+            // If the inputs are different then there's nothing to compare.
+            this.consumed = input;
+            this.consumedTo = this.consumedFrom + input.length();
+            return;
+        }
+        int consumedTo = postParse.cursor();
+        if (consumedTo > this.consumedFrom && input.charAt(consumedTo - 1) == ' ') {
+            consumedTo--;
+        }
+        this.consumedSource = input;
+        this.consumedTo = consumedTo;
     }
 
     /**
@@ -140,6 +159,10 @@ public final class ParsingContext<C> {
      */
     @API(status = API.Status.STABLE)
     public @NonNull String consumedInput() {
+        if (this.consumed == null && this.consumedSource != null) {
+            this.consumed = this.consumedSource.substring(this.consumedFrom, this.consumedTo);
+            this.consumedSource = null;
+        }
         return Objects.requireNonNull(this.consumed);
     }
 
@@ -150,10 +173,10 @@ public final class ParsingContext<C> {
      * @return the exact alias, or {@code null}
      */
     public @Nullable String exactAlias() {
-        if (!this.success || this.component.type() != CommandComponent.ComponentType.LITERAL) {
+        if (!this.success || this.component.type() != CommandComponent.ComponentType.LITERAL || this.consumedFrom < 0) {
             return null;
         }
-        return this.consumed;
+        return this.consumedInput();
     }
 
     /**
@@ -0,0 +1,100 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.exception;
+
+import java.time.Duration;
+import java.util.List;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.component.CommandComponent;
+
+/**
+ * Exception thrown when parsing a component did not complete within the
+ * {@link CommandComponent#timeout() timeout of the component}, or before the
+ * {@link org.incendo.cloud.context.CommandContext#remainingTime() deadline of the command}
+ */
+@SuppressWarnings({"unused", "serial"})
+@API(status = API.Status.EXPERIMENTAL)
+public class ComponentTimeoutException extends CommandParseException {
+
+    private final CommandComponent<?> component;
+    private final Duration timeout;
+
+    /**
+     * Constructs a new component timeout exception
+     *
+     * @param component     the component that timed out
+     * @param timeout       the configured limit that was exceeded, which is the timeout of either the component or the
+     *                      command
+     * @param commandSender command sender
+     * @param currentChain  chain leading up to the exception
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    public ComponentTimeoutException(
+            final @NonNull CommandComponent<?> component,
+            final @NonNull Duration timeout,
+            final @NonNull Object commandSender,
+            final @NonNull List<@NonNull CommandComponent<?>> currentChain
+    ) {
+        super(commandSender, currentChain);
+        this.component = component;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public final String getMessage() {
+        return String.format("Parsing of component '%s' did not complete within %d ms", this.component.name(),
+                this.timeout.toMillis());
+    }
+
+    /**
+     * Returns the component that timed out
+     *
+     * @return the component
+     */
+    public @NonNull CommandComponent<?> component() {
+        return this.component;
+    }
+
+    /**
+     * Returns the configured limit that was exceeded. This is the {@link CommandComponent#timeout() timeout of the component}
+     * if it was the tighter bound, and otherwise the {@link org.incendo.cloud.context.CommandContext#deadlineTimeout() timeout
+     * of the command}, even if less time remained when the component started parsing.
+     *
+     * @return the timeout
+     */
+    public @NonNull Duration timeout() {
+        return this.timeout;
+    }
+
+    @Override
+    public final synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+
+    @Override
+    public final synchronized Throwable initCause(final Throwable cause) {
+        return this;
+    }
+}
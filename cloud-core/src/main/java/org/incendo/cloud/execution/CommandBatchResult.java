@@ -0,0 +1,91 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.execution;
+
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.immutables.value.Value;
+import org.incendo.cloud.internal.ImmutableImpl;
+
+/**
+ * The outcome of a single {@link CommandRequest} that was executed as part of a batch.
+ *
+ * @param <C> command sender type
+ * @see CommandExecutor#executeBatch(java.util.Collection)
+ */
+@ImmutableImpl
+@Value.Immutable
+@API(status = API.Status.EXPERIMENTAL)
+public interface CommandBatchResult<C> {
+
+    /**
+     * Creates a new batch result.
+     *
+     * @param <C>     command sender type
+     * @param request the request
+     * @param result  the result of the command, or {@code null}
+     * @param failure the failure of the command, or {@code null}
+     * @return the batch result
+     */
+    static <C> @NonNull CommandBatchResult<C> of(
+            final @NonNull CommandRequest<C> request,
+            final @Nullable CommandResult<C> result,
+            final @Nullable Throwable failure
+    ) {
+        return CommandBatchResultImpl.of(request, result, failure);
+    }
+
+    /**
+     * Returns the request that this is the outcome of.
+     *
+     * @return the request
+     */
+    @NonNull CommandRequest<C> request();
+
+    /**
+     * Returns the result of the command. This is {@code null} if the command failed, or if it was filtered out by a
+     * preprocessor or postprocessor.
+     *
+     * @return the result, or {@code null}
+     */
+    @Nullable CommandResult<C> result();
+
+    /**
+     * Returns the exception that the command failed with, after it has been handled by the
+     * {@link org.incendo.cloud.exception.handling.ExceptionController}.
+     *
+     * @return the failure, or {@code null} if the command did not fail
+     */
+    @Nullable Throwable failure();
+
+    /**
+     * Returns whether the command completed without failing.
+     *
+     * @return {@code true} if the command did not fail, else {@code false}
+     */
+    default boolean successful() {
+        return this.failure() == null;
+    }
+}
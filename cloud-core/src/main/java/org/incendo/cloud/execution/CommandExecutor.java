@@ -23,12 +23,16 @@
 //
 package org.incendo.cloud.execution;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.component.CommandComponent;
 import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.exception.handling.ExceptionController;
 import org.incendo.cloud.execution.postprocessor.CommandPostprocessor;
 import org.incendo.cloud.execution.preprocessor.CommandPreprocessor;
 
@@ -91,6 +95,46 @@ public interface CommandExecutor<C> {
             @NonNull Consumer<CommandContext<C>> contextConsumer
     );
 
+    /**
+     * Executes the given {@code requests} and returns a future that completes with the outcome of every request, in the
+     * order of the given collection.
+     *
+     * <p>Requests are started in the order of the given collection. Whether a request completes before the next one is
+     * started depends on the {@link ExecutionCoordinator}, exactly as if {@link #executeCommand(Object, String)} had been
+     * called for each request in turn.</p>
+     *
+     * <p>A failing request does not fail the batch. Instead, the failure is handled by the
+     * {@link org.incendo.cloud.exception.handling.ExceptionController} like for {@link #executeCommand(Object, String)}
+     * and then reported by the corresponding {@link CommandBatchResult#failure()}.</p>
+     *
+     * <p>The default implementation executes every request separately. The executor of the command manager resolves the
+     * root node once for all requests that start with the same literal.</p>
+     *
+     * @param requests the requests to execute
+     * @return future that completes with the outcomes of the requests
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    @SuppressWarnings("unchecked")
+    default @NonNull CompletableFuture<@NonNull List<@NonNull CommandBatchResult<C>>> executeBatch(
+            final @NonNull Collection<@NonNull CommandRequest<C>> requests
+    ) {
+        final List<CommandRequest<C>> ordered = new ArrayList<>(requests);
+        final CompletableFuture<CommandBatchResult<C>>[] futures = new CompletableFuture[ordered.size()];
+        for (int index = 0; index < ordered.size(); index++) {
+            final CommandRequest<C> request = ordered.get(index);
+            futures[index] = this.executeCommand(request.sender(), request.input()).handle((result, throwable) -> throwable == null
+                    ? CommandBatchResult.of(request, result, null)
+                    : CommandBatchResult.of(request, null, ExceptionController.unwrapCompletionException(throwable)));
+        }
+        return CompletableFuture.allOf(futures).thenApply($ -> {
+            final List<CommandBatchResult<C>> results = new ArrayList<>(futures.length);
+            for (final CompletableFuture<CommandBatchResult<C>> future : futures) {
+                results.add(future.join());
+            }
+            return results;
+        });
+    }
+
     /**
      * Returns the command execution coordinator.
      *
@@ -0,0 +1,66 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.execution;
+
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.immutables.value.Value;
+import org.incendo.cloud.internal.ImmutableImpl;
+
+/**
+ * A request to execute a command on behalf of a sender, used with {@link CommandExecutor#executeBatch(java.util.Collection)}.
+ *
+ * @param <C> command sender type
+ */
+@ImmutableImpl
+@Value.Immutable
+@API(status = API.Status.EXPERIMENTAL)
+public interface CommandRequest<C> {
+
+    /**
+     * Creates a new request.
+     *
+     * @param <C>    command sender type
+     * @param sender the sender of the command
+     * @param input  the input provided by the sender
+     * @return the request
+     */
+    static <C> @NonNull CommandRequest<C> of(final @NonNull C sender, final @NonNull String input) {
+        return CommandRequestImpl.of(sender, input);
+    }
+
+    /**
+     * Returns the sender of the command.
+     *
+     * @return the sender
+     */
+    @NonNull C sender();
+
+    /**
+     * Returns the input provided by the sender.
+     *
+     * @return the input
+     */
+    @NonNull String input();
+}
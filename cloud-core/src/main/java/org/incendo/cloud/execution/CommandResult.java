@@ -52,6 +52,9 @@ public interface CommandResult<C> {
 
     /**
      * Returns the command context.
+     * <p>
+     * When {@link org.incendo.cloud.setting.ManagerSetting#POOLED_EXECUTION} is enabled, the context has already been
+     * returned to the context pool and may not be used.
      *
      * @return the command context
      */
@@ -0,0 +1,432 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.execution;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.common.returnsreceiver.qual.This;
+import org.incendo.cloud.exception.handling.ExceptionController;
+import org.incendo.cloud.util.CompletableFutures;
+
+/**
+ * Executes scripts of commands, one command per line, using a {@link CommandExecutor}.
+ * <p>
+ * Each script is read by a single task of the {@link Builder#readerExecutor(Executor) reader executor}, which starts the
+ * commands and waits while {@link Builder#maxInFlight(int)} commands are in flight, so that scripts are never loaded
+ * completely. Blank lines and lines starting with {@code #} are skipped. Failing commands are handled by the
+ * {@link ExceptionController} like any other command, and do not stop the script.
+ *
+ * @param <C> command sender type
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class CommandScriptRunner<C> {
+
+    private final CommandExecutor<C> commandExecutor;
+    private final Ordering ordering;
+    private final int maxInFlight;
+    private final Consumer<@NonNull ScriptCommandResult<C>> listener;
+    private final Executor readerExecutor;
+
+    private CommandScriptRunner(final @NonNull Builder<C> builder) {
+        this.commandExecutor = builder.commandExecutor;
+        this.ordering = builder.ordering;
+        this.maxInFlight = this.ordering == Ordering.SEQUENTIAL ? 1 : builder.maxInFlight;
+        this.listener = builder.listener;
+        this.readerExecutor = builder.readerExecutor;
+    }
+
+    /**
+     * Returns a new builder for a runner that executes commands using the given {@code commandExecutor}.
+     *
+     * @param <C>             command sender type
+     * @param commandExecutor the command executor
+     * @return the builder
+     */
+    public static <C> @NonNull Builder<C> builder(final @NonNull CommandExecutor<C> commandExecutor) {
+        return new Builder<>(commandExecutor);
+    }
+
+    /**
+     * Executes the script in the given file on behalf of the {@code sender}. The file is read using UTF-8 and is closed
+     * once the script has completed.
+     *
+     * @param sender the sender of the commands
+     * @param path   the script file
+     * @return future that completes with the summary of the script
+     * @throws IOException if the file cannot be opened
+     */
+    public @NonNull CompletableFuture<@NonNull Summary> run(final @NonNull C sender, final @NonNull Path path) throws IOException {
+        final BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+        return this.run(reader, line -> CommandRequest.of(sender, line)).whenComplete(($, $$) -> {
+            try {
+                reader.close();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Executes the script read from the given {@code reader} on behalf of the {@code sender}. The reader is not closed.
+     *
+     * @param sender the sender of the commands
+     * @param reader the script
+     * @return future that completes with the summary of the script
+     */
+    public @NonNull CompletableFuture<@NonNull Summary> run(final @NonNull C sender, final @NonNull Reader reader) {
+        return this.run(reader, line -> CommandRequest.of(sender, line));
+    }
+
+    /**
+     * Executes the script read from the given {@code reader}, using the {@code mapper} to turn each line into a
+     * {@link CommandRequest}. Lines that are mapped to {@code null} are skipped. The reader is not closed.
+     * <p>
+     * The future completes exceptionally once the commands that are in flight have completed if the script cannot be
+     * read, in which case the exception is an {@link UncheckedIOException}, or if the {@code mapper} or the
+     * {@link Builder#listener(Consumer) listener} throws. No further lines are read after such a failure.
+     *
+     * @param reader the script
+     * @param mapper function that maps lines to requests
+     * @return future that completes with the summary of the script
+     */
+    public @NonNull CompletableFuture<@NonNull Summary> run(
+            final @NonNull Reader reader,
+            final @NonNull Function<@NonNull String, @Nullable CommandRequest<C>> mapper
+    ) {
+        final Execution execution = new Execution(
+                reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader),
+                mapper
+        );
+        this.readerExecutor.execute(execution);
+        return execution.result;
+    }
+
+    /**
+     * The order in which the commands of a script are executed.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public enum Ordering {
+        /**
+         * Each command is started once the previous command has completed.
+         */
+        SEQUENTIAL,
+        /**
+         * Commands of the same sender are executed sequentially, and commands of different senders are executed
+         * concurrently.
+         */
+        PER_SENDER,
+        /**
+         * Commands are executed concurrently.
+         */
+        UNORDERED
+    }
+
+    /**
+     * The outcome of a single command of a script.
+     *
+     * @param <C> command sender type
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public static final class ScriptCommandResult<C> {
+
+        private final long line;
+        private final CommandBatchResult<C> result;
+
+        private ScriptCommandResult(final long line, final @NonNull CommandBatchResult<C> result) {
+            this.line = line;
+            this.result = result;
+        }
+
+        /**
+         * Returns the line number of the command, starting at 1.
+         *
+         * @return the line number
+         */
+        public long line() {
+            return this.line;
+        }
+
+        /**
+         * Returns the outcome of the command.
+         *
+         * @return the outcome
+         */
+        public @NonNull CommandBatchResult<C> result() {
+            return this.result;
+        }
+    }
+
+    /**
+     * Summary of an executed script.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public static final class Summary {
+
+        private final long executed;
+        private final long failed;
+
+        private Summary(final long executed, final long failed) {
+            this.executed = executed;
+            this.failed = failed;
+        }
+
+        /**
+         * Returns the number of commands that were executed, including failed commands.
+         *
+         * @return the number of executed commands
+         */
+        public long executed() {
+            return this.executed;
+        }
+
+        /**
+         * Returns the number of commands that failed.
+         *
+         * @return the number of failed commands
+         */
+        public long failed() {
+            return this.failed;
+        }
+    }
+
+    /**
+     * Builder for {@link CommandScriptRunner}.
+     *
+     * @param <C> command sender type
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public static final class Builder<C> {
+
+        private final CommandExecutor<C> commandExecutor;
+        private Ordering ordering = Ordering.SEQUENTIAL;
+        private int maxInFlight = 16;
+        private Consumer<@NonNull ScriptCommandResult<C>> listener = result -> {};
+        private Executor readerExecutor = Builder::startReaderThread;
+
+        private Builder(final @NonNull CommandExecutor<C> commandExecutor) {
+            this.commandExecutor = Objects.requireNonNull(commandExecutor, "commandExecutor");
+        }
+
+        /**
+         * Sets the order in which commands are executed. Defaults to {@link Ordering#SEQUENTIAL}.
+         *
+         * @param ordering the ordering
+         * @return this builder
+         */
+        public @This @NonNull Builder<C> ordering(final @NonNull Ordering ordering) {
+            this.ordering = Objects.requireNonNull(ordering, "ordering");
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of commands that may be in flight at once. No further lines are read while the limit
+         * is reached. This has no effect when using {@link Ordering#SEQUENTIAL}. Defaults to {@code 16}.
+         *
+         * @param maxInFlight the maximum number of commands in flight, must be positive
+         * @return this builder
+         */
+        public @This @NonNull Builder<C> maxInFlight(final int maxInFlight) {
+            if (maxInFlight < 1) {
+                throw new IllegalArgumentException("maxInFlight must be positive: " + maxInFlight);
+            }
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        /**
+         * Sets the listener that is notified of the outcome of every command, for example to report progress. The
+         * listener is invoked on the thread that completes the command. If it throws, then no further commands are
+         * started and the script fails with the exception.
+         *
+         * @param listener the listener
+         * @return this builder
+         */
+        public @This @NonNull Builder<C> listener(final @NonNull Consumer<@NonNull ScriptCommandResult<C>> listener) {
+            this.listener = Objects.requireNonNull(listener, "listener");
+            return this;
+        }
+
+        /**
+         * Sets the executor that runs the task that reads each script and starts its commands. The task blocks while the
+         * maximum number of commands is in flight, and until the last command has completed. Defaults to starting a new
+         * daemon thread for each script.
+         *
+         * @param readerExecutor the reader executor
+         * @return this builder
+         */
+        public @This @NonNull Builder<C> readerExecutor(final @NonNull Executor readerExecutor) {
+            this.readerExecutor = Objects.requireNonNull(readerExecutor, "readerExecutor");
+            return this;
+        }
+
+        private static void startReaderThread(final @NonNull Runnable task) {
+            final Thread thread = new Thread(task, "cloud-script-runner");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        /**
+         * Builds the runner.
+         *
+         * @return the runner
+         */
+        public @NonNull CommandScriptRunner<C> build() {
+            return new CommandScriptRunner<>(this);
+        }
+    }
+
+    private final class Execution implements Runnable {
+
+        private final CompletableFuture<@NonNull Summary> result = new CompletableFuture<>();
+        private final Map<C, CompletableFuture<?>> senderTails = new ConcurrentHashMap<>();
+        private final Semaphore permits = new Semaphore(CommandScriptRunner.this.maxInFlight);
+        private final AtomicLong executed = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicReference<@Nullable RuntimeException> listenerFailure = new AtomicReference<>();
+        private final BufferedReader reader;
+        private final Function<@NonNull String, @Nullable CommandRequest<C>> mapper;
+
+        private Execution(
+                final @NonNull BufferedReader reader,
+                final @NonNull Function<@NonNull String, @Nullable CommandRequest<C>> mapper
+        ) {
+            this.reader = reader;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void run() {
+            Throwable failure = null;
+            try {
+                this.readScript();
+            } catch (final IOException e) {
+                failure = new UncheckedIOException(e);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = e;
+            } catch (final RuntimeException e) {
+                failure = e;
+            }
+            // Wait for the commands that are still in flight
+            this.permits.acquireUninterruptibly(CommandScriptRunner.this.maxInFlight);
+
+            final RuntimeException listenerFailure = this.listenerFailure.get();
+            if (failure == null) {
+                failure = listenerFailure;
+            } else if (listenerFailure != null) {
+                failure.addSuppressed(listenerFailure);
+            }
+            if (failure != null) {
+                this.result.completeExceptionally(failure);
+            } else {
+                this.result.complete(new Summary(this.executed.get(), this.failed.get()));
+            }
+        }
+
+        private void readScript() throws IOException, InterruptedException {
+            long line = 0;
+            String next;
+            while (this.listenerFailure.get() == null && (next = this.reader.readLine()) != null) {
+                line++;
+                final String trimmed = next.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                    continue;
+                }
+                final CommandRequest<C> request = this.mapper.apply(trimmed);
+                if (request == null) {
+                    continue;
+                }
+                this.permits.acquire();
+                if (this.listenerFailure.get() != null) {
+                    this.permits.release();
+                    break;
+                }
+                this.start(line, request);
+            }
+        }
+
+        private void start(final long line, final @NonNull CommandRequest<C> request) {
+            final CompletableFuture<CommandBatchResult<C>> future;
+            if (CommandScriptRunner.this.ordering == Ordering.PER_SENDER) {
+                final CompletableFuture<CommandBatchResult<C>> tail = new CompletableFuture<>();
+                final CompletableFuture<?> previous = this.senderTails.put(request.sender(), tail);
+                future = (previous == null ? CompletableFuture.completedFuture(null) : previous)
+                        .handle(($, $$) -> null)
+                        .thenCompose($ -> this.execute(request));
+                future.whenComplete((result, $) -> {
+                    this.senderTails.remove(request.sender(), tail);
+                    tail.complete(result);
+                });
+            } else {
+                future = this.execute(request);
+            }
+            future.thenAccept(result -> {
+                this.executed.incrementAndGet();
+                if (!result.successful()) {
+                    this.failed.incrementAndGet();
+                }
+                try {
+                    CommandScriptRunner.this.listener.accept(new ScriptCommandResult<>(line, result));
+                } catch (final RuntimeException e) {
+                    final RuntimeException firstFailure = this.listenerFailure.updateAndGet(first -> first == null ? e : first);
+                    if (firstFailure != e) {
+                        firstFailure.addSuppressed(e);
+                    }
+                } finally {
+                    this.permits.release();
+                }
+            });
+        }
+
+        private @NonNull CompletableFuture<CommandBatchResult<C>> execute(final @NonNull CommandRequest<C> request) {
+            CompletableFuture<CommandResult<C>> future;
+            try {
+                future = CommandScriptRunner.this.commandExecutor.executeCommand(request.sender(), request.input());
+            } catch (final RuntimeException e) {
+                future = CompletableFutures.failedFuture(e);
+            }
+            return future.handle((result, throwable) -> throwable == null
+                    ? CommandBatchResult.of(request, result, null)
+                    : CommandBatchResult.of(request, null, ExceptionController.unwrapCompletionException(throwable)));
+        }
+    }
+}
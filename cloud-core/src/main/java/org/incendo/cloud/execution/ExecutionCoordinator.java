@@ -91,6 +91,22 @@ public interface ExecutionCoordinator<C> {
         return ExecutionCoordinator.<C>builder().commonPoolExecutor().build();
     }
 
+    /**
+     * Create a new execution coordinator that parses and executes each command on its own virtual thread, and that
+     * generates each set of suggestions on its own virtual thread. Blocking parsers, suggestion providers and command
+     * handlers therefore do not tie up platform threads.
+     *
+     * @param <C> command sender type
+     * @return new coordinator
+     * @throws UnsupportedOperationException if the runtime does not support virtual threads, which requires Java 21
+     * @see Builder#virtualThreadExecutor()
+     * @see Builder#threadPerCommand()
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    static <C> @Pure @NonNull ExecutionCoordinator<C> virtualThreadCoordinator() {
+        return ExecutionCoordinator.<C>builder().virtualThreadExecutor().threadPerCommand().build();
+    }
+
     /**
      * Coordinate the execution of a command and return the result
      *
@@ -171,6 +187,17 @@ public interface ExecutionCoordinator<C> {
             return this.executor(ForkJoinPool.commonPool());
         }
 
+        /**
+         * Sets {@link #executor(Executor)} to an executor that runs each task on a new virtual thread.
+         *
+         * @return this builder
+         * @throws UnsupportedOperationException if the runtime does not support virtual threads, which requires Java 21
+         */
+        @API(status = API.Status.EXPERIMENTAL)
+        default @This @NonNull Builder<C> virtualThreadExecutor() {
+            return this.executor(VirtualThreads.executor());
+        }
+
         /**
          * Sets the executor to run parsing logic on.
          *
@@ -213,6 +240,39 @@ public interface ExecutionCoordinator<C> {
          */
         @This @NonNull Builder<C> synchronizeExecution(boolean synchronizeExecution);
 
+        /**
+         * Sets the execution coordinator to parse and execute each command on a single task of the
+         * {@link #parsingExecutor(Executor) parsing executor}, and to generate each set of suggestions on a single task of
+         * the {@link #suggestionsExecutor(Executor) suggestions executor}.
+         *
+         * @return this builder
+         * @see #threadPerCommand(boolean)
+         */
+        @API(status = API.Status.EXPERIMENTAL)
+        default @This @NonNull Builder<C> threadPerCommand() {
+            return this.threadPerCommand(true);
+        }
+
+        /**
+         * Sets whether the execution coordinator should parse and execute each command on a single task of the
+         * {@link #parsingExecutor(Executor) parsing executor}, and generate each set of suggestions on a single task of the
+         * {@link #suggestionsExecutor(Executor) suggestions executor}.
+         * <p>
+         * Every stage of the pipeline runs on the thread of the task, which blocks while waiting for asynchronous parsers,
+         * suggestion providers and command handlers and then continues with the stages that follow them. The
+         * {@link #executionSchedulingExecutor(Executor) execution scheduling executor} is not used in this mode. This is
+         * intended to be combined with {@link #virtualThreadExecutor()}, where blocking is cheap.
+         * <p>
+         * The parsing and suggestions executors must be set explicitly in this mode, as the default non-scheduling executor
+         * would block the thread that submits the command. {@link #build()} throws an {@link IllegalStateException}
+         * otherwise.
+         *
+         * @param threadPerCommand whether each command should run on a single task
+         * @return this builder
+         */
+        @API(status = API.Status.EXPERIMENTAL)
+        @This @NonNull Builder<C> threadPerCommand(boolean threadPerCommand);
+
         /**
          * Creates a new {@link ExecutionCoordinator} from the current state of this builder.
          *
@@ -36,6 +36,7 @@ final class ExecutionCoordinatorBuilderImpl<C> implements ExecutionCoordinator.B
     private @Nullable Executor suggestionsExecutor;
     private @Nullable Executor executionSchedulingExecutor;
     private boolean synchronizeExecution = false;
+    private boolean threadPerCommand = false;
 
     @Override
     public ExecutionCoordinator.@NonNull Builder<C> parsingExecutor(final @NonNull Executor executor) {
@@ -64,8 +65,25 @@ final class ExecutionCoordinatorBuilderImpl<C> implements ExecutionCoordinator.B
         return this;
     }
 
+    @Override
+    public ExecutionCoordinator.@NonNull Builder<C> threadPerCommand(final boolean threadPerCommand) {
+        this.threadPerCommand = threadPerCommand;
+        return this;
+    }
+
     @Override
     public @NonNull ExecutionCoordinator<C> build() {
+        if (this.threadPerCommand) {
+            if (this.parsingExecutor == null || this.suggestionsExecutor == null) {
+                throw new IllegalStateException("threadPerCommand requires both a parsing and a suggestions executor, "
+                        + "as the tasks would otherwise block the calling thread");
+            }
+            return new ThreadPerCommandExecutionCoordinator<>(
+                    this.parsingExecutor,
+                    this.suggestionsExecutor,
+                    this.synchronizeExecution
+            );
+        }
         return new ExecutionCoordinatorImpl<>(
                 this.parsingExecutor,
                 this.suggestionsExecutor,
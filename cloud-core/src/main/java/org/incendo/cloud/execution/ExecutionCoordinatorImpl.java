@@ -35,6 +35,7 @@ import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.exception.CommandExecutionException;
 import org.incendo.cloud.exception.CommandParseException;
+import org.incendo.cloud.metrics.CommandMetrics;
 import org.incendo.cloud.services.State;
 import org.incendo.cloud.suggestion.Suggestion;
 import org.incendo.cloud.suggestion.SuggestionMapper;
@@ -95,12 +96,39 @@ final class ExecutionCoordinatorImpl<C> implements ExecutionCoordinator<C> {
             final @NonNull CommandContext<C> commandContext,
             final @NonNull CommandInput commandInput
     ) {
-        return commandTree.parse(commandContext, commandInput, this.parsingExecutor)
+        return this.coordinateExecution(
+                commandTree,
+                commandContext,
+                commandInput,
+                this.parsingExecutor,
+                this.defaultExecutionExecutor
+        );
+    }
+
+    /**
+     * Coordinates the execution of a command like {@link #coordinateExecution(CommandTree, CommandContext, CommandInput)},
+     * but schedules the parsing and execution logic to the given executors instead of the configured ones.
+     *
+     * @param commandTree       the command tree
+     * @param commandContext    the command context
+     * @param commandInput      the command input
+     * @param parsingExecutor   executor to schedule parsing logic to
+     * @param executionExecutor executor to schedule the command execution to
+     * @return future that completes with the result
+     */
+    @NonNull CompletableFuture<CommandResult<C>> coordinateExecution(
+            final @NonNull CommandTree<C> commandTree,
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull CommandInput commandInput,
+            final @NonNull Executor parsingExecutor,
+            final @NonNull Executor executionExecutor
+    ) {
+        return commandTree.parse(commandContext, commandInput, parsingExecutor)
                 .thenApplyAsync(command -> {
                     final boolean passedPostprocessing =
                             commandTree.commandManager().postprocessContext(commandContext, command) == State.ACCEPTED;
                     return Pair.of(command, passedPostprocessing);
-                }, this.parsingExecutor)
+                }, parsingExecutor)
                 .thenComposeAsync(preprocessResult -> {
                     if (!preprocessResult.second()) {
                         return CompletableFuture.completedFuture(CommandResult.of(commandContext));
@@ -114,6 +142,8 @@ final class ExecutionCoordinatorImpl<C> implements ExecutionCoordinator<C> {
                         }
                     }
 
+                    final CommandMetrics<C> metrics = commandTree.commandManager().commandMetrics();
+                    final long start = metrics.enabled() ? System.nanoTime() : 0L;
                     CompletableFuture<CommandResult<C>> commandResultFuture = null;
                     try {
                         commandResultFuture = preprocessResult.first()
@@ -136,6 +166,14 @@ final class ExecutionCoordinatorImpl<C> implements ExecutionCoordinator<C> {
                                     }
                                 })
                                 .thenApply(v -> CommandResult.of(commandContext));
+                        if (metrics.enabled()) {
+                            commandResultFuture.whenComplete((result, throwable) -> metrics.executed(
+                                    commandContext,
+                                    preprocessResult.first(),
+                                    throwable == null,
+                                    System.nanoTime() - start
+                            ));
+                        }
                     } finally {
                         if (this.executionLock != null) {
                             if (commandResultFuture != null) {
@@ -147,7 +185,7 @@ final class ExecutionCoordinatorImpl<C> implements ExecutionCoordinator<C> {
                     }
 
                     return commandResultFuture;
-                }, this.defaultExecutionExecutor);
+                }, executionExecutor);
     }
 
     @Override
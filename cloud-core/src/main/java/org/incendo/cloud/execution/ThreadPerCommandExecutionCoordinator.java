@@ -0,0 +1,162 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.execution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.CommandTree;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.suggestion.Suggestion;
+import org.incendo.cloud.suggestion.SuggestionMapper;
+import org.incendo.cloud.suggestion.Suggestions;
+
+/**
+ * Coordinator that parses and executes each command in its entirety on a single task of the parsing executor, and that
+ * generates each set of suggestions on a single task of the suggestions executor.
+ * <p>
+ * Every stage of the pipeline is scheduled to an executor that is bound to the thread of the task. The thread runs the
+ * scheduled stages itself, and waits while the futures of asynchronous parsers, suggestion providers and handlers are
+ * pending, so that the stages that follow them also run on the thread of the task. This is intended for executors where
+ * blocking is cheap, such as an executor of virtual threads.
+ *
+ * @param <C> command sender type
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+final class ThreadPerCommandExecutionCoordinator<C> implements ExecutionCoordinator<C> {
+
+    private final Executor parsingExecutor;
+    private final Executor suggestionsExecutor;
+    private final ExecutionCoordinatorImpl<C> inlineCoordinator;
+
+    ThreadPerCommandExecutionCoordinator(
+            final @NonNull Executor parsingExecutor,
+            final @NonNull Executor suggestionsExecutor,
+            final boolean syncExecution
+    ) {
+        this.parsingExecutor = parsingExecutor;
+        this.suggestionsExecutor = suggestionsExecutor;
+        this.inlineCoordinator = new ExecutionCoordinatorImpl<>(null, null, null, syncExecution);
+    }
+
+    @Override
+    public @NonNull CompletableFuture<CommandResult<C>> coordinateExecution(
+            final @NonNull CommandTree<C> commandTree,
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull CommandInput commandInput
+    ) {
+        return runOnTask(this.parsingExecutor, taskExecutor -> this.inlineCoordinator.coordinateExecution(
+                commandTree,
+                commandContext,
+                commandInput,
+                taskExecutor,
+                taskExecutor
+        ));
+    }
+
+    @Override
+    public <S extends Suggestion> @NonNull CompletableFuture<@NonNull Suggestions<C, S>> coordinateSuggestions(
+            final @NonNull CommandTree<C> commandTree,
+            final @NonNull CommandContext<C> context,
+            final @NonNull CommandInput commandInput,
+            final @NonNull SuggestionMapper<S> mapper
+    ) {
+        return runOnTask(
+                this.suggestionsExecutor,
+                taskExecutor -> commandTree.getSuggestions(context, commandInput, mapper, taskExecutor)
+        );
+    }
+
+    private static <T> @NonNull CompletableFuture<T> runOnTask(
+            final @NonNull Executor executor,
+            final @NonNull Function<@NonNull Executor, @NonNull CompletableFuture<T>> pipeline
+    ) {
+        final Supplier<CompletableFuture<T>> task = () -> {
+            final TaskExecutor taskExecutor = new TaskExecutor();
+            return taskExecutor.runUntilDone(pipeline.apply(taskExecutor));
+        };
+        return CompletableFuture.supplyAsync(task, executor).thenCompose(Function.identity());
+    }
+
+    /**
+     * Executor that is bound to the thread that created it. Tasks submitted from that thread run immediately, and tasks
+     * submitted from other threads are queued until the thread {@link #runUntilDone(CompletableFuture) runs} them.
+     */
+    private static final class TaskExecutor implements Executor {
+
+        private static final Runnable WAKE_UP = () -> {
+        };
+
+        private final Thread thread = Thread.currentThread();
+        private final BlockingQueue<Runnable> tasks = new LinkedBlockingQueue<>();
+        private boolean closed = false;
+
+        @Override
+        public void execute(final @NonNull Runnable task) {
+            if (Thread.currentThread() != this.thread) {
+                synchronized (this) {
+                    if (!this.closed) {
+                        this.tasks.add(task);
+                        return;
+                    }
+                }
+            }
+            task.run();
+        }
+
+        /**
+         * Runs the queued tasks on the current thread until the given {@code future} has completed. Tasks that are
+         * submitted afterwards, such as the remaining stages of abandoned parsers, run on the thread that submits them.
+         *
+         * @param <T>    result type
+         * @param future the future to wait for
+         * @return the given future
+         */
+        <T> @NonNull CompletableFuture<T> runUntilDone(final @NonNull CompletableFuture<T> future) {
+            future.whenComplete((result, throwable) -> this.execute(WAKE_UP));
+            try {
+                while (!future.isDone()) {
+                    this.tasks.take().run();
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            final List<Runnable> remainingTasks = new ArrayList<>();
+            synchronized (this) {
+                this.closed = true;
+                this.tasks.drainTo(remainingTasks);
+            }
+            remainingTasks.forEach(Runnable::run);
+            return future;
+        }
+    }
+}
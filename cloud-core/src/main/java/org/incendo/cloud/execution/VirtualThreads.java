@@ -0,0 +1,81 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.execution;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Access to virtual threads.
+ * <p>
+ * This is the Java 8 variant of the class. The multi-release jar contains a Java 21 variant that replaces it on runtimes that
+ * support virtual threads. This variant is still loaded on such runtimes when the jar has been repackaged without its
+ * versioned entries, and therefore looks up {@code Executors#newVirtualThreadPerTaskExecutor()} reflectively.
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+final class VirtualThreads {
+
+    private static final @Nullable Executor EXECUTOR = createExecutor();
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Returns an executor that runs each task on a new virtual thread.
+     *
+     * @return the executor
+     * @throws UnsupportedOperationException if virtual threads are not supported by the runtime
+     */
+    static @NonNull Executor executor() {
+        if (EXECUTOR == null) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or newer");
+        }
+        return EXECUTOR;
+    }
+
+    private static @Nullable Executor createExecutor() {
+        final MethodHandle factory;
+        try {
+            factory = MethodHandles.publicLookup().findStatic(
+                    Executors.class,
+                    "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class)
+            );
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+        try {
+            return (ExecutorService) factory.invokeExact();
+        } catch (final Throwable throwable) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.execution.preprocessor;
+
+import java.time.Duration;
+import java.util.Objects;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Rate at which a sender may execute a command, or request suggestions for it.
+ * <p>
+ * A sender may make up to {@link #permits()} requests at once, after which permits are restored evenly over the
+ * {@link #period()}.
+ *
+ * @see RateLimitingCommandPreprocessor
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class RateLimit {
+
+    private final int permits;
+    private final Duration period;
+
+    private RateLimit(final int permits, final @NonNull Duration period) {
+        this.permits = permits;
+        this.period = period;
+    }
+
+    /**
+     * Returns a rate limit that allows {@code permits} requests per {@code period}.
+     *
+     * @param permits the number of requests per period, must be positive
+     * @param period  the period, must be positive
+     * @return the rate limit
+     */
+    public static @NonNull RateLimit of(final int permits, final @NonNull Duration period) {
+        if (permits < 1) {
+            throw new IllegalArgumentException("permits must be positive: " + permits);
+        }
+        if (period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("period must be positive: " + period);
+        }
+        return new RateLimit(permits, period);
+    }
+
+    /**
+     * Returns a rate limit that allows a single request per {@code cooldown}.
+     *
+     * @param cooldown the cooldown, must be positive
+     * @return the rate limit
+     */
+    public static @NonNull RateLimit cooldown(final @NonNull Duration cooldown) {
+        return of(1, cooldown);
+    }
+
+    /**
+     * Returns the number of requests that may be made per {@link #period()}.
+     *
+     * @return the number of permits
+     */
+    public int permits() {
+        return this.permits;
+    }
+
+    /**
+     * Returns the period over which the {@link #permits()} are restored.
+     *
+     * @return the period
+     */
+    public @NonNull Duration period() {
+        return this.period;
+    }
+
+    /**
+     * Returns the time it takes to restore a single permit, in nanoseconds.
+     *
+     * @return the nanoseconds per permit
+     */
+    long nanosPerPermit() {
+        return Math.max(1L, this.period.toNanos() / this.permits);
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (object == null || this.getClass() != object.getClass()) {
+            return false;
+        }
+        final RateLimit that = (RateLimit) object;
+        return this.permits == that.permits && this.period.equals(that.period);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.permits, this.period);
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimit{permits=" + this.permits + ", period=" + this.period + '}';
+    }
+}
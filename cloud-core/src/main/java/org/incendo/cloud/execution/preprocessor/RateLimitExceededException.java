@@ -0,0 +1,102 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.execution.preprocessor;
+
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Exception thrown when a {@link RateLimitingCommandPreprocessor} rejects the execution of a command because the sender
+ * exceeded the {@link RateLimitingCommandPreprocessor#RATE_LIMIT rate limit} of the command. The exception is passed to the
+ * {@link org.incendo.cloud.exception.handling.ExceptionController}, so that the rejection can be reported to the sender.
+ */
+@SuppressWarnings("serial")
+@API(status = API.Status.EXPERIMENTAL)
+public final class RateLimitExceededException extends RuntimeException {
+
+    private final Object commandSender;
+    private final String command;
+    private final RateLimit rateLimit;
+
+    /**
+     * Constructs a new rate limit exceeded exception
+     *
+     * @param commandSender the sender that exceeded the rate limit
+     * @param command       the literals of the command that the rate limit applies to
+     * @param rateLimit     the rate limit that was exceeded
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    public RateLimitExceededException(
+            final @NonNull Object commandSender,
+            final @NonNull String command,
+            final @NonNull RateLimit rateLimit
+    ) {
+        this.commandSender = commandSender;
+        this.command = command;
+        this.rateLimit = rateLimit;
+    }
+
+    @Override
+    public String getMessage() {
+        return String.format("Rate limit of command '%s' exceeded (%s)", this.command, this.rateLimit);
+    }
+
+    /**
+     * Returns the sender that exceeded the rate limit
+     *
+     * @return the command sender
+     */
+    public @NonNull Object commandSender() {
+        return this.commandSender;
+    }
+
+    /**
+     * Returns the literals of the command that the rate limit applies to, separated by spaces. These are the literals
+     * that the {@link RateLimitingCommandPreprocessor} resolved from the input, starting with the root command.
+     *
+     * @return the command literals
+     */
+    public @NonNull String command() {
+        return this.command;
+    }
+
+    /**
+     * Returns the rate limit that was exceeded
+     *
+     * @return the rate limit
+     */
+    public @NonNull RateLimit rateLimit() {
+        return this.rateLimit;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+
+    @Override
+    public synchronized Throwable initCause(final Throwable cause) {
+        return this;
+    }
+}
@@ -0,0 +1,352 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.execution.preprocessor;
+
+import io.leangen.geantyref.TypeToken;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.cloud.Command;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.component.CommandComponent;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.internal.CommandNode;
+import org.incendo.cloud.key.CloudKey;
+import org.incendo.cloud.meta.CommandMeta;
+import org.incendo.cloud.services.type.ConsumerService;
+
+/**
+ * {@link CommandPreprocessor} that limits the rate at which senders may execute commands and request suggestions.
+ * <p>
+ * Limits are configured per command using the {@link #RATE_LIMIT} and {@link #SUGGESTION_RATE_LIMIT} meta keys. As
+ * preprocessors run before the command tree is consulted, the command is resolved by following the literals of the
+ * input from the root node. The limit applies to the deepest literal node that is reached, and is the strictest limit of
+ * the commands below that node. Commands that are only told apart by their arguments therefore share a limit. Rejected
+ * commands are not executed and fail with a {@link RateLimitExceededException}, which can be reported using an exception
+ * handler. Rejected suggestion requests return no suggestions. This includes suggestion requests that would resume from
+ * the previous request of the sender, as preprocessors run for every request.
+ * <p>
+ * Each sender has its own token bucket per resolved node and request type. Buckets are updated without locking, and
+ * buckets that are full again are evicted, so that the memory used is bounded by the number of recently active
+ * senders.
+ *
+ * @param <C> command sender type
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class RateLimitingCommandPreprocessor<C> implements CommandPreprocessor<C> {
+
+    /**
+     * Meta key that configures the rate at which a sender may execute a command.
+     */
+    public static final CloudKey<RateLimit> RATE_LIMIT = CloudKey.of("cloud:rate_limit", TypeToken.get(RateLimit.class));
+
+    /**
+     * Meta key that configures the rate at which a sender may request suggestions for a command.
+     */
+    public static final CloudKey<RateLimit> SUGGESTION_RATE_LIMIT = CloudKey.of(
+            "cloud:suggestion_rate_limit",
+            TypeToken.get(RateLimit.class)
+    );
+
+    private static final int EVICTION_INTERVAL = 256;
+
+    private final CommandManager<C> commandManager;
+    private final Map<BucketKey, Bucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicInteger acquisitions = new AtomicInteger();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private volatile @NonNull Limits limits = new Limits(-1L, Collections.emptyMap());
+
+    /**
+     * Creates a new preprocessor for the commands of the given {@code commandManager}. The preprocessor has to be
+     * registered using {@link CommandManager#registerCommandPreProcessor(CommandPreprocessor)}.
+     *
+     * @param commandManager the command manager
+     */
+    public RateLimitingCommandPreprocessor(final @NonNull CommandManager<C> commandManager) {
+        this.commandManager = Objects.requireNonNull(commandManager, "commandManager");
+    }
+
+    @Override
+    public void accept(final @NonNull CommandPreprocessingContext<C> context) {
+        final NodeLimits nodeLimits = this.resolve(context.commandInput());
+        if (nodeLimits == null) {
+            return;
+        }
+        final boolean suggestions = context.commandContext().isSuggestions();
+        final RateLimit rateLimit = suggestions ? nodeLimits.suggestions : nodeLimits.execution;
+        if (rateLimit == null) {
+            return;
+        }
+        final BucketKey key = new BucketKey(context.commandContext().sender(), nodeLimits.command, suggestions);
+        final long now = System.nanoTime();
+        final boolean acquired = this.acquire(key, rateLimit, now);
+        if (this.acquisitions.incrementAndGet() % EVICTION_INTERVAL == 0) {
+            this.evict(now);
+        }
+        if (acquired) {
+            return;
+        }
+        if (suggestions) {
+            ConsumerService.interrupt();
+            return;
+        }
+        throw new RateLimitExceededException(context.commandContext().sender(), nodeLimits.command, rateLimit);
+    }
+
+    private @Nullable NodeLimits resolve(final @NonNull CommandInput commandInput) {
+        NodeLimits nodeLimits = this.limits().roots.get(commandInput.peekString().toLowerCase(Locale.ROOT));
+        if (nodeLimits == null || nodeLimits.literals.isEmpty()) {
+            return nodeLimits;
+        }
+        final CommandInput input = commandInput.copy();
+        input.readString();
+        while (!nodeLimits.literals.isEmpty() && input.hasRemainingInput(true /* ignoreWhitespace */)) {
+            final NodeLimits child = nodeLimits.literals.get(input.readString().toLowerCase(Locale.ROOT));
+            if (child == null) {
+                break;
+            }
+            nodeLimits = child;
+        }
+        return nodeLimits;
+    }
+
+    private boolean acquire(final @NonNull BucketKey key, final @NonNull RateLimit rateLimit, final long now) {
+        while (true) {
+            final Bucket bucket = this.buckets.computeIfAbsent(key, $ -> new Bucket(now));
+            final Boolean acquired = bucket.tryAcquire(rateLimit, now);
+            if (acquired != null) {
+                return acquired;
+            }
+            // The bucket was evicted concurrently, a new bucket has to be created.
+            this.buckets.remove(key, bucket);
+        }
+    }
+
+    private void evict(final long now) {
+        if (!this.evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            this.buckets.forEach((key, bucket) -> {
+                if (bucket.tryRetire(now)) {
+                    this.buckets.remove(key, bucket);
+                }
+            });
+        } finally {
+            this.evicting.set(false);
+        }
+    }
+
+    private @NonNull Limits limits() {
+        final Limits limits = this.limits;
+        final long modificationCount = this.commandManager.commandTree().modificationCount();
+        if (limits.modificationCount == modificationCount) {
+            return limits;
+        }
+        /* The nodes of the tree publish immutable snapshots of their children, unlike the registered command collection,
+           which may not be iterated while commands are being registered. */
+        final Map<String, NodeLimits> roots = new HashMap<>();
+        for (final CommandNode<C> rootNode : this.commandManager.commandTree().rootNodes()) {
+            final CommandComponent<C> rootComponent = rootNode.component();
+            if (rootComponent == null) {
+                continue;
+            }
+            final NodeLimits rootLimits = new NodeLimits(rootComponent.name());
+            this.collectLimits(rootNode, rootLimits);
+            if (rootLimits.execution == null && rootLimits.suggestions == null) {
+                continue;
+            }
+            putLiteral(roots, rootComponent, rootLimits);
+        }
+        final Limits updated = new Limits(modificationCount, roots);
+        this.limits = updated;
+        return updated;
+    }
+
+    /**
+     * Collects the strictest limits of the commands below the given {@code node} into {@code nodeLimits}. Literal children
+     * get their own limits, which are also merged into the limits of the node. The children of variable nodes cannot be
+     * resolved before parsing, so their limits are merged into the limits of the closest literal node.
+     */
+    private void collectLimits(final @NonNull CommandNode<C> node, final @NonNull NodeLimits nodeLimits) {
+        final Command<C> command = node.command();
+        if (command != null) {
+            final CommandMeta meta = command.commandMeta();
+            nodeLimits.merge(meta.getOrDefault(RATE_LIMIT, null), meta.getOrDefault(SUGGESTION_RATE_LIMIT, null));
+        }
+        for (final CommandNode<C> child : node.children()) {
+            final CommandComponent<C> component = child.component();
+            if (component == null || component.type() != CommandComponent.ComponentType.LITERAL) {
+                this.collectLimits(child, nodeLimits);
+                continue;
+            }
+            final NodeLimits childLimits = new NodeLimits(nodeLimits.command + ' ' + component.name());
+            this.collectLimits(child, childLimits);
+            nodeLimits.merge(childLimits.execution, childLimits.suggestions);
+            putLiteral(nodeLimits.literals, component, childLimits);
+        }
+    }
+
+    private static void putLiteral(
+            final @NonNull Map<String, NodeLimits> literals,
+            final @NonNull CommandComponent<?> component,
+            final @NonNull NodeLimits nodeLimits
+    ) {
+        literals.put(component.name().toLowerCase(Locale.ROOT), nodeLimits);
+        for (final String alias : component.alternativeAliases()) {
+            literals.putIfAbsent(alias.toLowerCase(Locale.ROOT), nodeLimits);
+        }
+    }
+
+    private static @Nullable RateLimit strictest(final @Nullable RateLimit first, final @Nullable RateLimit second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (first.nanosPerPermit() != second.nanosPerPermit()) {
+            return first.nanosPerPermit() > second.nanosPerPermit() ? first : second;
+        }
+        return first.permits() <= second.permits() ? first : second;
+    }
+
+    private static final class Limits {
+
+        private final long modificationCount;
+        private final Map<String, NodeLimits> roots;
+
+        private Limits(final long modificationCount, final @NonNull Map<String, NodeLimits> roots) {
+            this.modificationCount = modificationCount;
+            this.roots = roots;
+        }
+    }
+
+    private static final class NodeLimits {
+
+        // The literals leading to the node, which identify the bucket of the node
+        private final String command;
+        private final Map<String, NodeLimits> literals = new HashMap<>();
+        private @Nullable RateLimit execution;
+        private @Nullable RateLimit suggestions;
+
+        private NodeLimits(final @NonNull String command) {
+            this.command = command;
+        }
+
+        private void merge(final @Nullable RateLimit execution, final @Nullable RateLimit suggestions) {
+            this.execution = strictest(this.execution, execution);
+            this.suggestions = strictest(this.suggestions, suggestions);
+        }
+    }
+
+    private static final class BucketKey {
+
+        private final Object sender;
+        private final String command;
+        private final boolean suggestions;
+
+        private BucketKey(final @NonNull Object sender, final @NonNull String command, final boolean suggestions) {
+            this.sender = sender;
+            this.command = command;
+            this.suggestions = suggestions;
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof BucketKey)) {
+                return false;
+            }
+            final BucketKey that = (BucketKey) object;
+            return this.suggestions == that.suggestions && this.sender.equals(that.sender) && this.command.equals(that.command);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.sender, this.command, this.suggestions);
+        }
+    }
+
+    /**
+     * Token bucket that stores the time at which it is full again, as used by the generic cell rate algorithm. This
+     * allows the bucket to be updated using a single compare-and-set.
+     */
+    private static final class Bucket {
+
+        private static final long RETIRED = Long.MIN_VALUE;
+
+        private final AtomicLong fullAt;
+
+        private Bucket(final long now) {
+            this.fullAt = new AtomicLong(now);
+        }
+
+        /**
+         * Attempts to take a permit from the bucket.
+         *
+         * @param rateLimit the rate limit
+         * @param now       the current time
+         * @return whether a permit was taken, or {@code null} if the bucket has been retired
+         */
+        private @Nullable Boolean tryAcquire(final @NonNull RateLimit rateLimit, final long now) {
+            final long period = rateLimit.period().toNanos();
+            while (true) {
+                final long fullAt = this.fullAt.get();
+                if (fullAt == RETIRED) {
+                    return null;
+                }
+                final long updated = (fullAt - now < 0 ? now : fullAt) + rateLimit.nanosPerPermit();
+                if (updated - now > period) {
+                    return false;
+                }
+                if (this.fullAt.compareAndSet(fullAt, updated)) {
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * Retires the bucket if it is full, after which it may no longer be used.
+         *
+         * @param now the current time
+         * @return whether the bucket was retired
+         */
+        private boolean tryRetire(final long now) {
+            final long fullAt = this.fullAt.get();
+            return fullAt != RETIRED && fullAt - now <= 0 && this.fullAt.compareAndSet(fullAt, RETIRED);
+        }
+    }
+}
@@ -24,6 +24,7 @@
 package org.incendo.cloud.help;
 
 import io.leangen.geantyref.GenericTypeReflector;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -69,18 +70,25 @@ public class StandardHelpHandler<C> implements HelpHandler<C> {
      */
     @Override
     public @NonNull HelpQueryResult<C> query(final @NonNull HelpQuery<C> query) {
-        final List<CommandEntry<C>> commands = this.commands(query.sender());
-
         // If the query is empty, then we return all commands that they have permission to see.
         if (query.query().replace(" ", "").isEmpty()) {
-            return IndexCommandResult.of(query, commands);
+            return IndexCommandResult.of(query, this.commands(query.sender()));
         }
 
         final List<String> queryFragments = new CommandInputTokenizer(query.query()).tokenize();
         final String rootFragment = queryFragments.get(0);
 
+        /* Only the commands with a matching root alias have to be considered */
+        final List<CommandEntry<C>> commands = this.entries(
+                query.sender(),
+                this.commandManager.helpIndex().commandsWithRootPrefix(
+                        rootFragment,
+                        command -> this.isAllowed(query.sender(), command)
+                )
+        );
+
         /* Determine which command we are querying for */
-        final List<Command<C>> availableCommands = new LinkedList<>();
+        final List<CommandEntry<C>> availableCommands = new ArrayList<>();
         final Set<String> availableCommandLabels = new HashSet<>();
 
         boolean exactMatch = false;
@@ -91,7 +99,7 @@ public class StandardHelpHandler<C> implements HelpHandler<C> {
             final CommandComponent<C> component = command.rootComponent();
             for (final String alias : component.aliases()) {
                 if (alias.toLowerCase(Locale.ENGLISH).startsWith(rootFragment.toLowerCase(Locale.ENGLISH))) {
-                    availableCommands.add(command);
+                    availableCommands.add(entry);
                     availableCommandLabels.add(component.name());
                     break;
                 }
@@ -108,7 +116,7 @@ public class StandardHelpHandler<C> implements HelpHandler<C> {
                 availableCommandLabels.clear();
                 availableCommands.clear();
                 availableCommandLabels.add(component.name());
-                availableCommands.add(command);
+                availableCommands.add(entry);
                 break;
             }
         }
@@ -117,15 +125,8 @@ public class StandardHelpHandler<C> implements HelpHandler<C> {
         if (availableCommands.isEmpty()) {
             return IndexCommandResult.of(query, Collections.emptyList());
         } else if (!exactMatch || availableCommandLabels.size() > 1) {
-            return IndexCommandResult.of(
-                    query,
-                    availableCommands.stream()
-                            .map(command -> CommandEntry.of(command, this.commandManager.commandSyntaxFormatter()
-                                    .apply(query.sender(), command.components(), null)))
-                            .sorted()
-                            .filter(entry -> this.isAllowed(query.sender(), entry.command()))
-                            .collect(Collectors.toList())
-            );
+            /* The entries are already sorted, and the commands have passed the permission check */
+            return IndexCommandResult.of(query, availableCommands);
         }
 
         /* Traverse command to find the most specific help topic */
@@ -146,11 +147,7 @@ public class StandardHelpHandler<C> implements HelpHandler<C> {
                     if (this.isAllowed(query.sender(), head.command())) {
                         return VerboseCommandResult.of(
                                 query,
-                                CommandEntry.of(
-                                        head.command(),
-                                        this.commandManager.commandSyntaxFormatter()
-                                                .apply(query.sender(), head.command().components(), null)
-                                )
+                                this.commandManager.helpIndex().entry(head.command(), query.sender())
                         );
                     }
                 }
@@ -217,15 +214,20 @@ public class StandardHelpHandler<C> implements HelpHandler<C> {
     protected @NonNull List<@NonNull CommandEntry<C>> commands(
             final @NonNull C sender
     ) {
-        return this.commandManager.commands()
-                .stream()
+        return this.entries(
+                sender,
+                this.commandManager.helpIndex().commands(command -> this.isAllowed(sender, command))
+        );
+    }
+
+    private @NonNull List<@NonNull CommandEntry<C>> entries(
+            final @NonNull C sender,
+            final @NonNull List<@NonNull Command<C>> commands
+    ) {
+        return commands.stream()
                 .filter(this.commandFilter)
-                .filter(command -> this.isAllowed(sender, command))
-                .map(command -> CommandEntry.of(
-                        command,
-                        this.commandManager.commandSyntaxFormatter()
-                                .apply(sender, command.components(), null))
-                ).sorted()
+                .map(command -> this.commandManager.helpIndex().entry(command, sender))
+                .sorted()
                 .collect(Collectors.toList());
     }
 
@@ -0,0 +1,296 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.internal;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Thread-safe map that stores its entries in a single array, intended for maps with a small amount of entries.
+ * <p>
+ * The keys and values are stored next to each other and lookups are linear. The array is replaced rather than modified,
+ * which means that reads are lock-free and that iteration operates on a snapshot of the map. Modifications, including
+ * compound operations such as {@link #compute(Object, BiFunction)} and {@link #merge(Object, Object, BiFunction)}, are
+ * performed while holding the lock of the map. Entries may be removed through the iterators of the views, which removes
+ * them from the map rather than from the snapshot. Empty maps share the same empty array. Neither keys nor values may
+ * be {@code null}.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+public final class ArrayMap<K, V> extends AbstractMap<K, V> {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    // Keys are stored at even indices, followed by their values
+    private volatile Object[] entries;
+
+    /**
+     * Creates a new empty map.
+     */
+    public ArrayMap() {
+        this.entries = EMPTY;
+    }
+
+    /**
+     * Creates a new map containing the entries of the given {@code map}.
+     *
+     * @param map map to copy
+     */
+    public ArrayMap(final @NonNull Map<? extends K, ? extends V> map) {
+        if (map.isEmpty()) {
+            this.entries = EMPTY;
+            return;
+        }
+        final Object[] entries = new Object[map.size() * 2];
+        int index = 0;
+        for (final Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            entries[index++] = Objects.requireNonNull(entry.getKey(), "key");
+            entries[index++] = Objects.requireNonNull(entry.getValue(), "value");
+        }
+        this.entries = entries;
+    }
+
+    private static int indexOf(final @NonNull Object @NonNull[] entries, final @Nullable Object key) {
+        for (int i = 0; i < entries.length; i += 2) {
+            if (entries[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return this.entries.length / 2;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.entries.length == 0;
+    }
+
+    @Override
+    public boolean containsKey(final @Nullable Object key) {
+        return indexOf(this.entries, key) != -1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @Nullable V get(final @Nullable Object key) {
+        final Object[] entries = this.entries;
+        final int index = indexOf(entries, key);
+        return index == -1 ? null : (V) entries[index + 1];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public synchronized @Nullable V put(final @NonNull K key, final @NonNull V value) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(value, "value");
+        final Object[] entries = this.entries;
+        final int index = indexOf(entries, key);
+        if (index != -1) {
+            final Object previous = entries[index + 1];
+            if (previous != value) {
+                final Object[] copy = entries.clone();
+                copy[index + 1] = value;
+                this.entries = copy;
+            }
+            return (V) previous;
+        }
+        final Object[] copy = Arrays.copyOf(entries, entries.length + 2);
+        copy[entries.length] = key;
+        copy[entries.length + 1] = value;
+        this.entries = copy;
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public synchronized @Nullable V remove(final @Nullable Object key) {
+        final Object[] entries = this.entries;
+        final int index = indexOf(entries, key);
+        if (index == -1) {
+            return null;
+        }
+        if (entries.length == 2) {
+            this.entries = EMPTY;
+        } else {
+            final Object[] copy = new Object[entries.length - 2];
+            System.arraycopy(entries, 0, copy, 0, index);
+            System.arraycopy(entries, index + 2, copy, index, entries.length - index - 2);
+            this.entries = copy;
+        }
+        return (V) entries[index + 1];
+    }
+
+    @Override
+    public synchronized V computeIfAbsent(
+            final @NonNull K key,
+            final @NonNull Function<? super K, ? extends V> mappingFunction
+    ) {
+        final V existing = this.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        final V value = mappingFunction.apply(key);
+        if (value != null) {
+            this.put(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    public synchronized @Nullable V computeIfPresent(
+            final @NonNull K key,
+            final @NonNull BiFunction<? super K, ? super V, ? extends V> remappingFunction
+    ) {
+        return super.computeIfPresent(key, remappingFunction);
+    }
+
+    @Override
+    public synchronized @Nullable V compute(
+            final @NonNull K key,
+            final @NonNull BiFunction<? super K, ? super @Nullable V, ? extends V> remappingFunction
+    ) {
+        return super.compute(key, remappingFunction);
+    }
+
+    @Override
+    public synchronized @Nullable V merge(
+            final @NonNull K key,
+            final @NonNull V value,
+            final @NonNull BiFunction<? super V, ? super V, ? extends V> remappingFunction
+    ) {
+        return super.merge(key, value, remappingFunction);
+    }
+
+    @Override
+    public synchronized @Nullable V putIfAbsent(final @NonNull K key, final @NonNull V value) {
+        return super.putIfAbsent(key, value);
+    }
+
+    @Override
+    public synchronized boolean remove(final @Nullable Object key, final @Nullable Object value) {
+        return super.remove(key, value);
+    }
+
+    @Override
+    public synchronized boolean replace(final @NonNull K key, final @NonNull V oldValue, final @NonNull V newValue) {
+        return super.replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public synchronized @Nullable V replace(final @NonNull K key, final @NonNull V value) {
+        return super.replace(key, value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public synchronized void replaceAll(final @NonNull BiFunction<? super K, ? super V, ? extends V> function) {
+        final Object[] copy = this.entries.clone();
+        for (int i = 0; i < copy.length; i += 2) {
+            copy[i + 1] = Objects.requireNonNull(function.apply((K) copy[i], (V) copy[i + 1]), "value");
+        }
+        this.entries = copy;
+    }
+
+    @Override
+    public synchronized void clear() {
+        this.entries = EMPTY;
+    }
+
+    @Override
+    public @NonNull Set<Map.@NonNull Entry<K, V>> entrySet() {
+        return new EntrySet<>(this, this.entries);
+    }
+
+    private static final class EntrySet<K, V> extends AbstractSet<Map.Entry<K, V>> {
+
+        private final ArrayMap<K, V> map;
+        private final Object[] entries;
+
+        private EntrySet(final @NonNull ArrayMap<K, V> map, final @NonNull Object @NonNull[] entries) {
+            this.map = map;
+            this.entries = entries;
+        }
+
+        @Override
+        public int size() {
+            return this.entries.length / 2;
+        }
+
+        @Override
+        public @NonNull Iterator<Map.@NonNull Entry<K, V>> iterator() {
+            return new Iterator<Map.Entry<K, V>>() {
+
+                private int index;
+                private @Nullable Object last;
+
+                @Override
+                public boolean hasNext() {
+                    return this.index < EntrySet.this.entries.length;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public Map.@NonNull Entry<K, V> next() {
+                    if (!this.hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    final Object[] entries = EntrySet.this.entries;
+                    final Map.Entry<K, V> entry = new AbstractMap.SimpleImmutableEntry<>(
+                            (K) entries[this.index],
+                            (V) entries[this.index + 1]
+                    );
+                    this.last = entries[this.index];
+                    this.index += 2;
+                    return entry;
+                }
+
+                @Override
+                public void remove() {
+                    if (this.last == null) {
+                        throw new IllegalStateException();
+                    }
+                    EntrySet.this.map.remove(this.last);
+                    this.last = null;
+                }
+            };
+        }
+    }
+}
@@ -25,10 +25,11 @@ package org.incendo.cloud.internal;
 
 import io.leangen.geantyref.TypeToken;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -42,11 +43,16 @@ import org.incendo.cloud.component.CommandComponent;
 import org.incendo.cloud.key.CloudKey;
 import org.incendo.cloud.key.SimpleMutableCloudKeyContainer;
 import org.incendo.cloud.permission.Permission;
+import org.incendo.cloud.suggestion.SuggestionMapper;
 
 import static org.incendo.cloud.key.CloudKey.cloudKey;
 
 /**
  * Very simple tree structure
+ * <p>
+ * The children of a node are stored in an immutable list that is replaced whenever the children change, and the node
+ * meta is stored in a copy-on-write {@link ArrayMap}. Readers may therefore traverse the tree without synchronization
+ * while it is being modified, as long as all modifications are made by a single writer at a time.
  *
  * @param <C> command sender type
  */
@@ -73,11 +79,15 @@ public final class CommandNode<C> {
             new TypeToken<Map<Type, Permission>>() {}
     );
 
-    private final SimpleMutableCloudKeyContainer nodeMeta = new SimpleMutableCloudKeyContainer(new HashMap<>());
-    private final List<CommandNode<C>> children = new LinkedList<>();
+    private static final int MAX_STATIC_SUGGESTIONS = 4;
+    private static final StaticSuggestionIndex[] NO_STATIC_SUGGESTIONS = new StaticSuggestionIndex[0];
+
+    private final SimpleMutableCloudKeyContainer nodeMeta = new SimpleMutableCloudKeyContainer(new ArrayMap<>());
     private final CommandComponent<C> component;
-    private CommandNode<C> parent;
-    private Command<C> command;
+    private volatile List<CommandNode<C>> children = Collections.emptyList();
+    private volatile CommandNode<C> parent;
+    private volatile Command<C> command;
+    private volatile @NonNull StaticSuggestionIndex @NonNull[] staticSuggestions = NO_STATIC_SUGGESTIONS;
 
     /**
      * Creates a new command node
@@ -89,12 +99,14 @@ public final class CommandNode<C> {
     }
 
     /**
-     * Returns an immutable view of the node's children
+     * Returns an immutable snapshot of the node's children.
+     * <p>
+     * The snapshot is not affected by later modifications of the node.
      *
      * @return list of children
      */
     public @NonNull List<@NonNull CommandNode<C>> children() {
-        return Collections.unmodifiableList(this.children);
+        return this.children;
     }
 
     /**
@@ -105,10 +117,49 @@ public final class CommandNode<C> {
      */
     public @NonNull CommandNode<C> addChild(final @NonNull CommandComponent<C> component) {
         final CommandNode<C> node = new CommandNode<>(component);
-        this.children.add(node);
+        final List<CommandNode<C>> children = new ArrayList<>(this.children);
+        children.add(node);
+        this.children(children);
         return node;
     }
 
+    /**
+     * Adds the given {@code child} to the children of this node and sorts the children, publishing both changes at once.
+     * <p>
+     * This allows a subtree to be fully built before it becomes visible to readers of the tree.
+     *
+     * @param child the child node
+     */
+    public void attachChild(final @NonNull CommandNode<C> child) {
+        final List<CommandNode<C>> children = new ArrayList<>(this.children);
+        children.add(child);
+        children.sort(Comparator.comparing(CommandNode::component));
+        this.children(children);
+    }
+
+    /**
+     * Removes the {@code removed} children and adds the {@code added} children, publishing all changes at once.
+     *
+     * @param removed the children to remove
+     * @param added   the children to add
+     */
+    public void replaceChildren(
+            final @NonNull Collection<@NonNull CommandNode<C>> removed,
+            final @NonNull Collection<@NonNull CommandNode<C>> added
+    ) {
+        final Set<CommandNode<C>> removedNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+        removedNodes.addAll(removed);
+        final List<CommandNode<C>> children = new ArrayList<>(this.children.size() + added.size());
+        for (final CommandNode<C> child : this.children) {
+            if (!removedNodes.contains(child)) {
+                children.add(child);
+            }
+        }
+        children.addAll(added);
+        children.sort(Comparator.comparing(CommandNode::component));
+        this.children(children);
+    }
+
     /**
      * Returns the node containing the given {@code component}
      *
@@ -131,7 +182,12 @@ public final class CommandNode<C> {
      * @return {@code true} if the child node was removed, {@code false} if not
      */
     public boolean removeChild(final @NonNull CommandNode<C> child) {
-        return this.children.remove(child);
+        final List<CommandNode<C>> children = new ArrayList<>(this.children);
+        if (!children.remove(child)) {
+            return false;
+        }
+        this.children(children);
+        return true;
     }
 
     /**
@@ -182,6 +238,49 @@ public final class CommandNode<C> {
         this.command = command;
     }
 
+    /**
+     * Returns the cached suggestions of the {@link #component()} that were mapped by the given mappers, if the component
+     * has a static suggestion provider and the suggestions have been requested using the same mappers before.
+     *
+     * @param mapper     the suggestion mapper
+     * @param baseMapper the mapper that the {@code mapper} delegates to
+     * @return the cached suggestions, or {@code null}
+     */
+    public @Nullable StaticSuggestionIndex staticSuggestions(
+            final @NonNull SuggestionMapper<?> mapper,
+            final @NonNull Object baseMapper
+    ) {
+        for (final StaticSuggestionIndex index : this.staticSuggestions) {
+            if (index.mappedBy(mapper, baseMapper)) {
+                return index;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds cached suggestions of the {@link #component()}. A small number of indexes, one for each combination of
+     * mappers, is kept, evicting the least recently added index.
+     *
+     * @param staticSuggestions the cached suggestions
+     */
+    public synchronized void addStaticSuggestions(final @NonNull StaticSuggestionIndex staticSuggestions) {
+        final StaticSuggestionIndex[] current = this.staticSuggestions;
+        final int retained = Math.min(current.length, MAX_STATIC_SUGGESTIONS - 1);
+        final StaticSuggestionIndex[] updated = new StaticSuggestionIndex[retained + 1];
+        updated[0] = staticSuggestions;
+        System.arraycopy(current, 0, updated, 1, retained);
+        this.staticSuggestions = updated;
+    }
+
+    /**
+     * Removes all cached suggestions of the {@link #component()}, for example after the suggestions of the component have
+     * changed.
+     */
+    public void clearStaticSuggestions() {
+        this.staticSuggestions = NO_STATIC_SUGGESTIONS;
+    }
+
     /**
      * Returns the parent node
      *
@@ -204,7 +303,13 @@ public final class CommandNode<C> {
      * Sorts the child nodes using their {@link #component() components}.
      */
     public void sortChildren() {
-        this.children.sort(Comparator.comparing(CommandNode::component));
+        final List<CommandNode<C>> children = new ArrayList<>(this.children);
+        children.sort(Comparator.comparing(CommandNode::component));
+        this.children(children);
+    }
+
+    private void children(final @NonNull List<@NonNull CommandNode<C>> children) {
+        this.children = CompactCollections.list(children);
     }
 
     @Override
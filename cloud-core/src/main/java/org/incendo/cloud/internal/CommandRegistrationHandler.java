@@ -23,6 +23,7 @@
 //
 package org.incendo.cloud.internal;
 
+import java.util.Collection;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.Command;
@@ -58,6 +59,20 @@ public interface CommandRegistrationHandler<C> {
      */
     boolean registerCommand(@NonNull Command<C> command);
 
+    /**
+     * Attempts to register the given {@code commands} at once. This is used when commands are
+     * {@link org.incendo.cloud.CommandManager#replaceCommands(java.util.function.Predicate, Collection) replaced}.
+     * <p>
+     * The default implementation registers the commands one by one. Platforms that can register commands more
+     * efficiently in bulk may override this.
+     *
+     * @param commands the commands to register
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default void registerCommands(final @NonNull Collection<@NonNull Command<C>> commands) {
+        commands.forEach(this::registerCommand);
+    }
+
     /**
      * Requests that the given {@code rootCommand} should be unregistered.
      *
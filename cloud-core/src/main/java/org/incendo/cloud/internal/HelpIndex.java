@@ -0,0 +1,302 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.cloud.Command;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.component.CommandComponent;
+import org.incendo.cloud.help.result.CommandEntry;
+import org.incendo.cloud.syntax.CommandSyntaxFormatter;
+import org.incendo.cloud.syntax.StandardCommandSyntaxFormatter;
+
+/**
+ * Index of the registered commands used by the {@link org.incendo.cloud.help.StandardHelpHandler}. The index is updated
+ * when commands are registered or deleted, so that help queries do not have to scan all commands.
+ * <p>
+ * The index maintains:
+ * <ul>
+ *     <li>the case-folded aliases of the root components, sorted so that all roots with a given prefix can be found
+ *     without iterating over the other roots,</li>
+ *     <li>the commands bucketed by their permission and sender type, so that access is tested once per bucket
+ *     rather than once per command,</li>
+ *     <li>the {@link CommandEntry} of each command, as long as the syntax does not depend on the sender.</li>
+ * </ul>
+ *
+ * @param <C> command sender type
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+public final class HelpIndex<C> {
+
+    private final CommandManager<C> commandManager;
+    private final Map<Command<C>, IndexedCommand<C>> commands = new IdentityHashMap<>();
+    private final Map<String, RootGroup<C>> roots = new HashMap<>();
+    private final TreeMap<String, Set<RootGroup<C>>> aliases = new TreeMap<>();
+    private final Map<List<?>, Bucket<C>> buckets = new HashMap<>();
+    private long sequence = 0;
+
+    /**
+     * Creates a new index.
+     *
+     * @param commandManager the command manager that owns the commands
+     */
+    public HelpIndex(final @NonNull CommandManager<C> commandManager) {
+        this.commandManager = commandManager;
+    }
+
+    /**
+     * Adds the given {@code command} to the index.
+     *
+     * @param command the command
+     */
+    public synchronized void add(final @NonNull Command<C> command) {
+        if (this.commands.containsKey(command)) {
+            return;
+        }
+        final List<?> bucketKey = Arrays.asList(command.commandPermission(), command.senderType().orElse(null));
+        final Bucket<C> bucket = this.buckets.computeIfAbsent(bucketKey, key -> new Bucket<>());
+        final IndexedCommand<C> indexed = new IndexedCommand<>(command, bucket, this.sequence++);
+        bucket.commands.add(indexed);
+        this.commands.put(command, indexed);
+
+        final RootGroup<C> group = this.roots.computeIfAbsent(command.rootComponent().name(), RootGroup::new);
+        group.commands.add(indexed);
+        this.reindexAliases(group);
+    }
+
+    /**
+     * Removes the given {@code command} from the index.
+     *
+     * @param command the command
+     */
+    public synchronized void remove(final @NonNull Command<C> command) {
+        final IndexedCommand<C> indexed = this.commands.remove(command);
+        if (indexed == null) {
+            return;
+        }
+        indexed.bucket.commands.remove(indexed);
+        if (indexed.bucket.commands.isEmpty()) {
+            this.buckets.values().remove(indexed.bucket);
+        }
+
+        final RootGroup<C> group = this.roots.get(command.rootComponent().name());
+        if (group == null) {
+            return;
+        }
+        group.commands.remove(indexed);
+        if (group.commands.isEmpty()) {
+            this.roots.remove(group.name);
+        }
+        this.reindexAliases(group);
+    }
+
+    /**
+     * Returns the number of indexed commands.
+     *
+     * @return the number of commands
+     */
+    public synchronized int size() {
+        return this.commands.size();
+    }
+
+    /**
+     * Returns the indexed commands in the order that they were registered in, skipping the commands that do not pass
+     * the {@code access} test.
+     * <p>
+     * All commands that share a permission and a sender type are tested at once, by testing the first of them.
+     *
+     * @param access the access test
+     * @return the accessible commands
+     */
+    public synchronized @NonNull List<@NonNull Command<C>> commands(final @NonNull Predicate<@NonNull Command<C>> access) {
+        final List<IndexedCommand<C>> accessible = new ArrayList<>();
+        for (final Bucket<C> bucket : this.buckets.values()) {
+            if (access.test(bucket.first().command)) {
+                accessible.addAll(bucket.commands);
+            }
+        }
+        return sortedCommands(accessible);
+    }
+
+    /**
+     * Returns the indexed commands that have a root alias which starts with the given {@code prefix}, ignoring case,
+     * in the order that they were registered in. Commands that do not pass the {@code access} test are skipped.
+     * <p>
+     * The root aliases of all commands that share a root node are considered to be shared by the commands.
+     *
+     * @param prefix the prefix
+     * @param access the access test
+     * @return the accessible commands
+     */
+    public synchronized @NonNull List<@NonNull Command<C>> commandsWithRootPrefix(
+            final @NonNull String prefix,
+            final @NonNull Predicate<@NonNull Command<C>> access
+    ) {
+        final String foldedPrefix = prefix.toLowerCase(Locale.ENGLISH);
+        final Set<RootGroup<C>> groups = new LinkedHashSet<>();
+        for (final Map.Entry<String, Set<RootGroup<C>>> entry : this.aliases.tailMap(foldedPrefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(foldedPrefix)) {
+                break;
+            }
+            groups.addAll(entry.getValue());
+        }
+
+        final Map<Bucket<C>, Boolean> bucketAccess = new IdentityHashMap<>();
+        final List<IndexedCommand<C>> accessible = new ArrayList<>();
+        for (final RootGroup<C> group : groups) {
+            for (final IndexedCommand<C> indexed : group.commands) {
+                if (bucketAccess.computeIfAbsent(indexed.bucket, bucket -> access.test(bucket.first().command))) {
+                    accessible.add(indexed);
+                }
+            }
+        }
+        return sortedCommands(accessible);
+    }
+
+    /**
+     * Returns the help entry of the given {@code command}.
+     * <p>
+     * The entry is cached if the command is indexed and the {@link CommandManager#commandSyntaxFormatter()} is exactly a
+     * {@link StandardCommandSyntaxFormatter}, as the syntax of a full command chain does not depend on the sender.
+     * Subclasses may format differently per sender, so their entries are never cached.
+     *
+     * @param command the command
+     * @param sender  the sender that the entry is created for
+     * @return the entry
+     */
+    public @NonNull CommandEntry<C> entry(final @NonNull Command<C> command, final @NonNull C sender) {
+        final CommandSyntaxFormatter<C> formatter = this.commandManager.commandSyntaxFormatter();
+        final IndexedCommand<C> indexed;
+        synchronized (this) {
+            indexed = this.commands.get(command);
+        }
+        if (indexed == null || formatter.getClass() != StandardCommandSyntaxFormatter.class) {
+            return CommandEntry.of(command, formatter.apply(sender, command.components(), null));
+        }
+        final CachedEntry<C> cached = indexed.entry;
+        if (cached != null && cached.formatter == formatter) {
+            return cached.entry;
+        }
+        final CommandEntry<C> entry = CommandEntry.of(command, formatter.apply(null, command.components(), null));
+        indexed.entry = new CachedEntry<>(formatter, entry);
+        return entry;
+    }
+
+    private void reindexAliases(final @NonNull RootGroup<C> group) {
+        for (final String alias : group.aliases) {
+            final Set<RootGroup<C>> groups = this.aliases.get(alias);
+            if (groups != null) {
+                groups.remove(group);
+                if (groups.isEmpty()) {
+                    this.aliases.remove(alias);
+                }
+            }
+        }
+        group.aliases.clear();
+        if (!this.roots.containsKey(group.name)) {
+            return;
+        }
+        for (final IndexedCommand<C> indexed : group.commands) {
+            final CommandComponent<C> rootComponent = indexed.command.rootComponent();
+            for (final String alias : rootComponent.aliases()) {
+                group.aliases.add(alias.toLowerCase(Locale.ENGLISH));
+            }
+        }
+        for (final String alias : group.aliases) {
+            this.aliases.computeIfAbsent(alias, key -> new LinkedHashSet<>()).add(group);
+        }
+    }
+
+    private static <C> @NonNull List<@NonNull Command<C>> sortedCommands(
+            final @NonNull Collection<@NonNull IndexedCommand<C>> commands
+    ) {
+        final List<IndexedCommand<C>> sorted = new ArrayList<>(commands);
+        sorted.sort(Comparator.comparingLong(indexed -> indexed.sequence));
+        final List<Command<C>> result = new ArrayList<>(sorted.size());
+        for (final IndexedCommand<C> indexed : sorted) {
+            result.add(indexed.command);
+        }
+        return result;
+    }
+
+    private static final class IndexedCommand<C> {
+
+        private final Command<C> command;
+        private final Bucket<C> bucket;
+        private final long sequence;
+        private volatile @Nullable CachedEntry<C> entry;
+
+        private IndexedCommand(final @NonNull Command<C> command, final @NonNull Bucket<C> bucket, final long sequence) {
+            this.command = command;
+            this.bucket = bucket;
+            this.sequence = sequence;
+        }
+    }
+
+    private static final class CachedEntry<C> {
+
+        private final CommandSyntaxFormatter<C> formatter;
+        private final CommandEntry<C> entry;
+
+        private CachedEntry(final @NonNull CommandSyntaxFormatter<C> formatter, final @NonNull CommandEntry<C> entry) {
+            this.formatter = formatter;
+            this.entry = entry;
+        }
+    }
+
+    private static final class Bucket<C> {
+
+        private final Set<IndexedCommand<C>> commands = new LinkedHashSet<>();
+
+        private @NonNull IndexedCommand<C> first() {
+            return this.commands.iterator().next();
+        }
+    }
+
+    private static final class RootGroup<C> {
+
+        private final String name;
+        private final Set<IndexedCommand<C>> commands = new LinkedHashSet<>();
+        private final Set<String> aliases = new LinkedHashSet<>();
+
+        private RootGroup(final @NonNull String name) {
+            this.name = name;
+        }
+    }
+}
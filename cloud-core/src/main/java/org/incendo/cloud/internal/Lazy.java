@@ -0,0 +1,96 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.internal;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Thread-safe holder of a value that is created on first access.
+ *
+ * @param <T> value type
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+public final class Lazy<T> {
+
+    private final Supplier<T> factory;
+    private volatile @Nullable T value;
+
+    private Lazy(final @NonNull Supplier<T> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Creates a new holder that creates its value using the given {@code factory}.
+     * <p>
+     * The factory is invoked at most once, unless it throws an exception.
+     *
+     * @param <T>     value type
+     * @param factory value factory
+     * @return the holder
+     */
+    public static <T> @NonNull Lazy<T> of(final @NonNull Supplier<@NonNull T> factory) {
+        return new Lazy<>(Objects.requireNonNull(factory, "factory"));
+    }
+
+    /**
+     * Returns the value, creating it if it has not been created yet.
+     *
+     * @return the value
+     */
+    public @NonNull T get() {
+        T value = this.value;
+        if (value == null) {
+            synchronized (this) {
+                value = this.value;
+                if (value == null) {
+                    value = Objects.requireNonNull(this.factory.get(), "value");
+                    this.value = value;
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Returns the value if it has been created or {@link #set(Object) set}, without creating it.
+     *
+     * @return the value, or {@code null}
+     */
+    public @Nullable T getIfPresent() {
+        return this.value;
+    }
+
+    /**
+     * Replaces the value. The factory will not be invoked after this.
+     *
+     * @param value the new value
+     */
+    public synchronized void set(final @NonNull T value) {
+        this.value = Objects.requireNonNull(value, "value");
+    }
+}
@@ -0,0 +1,83 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.internal;
+
+import io.leangen.geantyref.TypeToken;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.cloud.key.CloudKey;
+
+/**
+ * Root node that has been resolved ahead of parsing for an input that starts with the given literal.
+ * <p>
+ * Batch executions resolve the root node once for all inputs that start with the same literal, which lets the command
+ * tree parse the literal directly instead of trying every root node in turn. The hint is ignored when the tree has been
+ * modified since it was resolved, or when the input no longer starts with the literal.
+ *
+ * @param <C> command sender type
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+public final class RootNodeHint<C> {
+
+    /**
+     * Key used to pass the hint to the command tree.
+     */
+    public static final CloudKey<RootNodeHint<?>> HINT_KEY = CloudKey.of(
+            "__root_node_hint__",
+            new TypeToken<RootNodeHint<?>>() {
+            }
+    );
+
+    private final CommandNode<C> node;
+    private final String literal;
+    private final long modificationCount;
+
+    /**
+     * Creates a new hint.
+     *
+     * @param node              the root node
+     * @param literal           the literal that the node was resolved from
+     * @param modificationCount the modification count of the tree when the node was resolved
+     */
+    public RootNodeHint(final @NonNull CommandNode<C> node, final @NonNull String literal, final long modificationCount) {
+        this.node = node;
+        this.literal = literal;
+        this.modificationCount = modificationCount;
+    }
+
+    /**
+     * Returns the root node if the hint is still valid for the given {@code literal} and {@code modificationCount}.
+     *
+     * @param literal           the literal that the input starts with
+     * @param modificationCount the current modification count of the tree
+     * @return the node, or {@code null} if the hint is no longer valid
+     */
+    public @Nullable CommandNode<C> node(final @NonNull String literal, final long modificationCount) {
+        if (this.modificationCount != modificationCount || !this.literal.equalsIgnoreCase(literal)) {
+            return null;
+        }
+        return this.node;
+    }
+}
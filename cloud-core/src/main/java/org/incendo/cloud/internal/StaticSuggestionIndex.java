@@ -0,0 +1,185 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.suggestion.StaticSuggestionProvider;
+import org.incendo.cloud.suggestion.Suggestion;
+import org.incendo.cloud.suggestion.SuggestionMapper;
+
+/**
+ * Cached suggestions of a {@link StaticSuggestionProvider}, mapped using a specific {@link SuggestionMapper}.
+ * <p>
+ * The suggestions are stored both in the order of the provider and, once there are at least {@link #SORTED_THRESHOLD}
+ * suggestions, sorted by their {@link Suggestion#suggestion()}, which allows prefix lookups without iterating over all
+ * suggestions. Smaller indexes are scanned linearly, as sorting them would cost more than it saves.
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+public final class StaticSuggestionIndex {
+
+    /**
+     * The minimum number of suggestions for which a sorted index is built.
+     */
+    public static final int SORTED_THRESHOLD = 16;
+
+    private final Object mapper;
+    private final Object baseMapper;
+    private final Suggestion[] suggestions;
+    private final String[] sortedKeys;
+    private final Suggestion[] sortedSuggestions;
+
+    private StaticSuggestionIndex(
+            final @NonNull Object mapper,
+            final @NonNull Object baseMapper,
+            final @NonNull Suggestion @NonNull[] suggestions,
+            final @NonNull String @NonNull[] sortedKeys,
+            final @NonNull Suggestion @NonNull[] sortedSuggestions
+    ) {
+        this.mapper = mapper;
+        this.baseMapper = baseMapper;
+        this.suggestions = suggestions;
+        this.sortedKeys = sortedKeys;
+        this.sortedSuggestions = sortedSuggestions;
+    }
+
+    /**
+     * Creates a new index containing the given {@code suggestions} mapped by the given {@code mapper}.
+     *
+     * @param suggestions the suggestions
+     * @param mapper      the mapper
+     * @param baseMapper  the mapper that the {@code mapper} delegates to, used to detect when the mapper has been replaced
+     * @return the index
+     */
+    public static @NonNull StaticSuggestionIndex create(
+            final @NonNull Iterable<? extends @NonNull Suggestion> suggestions,
+            final @NonNull SuggestionMapper<?> mapper,
+            final @NonNull Object baseMapper
+    ) {
+        final List<Suggestion> original = new ArrayList<>();
+        suggestions.forEach(original::add);
+
+        final int size = original.size();
+        final Suggestion[] mapped = new Suggestion[size];
+        final Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            mapped[i] = mapper.map(original.get(i));
+            order[i] = i;
+        }
+        if (size < SORTED_THRESHOLD) {
+            final String[] keys = new String[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = original.get(i).suggestion();
+            }
+            return new StaticSuggestionIndex(mapper, baseMapper, mapped, keys, mapped);
+        }
+        Arrays.sort(order, Comparator.comparing(index -> original.get(index).suggestion()));
+
+        final String[] sortedKeys = new String[size];
+        final Suggestion[] sortedSuggestions = new Suggestion[size];
+        for (int i = 0; i < size; i++) {
+            sortedKeys[i] = original.get(order[i]).suggestion();
+            sortedSuggestions[i] = mapped[order[i]];
+        }
+        return new StaticSuggestionIndex(mapper, baseMapper, mapped, sortedKeys, sortedSuggestions);
+    }
+
+    /**
+     * Returns whether the suggestions in this index were mapped using the given mappers.
+     *
+     * @param mapper     the mapper
+     * @param baseMapper the mapper that the {@code mapper} delegates to
+     * @return {@code true} if the index may be used with the given mappers
+     */
+    public boolean mappedBy(final @NonNull SuggestionMapper<?> mapper, final @NonNull Object baseMapper) {
+        return this.mapper == mapper && this.baseMapper == baseMapper;
+    }
+
+    /**
+     * Invokes the given {@code consumer} with all the mapped suggestions, in the order of the provider.
+     *
+     * @param consumer the consumer
+     */
+    public void forEach(final @NonNull Consumer<@NonNull Suggestion> consumer) {
+        for (final Suggestion suggestion : this.suggestions) {
+            consumer.accept(suggestion);
+        }
+    }
+
+    /**
+     * Invokes the given {@code consumer} with the mapped suggestions that start with the given {@code prefix},
+     * excluding the suggestions that are equal to the {@code prefix}.
+     *
+     * @param prefix   the prefix
+     * @param consumer the consumer
+     */
+    public void forEachCompletion(final @NonNull String prefix, final @NonNull Consumer<@NonNull Suggestion> consumer) {
+        if (this.sortedKeys.length < SORTED_THRESHOLD) {
+            for (int i = 0; i < this.sortedKeys.length; i++) {
+                final String key = this.sortedKeys[i];
+                if (key.startsWith(prefix) && !key.equals(prefix)) {
+                    consumer.accept(this.sortedSuggestions[i]);
+                }
+            }
+            return;
+        }
+        for (int i = this.lowerBound(prefix); i < this.sortedKeys.length; i++) {
+            final String key = this.sortedKeys[i];
+            if (!key.startsWith(prefix)) {
+                break;
+            }
+            if (!key.equals(prefix)) {
+                consumer.accept(this.sortedSuggestions[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of suggestions in this index.
+     *
+     * @return the number of suggestions
+     */
+    public int size() {
+        return this.suggestions.length;
+    }
+
+    private int lowerBound(final @NonNull String prefix) {
+        int low = 0;
+        int high = this.sortedKeys.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (this.sortedKeys[middle].compareTo(prefix) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -31,6 +31,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.execution.preprocessor.CommandPreprocessingContext;
@@ -47,6 +48,8 @@ public final class SuggestionContext<C, S extends Suggestion> {
     private final SuggestionMapper<S> mapper;
     private final SuggestionProcessor<C> processor;
     private final CommandContext<C> commandContext;
+    private @Nullable SuggestionSession<C> session;
+    private SuggestionSession.@Nullable Checkpoint<C> checkpoint;
 
     /**
      * Creates a new suggestion context
@@ -77,14 +80,18 @@ public final class SuggestionContext<C, S extends Suggestion> {
     public @NonNull Suggestions<C, S> makeSuggestions() {
         final Stream<S> stream = this.suggestions.stream();
         final Stream<Suggestion> processedStream = this.processor.process(this.preprocessingContext, (Stream<Suggestion>) stream);
+        final int limit = this.commandContext.suggestionLimit();
         final List<S> list;
         if (stream == processedStream) {
             // don't re-collect with a pass-through processor
-            list = Collections.unmodifiableList(this.suggestions);
+            list = Collections.unmodifiableList(
+                    this.suggestions.size() > limit ? this.suggestions.subList(0, limit) : this.suggestions
+            );
         } else {
             list = Collections.unmodifiableList(
                     processedStream
                             .peek(obj -> Objects.requireNonNull(obj, "suggestion"))
+                            .limit(limit)
                             .map(this.mapper::map)
                             .collect(Collectors.toList())
             );
@@ -101,6 +108,55 @@ public final class SuggestionContext<C, S extends Suggestion> {
         return this.commandContext;
     }
 
+    /**
+     * Returns the suggestion session of the sender, if suggestion sessions are enabled
+     *
+     * @return the session, or {@code null}
+     */
+    public @Nullable SuggestionSession<C> session() {
+        return this.session;
+    }
+
+    /**
+     * Sets the suggestion session of the sender
+     *
+     * @param session    the session
+     * @param checkpoint the checkpoint that the lookup resumes from, or {@code null}
+     */
+    public void session(final @NonNull SuggestionSession<C> session, final SuggestionSession.@Nullable Checkpoint<C> checkpoint) {
+        this.session = session;
+        this.checkpoint = checkpoint;
+    }
+
+    /**
+     * Returns the deepest checkpoint that has been reached by the lookup
+     *
+     * @return the checkpoint, or {@code null}
+     */
+    public SuggestionSession.@Nullable Checkpoint<C> checkpoint() {
+        return this.checkpoint;
+    }
+
+    /**
+     * Stores the given {@code checkpoint} if it is deeper than the current checkpoint
+     *
+     * @param checkpoint the checkpoint
+     */
+    public void checkpoint(final SuggestionSession.@NonNull Checkpoint<C> checkpoint) {
+        if (this.checkpoint == null || this.checkpoint.prefix().length() < checkpoint.prefix().length()) {
+            this.checkpoint = checkpoint;
+        }
+    }
+
+    /**
+     * Returns the mapper that is used to map the added suggestions
+     *
+     * @return the suggestion mapper
+     */
+    public @NonNull SuggestionMapper<S> mapper() {
+        return this.mapper;
+    }
+
     /**
      * Adds all the given {@code suggestions} to the stored suggestions
      *
@@ -119,4 +175,16 @@ public final class SuggestionContext<C, S extends Suggestion> {
         Objects.requireNonNull(suggestion, "suggestion");
         this.suggestions.add(this.mapper.map(suggestion));
     }
+
+    /**
+     * Adds the given {@code suggestion} to the stored suggestions without mapping it. The suggestion must already
+     * have been mapped using the {@link #mapper()} of this context.
+     *
+     * @param suggestion the mapped suggestion to add
+     */
+    @SuppressWarnings("unchecked")
+    public void addMappedSuggestion(final @NonNull Suggestion suggestion) {
+        Objects.requireNonNull(suggestion, "suggestion");
+        this.suggestions.add((S) suggestion);
+    }
 }
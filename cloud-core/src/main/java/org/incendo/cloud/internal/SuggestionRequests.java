@@ -0,0 +1,131 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.internal;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.cloud.context.CommandContext;
+
+/**
+ * Registry of the in-flight suggestion requests, keyed by the sender. Beginning a new request of a sender cancels the
+ * work of the request that it supersedes, and completes the future of the superseded request with an empty result.
+ * <p>
+ * Requests are removed when they complete, so the registry only holds senders that currently await suggestions.
+ *
+ * @param <C> command sender type
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+public final class SuggestionRequests<C> {
+
+    private final Map<C, Request<C>> requests = new ConcurrentHashMap<>();
+
+    /**
+     * Registers a new suggestion request of the given {@code sender}, cancelling the in-flight request of the sender.
+     *
+     * @param sender  the sender
+     * @param context the context of the new request
+     * @return the request
+     */
+    public @NonNull Request<C> begin(final @NonNull C sender, final @NonNull CommandContext<C> context) {
+        final Request<C> request = new Request<>(context);
+        final Request<C> superseded = this.requests.put(sender, request);
+        if (superseded != null) {
+            superseded.cancel();
+        }
+        return request;
+    }
+
+    /**
+     * Removes the given {@code request} of the given {@code sender}, if it has not been superseded yet.
+     *
+     * @param sender  the sender
+     * @param request the request
+     */
+    public void complete(final @NonNull C sender, final @NonNull Request<C> request) {
+        this.requests.remove(sender, request);
+    }
+
+    /**
+     * Returns the number of in-flight requests.
+     *
+     * @return the number of requests
+     */
+    public int size() {
+        return this.requests.size();
+    }
+
+    /**
+     * An in-flight suggestion request.
+     *
+     * @param <C> command sender type
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    public static final class Request<C> {
+
+        private final CommandContext<C> context;
+        private volatile @Nullable Runnable supersede;
+
+        private Request(final @NonNull CommandContext<C> context) {
+            this.context = context;
+        }
+
+        /**
+         * Attaches the future that is returned to the caller of the request. The future is completed with the given
+         * {@code supersededResult} when the request is superseded, instead of being cancelled, so that callers do not
+         * have to handle a {@link java.util.concurrent.CancellationException}.
+         *
+         * @param <T>              the result type
+         * @param future           the future
+         * @param supersededResult the result that the future completes with when the request is superseded
+         */
+        public <T> void attach(final @NonNull CompletableFuture<T> future, final @NonNull T supersededResult) {
+            final Runnable supersede = () -> future.complete(supersededResult);
+            this.supersede = supersede;
+            if (this.context.cancelled()) {
+                supersede.run();
+            }
+        }
+
+        /**
+         * Returns whether the request has been superseded.
+         *
+         * @return {@code true} if the request has been cancelled
+         */
+        public boolean cancelled() {
+            return this.context.cancelled();
+        }
+
+        private void cancel() {
+            this.context.cancel();
+            final Runnable supersede = this.supersede;
+            if (supersede != null) {
+                supersede.run();
+            }
+        }
+    }
+}
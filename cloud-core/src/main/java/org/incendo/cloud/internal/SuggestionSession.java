@@ -0,0 +1,253 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.internal;
+
+import io.leangen.geantyref.TypeToken;
+import java.util.HashMap;
+import java.util.Map;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.key.CloudKey;
+import org.incendo.cloud.setting.ManagerSetting;
+
+/**
+ * Suggestion state of a single sender, used to resume suggestion lookups from the deepest node that was reached by the
+ * previous request.
+ *
+ * @param <C> command sender type
+ * @see ManagerSetting#INCREMENTAL_SUGGESTIONS
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+public final class SuggestionSession<C> {
+
+    /**
+     * Key used to pass the session of the sender to the command tree.
+     */
+    public static final CloudKey<SuggestionSession<?>> SESSION_KEY = CloudKey.of(
+            "__suggestion_session__",
+            new TypeToken<SuggestionSession<?>>() {
+            }
+    );
+    /**
+     * Key used to pass the checkpoint to resume from to the command tree.
+     */
+    public static final CloudKey<Checkpoint<?>> RESUME_KEY = CloudKey.of(
+            "__suggestion_resume__",
+            new TypeToken<Checkpoint<?>>() {
+            }
+    );
+
+    private static final CloudKey<Void> RAW_INPUT_KEY = CloudKey.of("__raw_input__");
+
+    private final long timeToLive;
+    private @Nullable Checkpoint<C> checkpoint;
+    private volatile long lastAccess = System.nanoTime();
+
+    /**
+     * Creates a new session.
+     *
+     * @param timeToLive the time in nanoseconds after which a checkpoint may no longer be resumed from
+     */
+    public SuggestionSession(final long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * Returns the checkpoint to resume from for the given {@code input}, if the input extends the prefix of the
+     * stored checkpoint and the checkpoint is still valid.
+     *
+     * @param input             the input of the suggestion request
+     * @param modificationCount the current {@link org.incendo.cloud.CommandTree#modificationCount()}
+     * @return the checkpoint, or {@code null}
+     */
+    public synchronized @Nullable Checkpoint<C> resumableCheckpoint(final @NonNull String input, final long modificationCount) {
+        final Checkpoint<C> checkpoint = this.checkpoint;
+        if (checkpoint == null) {
+            return null;
+        }
+        if (checkpoint.modificationCount != modificationCount || System.nanoTime() - checkpoint.created > this.timeToLive) {
+            this.checkpoint = null;
+            return null;
+        }
+        if (!input.startsWith(checkpoint.prefix)) {
+            return null;
+        }
+        return checkpoint;
+    }
+
+    /**
+     * Returns the time at which the session was last used, as reported by {@link System#nanoTime()}.
+     *
+     * @return the time of the last access
+     */
+    public long lastAccess() {
+        return this.lastAccess;
+    }
+
+    /**
+     * Marks the session as used at the given time.
+     *
+     * @param now the current time, as reported by {@link System#nanoTime()}
+     */
+    public void touch(final long now) {
+        this.lastAccess = now;
+    }
+
+    /**
+     * Replaces the stored checkpoint.
+     *
+     * @param checkpoint the new checkpoint, or {@code null} to clear the checkpoint
+     */
+    public synchronized void update(final @Nullable Checkpoint<C> checkpoint) {
+        this.checkpoint = checkpoint;
+    }
+
+    /**
+     * Parse state at a node of the command tree.
+     *
+     * @param <C> command sender type
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    public static final class Checkpoint<C> {
+
+        private final CommandNode<C> node;
+        private final String prefix;
+        private final int cursor;
+        private final Map<CloudKey<?>, Object> storage;
+        private final long modificationCount;
+        private final long created;
+
+        private Checkpoint(
+                final @NonNull CommandNode<C> node,
+                final @NonNull String prefix,
+                final int cursor,
+                final @NonNull Map<CloudKey<?>, Object> storage,
+                final long modificationCount
+        ) {
+            this.node = node;
+            this.prefix = prefix;
+            this.cursor = cursor;
+            this.storage = storage;
+            this.modificationCount = modificationCount;
+            this.created = System.nanoTime();
+        }
+
+        /**
+         * Returns the length of the input prefix that a checkpoint created at the cursor of the given {@code input} would
+         * have consumed, including the trailing whitespace.
+         * <p>
+         * Checkpoints are only created if the cursor is at a whitespace boundary, as the input that has been consumed
+         * would otherwise not be stable when more input is appended.
+         *
+         * @param input the input, with the cursor at the position that the node is entered at
+         * @return the prefix length, or {@code -1} if the cursor is not at a whitespace boundary
+         */
+        public static int prefixLength(final @NonNull CommandInput input) {
+            final String string = input.input();
+            final int cursor = input.cursor();
+            if (cursor < string.length() && Character.isWhitespace(string.charAt(cursor))) {
+                return cursor + 1;
+            } else if (cursor > 0 && cursor <= string.length() && Character.isWhitespace(string.charAt(cursor - 1))) {
+                return cursor;
+            }
+            return -1;
+        }
+
+        /**
+         * Creates a checkpoint for the given {@code node}, which is about to be entered with the given {@code input}.
+         * <p>
+         * This copies the values stored in the context, so callers should only create checkpoints that are deeper than the
+         * checkpoint they already have, see {@link #prefixLength(CommandInput)}.
+         *
+         * @param <C>               command sender type
+         * @param node              the node
+         * @param input             the input, with the cursor at the position that the node is entered at
+         * @param context           the command context, containing the values that have been parsed so far
+         * @param modificationCount the current {@link org.incendo.cloud.CommandTree#modificationCount()}
+         * @return the checkpoint, or {@code null} if the cursor is not at a whitespace boundary
+         */
+        public static <C> @Nullable Checkpoint<C> create(
+                final @NonNull CommandNode<C> node,
+                final @NonNull CommandInput input,
+                final @NonNull CommandContext<C> context,
+                final long modificationCount
+        ) {
+            final int prefixLength = prefixLength(input);
+            if (prefixLength < 0) {
+                return null;
+            }
+
+            final Map<CloudKey<?>, Object> storage = new HashMap<>(context.all());
+            storage.remove(SESSION_KEY);
+            storage.remove(RESUME_KEY);
+            storage.remove(RAW_INPUT_KEY);
+            return new Checkpoint<>(node, input.input().substring(0, prefixLength), input.cursor(), storage, modificationCount);
+        }
+
+        /**
+         * Returns the node to resume from.
+         *
+         * @return the node
+         */
+        public @NonNull CommandNode<C> node() {
+            return this.node;
+        }
+
+        /**
+         * Returns the cursor position that the node should be entered at.
+         *
+         * @return the cursor
+         */
+        public int cursor() {
+            return this.cursor;
+        }
+
+        /**
+         * Returns the input that has been consumed to reach the node, including the trailing whitespace.
+         *
+         * @return the consumed input
+         */
+        public @NonNull String prefix() {
+            return this.prefix;
+        }
+
+        /**
+         * Restores the values that were parsed before the node was reached into the given {@code context}. Values
+         * that are already present in the context are not replaced.
+         *
+         * @param context the context to restore the values into
+         */
+        @SuppressWarnings("unchecked")
+        public void restore(final @NonNull CommandContext<C> context) {
+            for (final Map.Entry<CloudKey<?>, Object> entry : this.storage.entrySet()) {
+                if (!context.contains(entry.getKey())) {
+                    context.store((CloudKey<Object>) entry.getKey(), entry.getValue());
+                }
+            }
+        }
+    }
+}
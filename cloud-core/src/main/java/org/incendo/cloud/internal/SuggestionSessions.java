@@ -0,0 +1,129 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.internal;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Bounded store of {@link SuggestionSession suggestion sessions}, keyed by the sender. The least recently used session is
+ * evicted when the store is full, sessions that have not been used for longer than the time to live are dropped
+ * whenever the store is accessed, and all sessions are dropped when the command tree changes.
+ *
+ * @param <C> command sender type
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+public final class SuggestionSessions<C> {
+
+    /**
+     * The default maximum amount of sessions.
+     */
+    public static final int DEFAULT_MAXIMUM_SESSIONS = 256;
+    /**
+     * The default time in nanoseconds after which an unused session expires.
+     */
+    public static final long DEFAULT_TIME_TO_LIVE = TimeUnit.SECONDS.toNanos(30);
+
+    private final Map<C, SuggestionSession<C>> sessions;
+    private final long timeToLive;
+    private long modificationCount = -1;
+
+    /**
+     * Creates a new session store.
+     *
+     * @param maximumSessions the maximum amount of sessions
+     * @param timeToLive      the time in nanoseconds after which an unused session expires
+     */
+    public SuggestionSessions(final int maximumSessions, final long timeToLive) {
+        this.timeToLive = timeToLive;
+        this.sessions = new LinkedHashMap<C, SuggestionSession<C>>(16, 0.75F, true /* accessOrder */) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<C, SuggestionSession<C>> eldest) {
+                return this.size() > maximumSessions;
+            }
+        };
+    }
+
+    /**
+     * Creates a new session store using the default limits.
+     */
+    public SuggestionSessions() {
+        this(DEFAULT_MAXIMUM_SESSIONS, DEFAULT_TIME_TO_LIVE);
+    }
+
+    /**
+     * Returns the session of the given {@code sender}, creating it if needed.
+     *
+     * @param sender            the sender
+     * @param modificationCount the current {@link org.incendo.cloud.CommandTree#modificationCount()}
+     * @return the session
+     */
+    public synchronized @NonNull SuggestionSession<C> session(final @NonNull C sender, final long modificationCount) {
+        if (this.modificationCount != modificationCount) {
+            this.sessions.clear();
+            this.modificationCount = modificationCount;
+        }
+        final long now = System.nanoTime();
+        this.expire(now);
+        final SuggestionSession<C> session = this.sessions.computeIfAbsent(sender, key -> new SuggestionSession<>(this.timeToLive));
+        session.touch(now);
+        return session;
+    }
+
+    /**
+     * Removes the sessions that have not been used within the time to live. As the map is ordered by access, the
+     * iteration stops at the first session that has not expired.
+     *
+     * @param now the current time in nanoseconds
+     */
+    private void expire(final long now) {
+        final Iterator<SuggestionSession<C>> iterator = this.sessions.values().iterator();
+        while (iterator.hasNext()) {
+            if (now - iterator.next().lastAccess() <= this.timeToLive) {
+                return;
+            }
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Removes all sessions.
+     */
+    public synchronized void invalidateAll() {
+        this.sessions.clear();
+    }
+
+    /**
+     * Returns the number of stored sessions.
+     *
+     * @return the number of sessions
+     */
+    public synchronized int size() {
+        return this.sessions.size();
+    }
+}
@@ -0,0 +1,126 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.internal;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Utility for bounding the time that futures produced by parsers and suggestion providers may take.
+ * <p>
+ * Timeouts are tracked by a single daemon thread that is started the first time a timeout is scheduled. The thread only
+ * detects expired timeouts, which are then handled on the executor given when the timeout was scheduled.
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+public final class Timeouts {
+
+    /**
+     * Value that represents the absence of a timeout.
+     */
+    public static final long NO_TIMEOUT = Long.MAX_VALUE;
+
+    private Timeouts() {
+    }
+
+    /**
+     * Returns a future that completes with the result of the given {@code future}, unless it does not complete within
+     * {@code timeoutNanos}. In that case {@code onTimeout} is invoked on the {@code executor} with the returned future,
+     * which it is expected to complete. If the executor rejects the task, then {@code onTimeout} is invoked on the timeout
+     * thread instead. The given {@code future} is not cancelled, as it may be shared or cached by the parser or the
+     * suggestion provider that returned it, and its eventual result is ignored.
+     * <p>
+     * The completion performed by {@code onTimeout} may race with the completion of the given {@code future}, and
+     * {@code onTimeout} should therefore inspect the return value of {@link CompletableFuture#complete(Object)}
+     * before reporting the timeout.
+     *
+     * @param <T>          result type
+     * @param future       the future to bound
+     * @param timeoutNanos the timeout in nanoseconds, or {@link #NO_TIMEOUT}
+     * @param executor     executor that {@code onTimeout} is invoked on
+     * @param onTimeout    invoked if the future times out
+     * @return the bounded future
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> @NonNull CompletableFuture<T> within(
+            final @NonNull CompletableFuture<? extends T> future,
+            final long timeoutNanos,
+            final @NonNull Executor executor,
+            final @NonNull Consumer<@NonNull CompletableFuture<T>> onTimeout
+    ) {
+        if (timeoutNanos == NO_TIMEOUT || future.isDone()) {
+            return (CompletableFuture<T>) future;
+        }
+        final CompletableFuture<T> bounded = new CompletableFuture<>();
+        if (timeoutNanos <= 0L) {
+            onTimeout.accept(bounded);
+            return bounded;
+        }
+        final Runnable timeout = () -> {
+            if (!bounded.isDone()) {
+                onTimeout.accept(bounded);
+            }
+        };
+        final ScheduledFuture<?> timer = Scheduler.INSTANCE.schedule(() -> {
+            if (bounded.isDone()) {
+                return;
+            }
+            try {
+                executor.execute(timeout);
+            } catch (final RejectedExecutionException e) {
+                timeout.run();
+            }
+        }, timeoutNanos, TimeUnit.NANOSECONDS);
+        future.whenComplete((result, throwable) -> {
+            timer.cancel(false /* mayInterruptIfRunning */);
+            if (throwable != null) {
+                bounded.completeExceptionally(throwable);
+            } else {
+                bounded.complete(result);
+            }
+        });
+        return bounded;
+    }
+
+    private static final class Scheduler {
+
+        private static final ScheduledThreadPoolExecutor INSTANCE = createScheduler();
+
+        private static @NonNull ScheduledThreadPoolExecutor createScheduler() {
+            final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+                final Thread thread = new Thread(runnable, "cloud-timeouts");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.setRemoveOnCancelPolicy(true);
+            return scheduler;
+        }
+    }
+}
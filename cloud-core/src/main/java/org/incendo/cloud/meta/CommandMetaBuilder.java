@@ -71,6 +71,9 @@ public class CommandMetaBuilder {
      * @return the instance
      */
     public @NonNull CommandMeta build() {
+        if (this.map.isEmpty()) {
+            return SimpleCommandMeta.EMPTY;
+        }
         return new SimpleCommandMeta(this.map);
     }
 }
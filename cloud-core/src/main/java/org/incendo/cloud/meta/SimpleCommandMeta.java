@@ -31,6 +31,7 @@ import java.util.Objects;
 import java.util.Optional;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.internal.ArrayMap;
 import org.incendo.cloud.key.CloudKey;
 
 /**
@@ -40,10 +41,13 @@ import org.incendo.cloud.key.CloudKey;
 @API(status = API.Status.STABLE)
 public class SimpleCommandMeta extends CommandMeta {
 
+    static final SimpleCommandMeta EMPTY = new SimpleCommandMeta(Collections.emptyMap());
+
+    // Never exposed, so the array map is not wrapped in an unmodifiable view
     private final Map<CloudKey<?>, Object> metaMap;
 
     protected SimpleCommandMeta(final @NonNull Map<@NonNull CloudKey<?>, @NonNull Object> metaMap) {
-        this.metaMap = Collections.unmodifiableMap(new HashMap<>(metaMap));
+        this.metaMap = metaMap.isEmpty() ? Collections.emptyMap() : new ArrayMap<>(metaMap);
     }
 
     @Override
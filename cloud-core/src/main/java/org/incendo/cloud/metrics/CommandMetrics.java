@@ -0,0 +1,182 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.metrics;
+
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.Command;
+import org.incendo.cloud.component.CommandComponent;
+import org.incendo.cloud.context.CommandContext;
+
+/**
+ * Listener that receives timing events from the command pipeline.
+ * <p>
+ * The methods are invoked on the thread that completed the measured stage, and should therefore return quickly and
+ * be safe to call concurrently. All durations are measured in nanoseconds using {@link System#nanoTime()}.
+ * <p>
+ * Components are parsed before the command has been resolved, and component events are therefore tagged with the
+ * component rather than the command. Stages that run after parsing are tagged with the resolved {@link Command}.
+ *
+ * @param <C> command sender type
+ * @see org.incendo.cloud.CommandManager#commandMetrics(CommandMetrics)
+ * @see HistogramCommandMetrics
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public interface CommandMetrics<C> {
+
+    /**
+     * Returns a {@link CommandMetrics} instance that ignores all events.
+     *
+     * @param <C> command sender type
+     * @return the no-op metrics instance
+     */
+    @SuppressWarnings("unchecked")
+    static <C> @NonNull CommandMetrics<C> noop() {
+        return (CommandMetrics<C>) NoopCommandMetrics.INSTANCE;
+    }
+
+    /**
+     * Returns whether the instance wants to receive events. If this returns {@code false} then the pipeline will
+     * not measure the stages at all.
+     *
+     * @return whether the instance is enabled
+     */
+    default boolean enabled() {
+        return true;
+    }
+
+    /**
+     * Invoked when the command preprocessors have run.
+     *
+     * @param context  the command context
+     * @param duration the time spent in the preprocessors
+     */
+    default void preprocessed(final @NonNull CommandContext<C> context, final long duration) {
+    }
+
+    /**
+     * Invoked when the command tree has attempted to parse a component.
+     *
+     * @param context   the command context
+     * @param component the component
+     * @param success   whether the component was parsed successfully
+     * @param duration  the time spent parsing the component
+     */
+    default void componentParsed(
+            final @NonNull CommandContext<C> context,
+            final @NonNull CommandComponent<C> component,
+            final boolean success,
+            final long duration
+    ) {
+    }
+
+    /**
+     * Invoked when the command postprocessors have run.
+     *
+     * @param context  the command context
+     * @param command  the resolved command
+     * @param duration the time spent in the postprocessors
+     */
+    default void postprocessed(
+            final @NonNull CommandContext<C> context,
+            final @NonNull Command<C> command,
+            final long duration
+    ) {
+    }
+
+    /**
+     * Invoked when the execution handler of a command has completed.
+     *
+     * @param context  the command context
+     * @param command  the resolved command
+     * @param success  whether the handler completed normally
+     * @param duration the time spent executing the handler
+     */
+    default void executed(
+            final @NonNull CommandContext<C> context,
+            final @NonNull Command<C> command,
+            final boolean success,
+            final long duration
+    ) {
+    }
+
+    /**
+     * Invoked when the suggestion provider of a component has completed.
+     *
+     * @param context   the command context
+     * @param component the component
+     * @param duration  the time spent generating the suggestions
+     */
+    default void componentSuggested(
+            final @NonNull CommandContext<C> context,
+            final @NonNull CommandComponent<C> component,
+            final long duration
+    ) {
+    }
+
+    /**
+     * Invoked when the parser or the suggestion provider of a component did not complete within the time given to the
+     * component. Use {@link CommandContext#isSuggestions()} to tell the two apart.
+     *
+     * @param context   the command context
+     * @param component the component
+     */
+    default void componentTimedOut(
+            final @NonNull CommandContext<C> context,
+            final @NonNull CommandComponent<C> component
+    ) {
+    }
+
+    /**
+     * Invoked when a command has been removed from the command manager, so that the state recorded for the command and its
+     * components can be discarded. This is invoked regardless of {@link #enabled()}.
+     *
+     * @param command the removed command
+     */
+    default void commandRemoved(final @NonNull Command<C> command) {
+    }
+
+    /**
+     * Invoked when a suggestion request has completed.
+     *
+     * @param context  the command context
+     * @param duration the total time spent generating the suggestions
+     */
+    default void suggested(final @NonNull CommandContext<C> context, final long duration) {
+    }
+
+    /**
+     * Invoked when the exception handlers have handled an exception thrown during command execution.
+     *
+     * @param context   the command context
+     * @param exception the exception
+     * @param duration  the time spent in the exception handlers
+     */
+    default void exceptionHandled(
+            final @NonNull CommandContext<C> context,
+            final @NonNull Throwable exception,
+            final long duration
+    ) {
+    }
+}
@@ -0,0 +1,125 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.metrics;
+
+import java.util.Map;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.immutables.value.Value;
+import org.incendo.cloud.Command;
+import org.incendo.cloud.component.CommandComponent;
+import org.incendo.cloud.internal.ImmutableImpl;
+
+/**
+ * Snapshot of the histograms collected by a {@link HistogramCommandMetrics} instance.
+ *
+ * @param <C> command sender type
+ */
+@ImmutableImpl
+@Value.Immutable
+@API(status = API.Status.EXPERIMENTAL)
+public interface CommandMetricsSnapshot<C> {
+
+    /**
+     * Creates a new snapshot.
+     *
+     * @param <C>               command sender type
+     * @param preprocessing     the preprocessing histogram
+     * @param parsing           the parsing histograms, by component
+     * @param postprocessing    the postprocessing histograms, by command
+     * @param execution         the execution histograms, by command
+     * @param suggestions       the suggestion histograms, by component
+     * @param totalSuggestions  the histogram of complete suggestion requests
+     * @param exceptionHandling the exception handling histograms, by exception type
+     * @return the snapshot
+     */
+    static <C> @NonNull CommandMetricsSnapshot<C> of(
+            final @NonNull HistogramSnapshot preprocessing,
+            final @NonNull Map<CommandComponent<C>, HistogramSnapshot> parsing,
+            final @NonNull Map<Command<C>, HistogramSnapshot> postprocessing,
+            final @NonNull Map<Command<C>, HistogramSnapshot> execution,
+            final @NonNull Map<CommandComponent<C>, HistogramSnapshot> suggestions,
+            final @NonNull HistogramSnapshot totalSuggestions,
+            final @NonNull Map<Class<? extends Throwable>, HistogramSnapshot> exceptionHandling
+    ) {
+        return CommandMetricsSnapshotImpl.of(
+                preprocessing,
+                parsing,
+                postprocessing,
+                execution,
+                suggestions,
+                totalSuggestions,
+                exceptionHandling
+        );
+    }
+
+    /**
+     * Returns the time spent in command preprocessors.
+     *
+     * @return the preprocessing histogram
+     */
+    @NonNull HistogramSnapshot preprocessing();
+
+    /**
+     * Returns the time spent parsing each component. The map is keyed by component identity.
+     *
+     * @return the parsing histograms
+     */
+    @NonNull Map<CommandComponent<C>, HistogramSnapshot> parsing();
+
+    /**
+     * Returns the time spent in command postprocessors for each command.
+     *
+     * @return the postprocessing histograms
+     */
+    @NonNull Map<Command<C>, HistogramSnapshot> postprocessing();
+
+    /**
+     * Returns the time spent in the execution handler of each command.
+     *
+     * @return the execution histograms
+     */
+    @NonNull Map<Command<C>, HistogramSnapshot> execution();
+
+    /**
+     * Returns the time spent in the suggestion provider of each component. The map is keyed by component identity.
+     *
+     * @return the suggestion histograms
+     */
+    @NonNull Map<CommandComponent<C>, HistogramSnapshot> suggestions();
+
+    /**
+     * Returns the total time spent on suggestion requests.
+     *
+     * @return the suggestion request histogram
+     */
+    @NonNull HistogramSnapshot totalSuggestions();
+
+    /**
+     * Returns the time spent in exception handlers for each exception type.
+     *
+     * @return the exception handling histograms
+     */
+    @NonNull Map<Class<? extends Throwable>, HistogramSnapshot> exceptionHandling();
+}
@@ -0,0 +1,238 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.metrics;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.Command;
+import org.incendo.cloud.component.CommandComponent;
+import org.incendo.cloud.context.CommandContext;
+
+/**
+ * {@link CommandMetrics} implementation that records the events into {@link LatencyHistogram latency histograms}.
+ * <p>
+ * Histograms are created on demand and kept until the command that they belong to is removed from the command manager.
+ * Use {@link #snapshot()} to read the collected values. Component histograms are keyed by component identity, as
+ * components of different commands that share a name and value type are {@link CommandComponent#equals(Object) equal}.
+ *
+ * @param <C> command sender type
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class HistogramCommandMetrics<C> implements CommandMetrics<C> {
+
+    private final LatencyHistogram preprocessing = new LatencyHistogram();
+    private final IdentityRegistry<CommandComponent<C>, LatencyHistogram> parsing = new IdentityRegistry<>();
+    private final Map<Command<C>, LatencyHistogram> postprocessing = new ConcurrentHashMap<>();
+    private final Map<Command<C>, LatencyHistogram> execution = new ConcurrentHashMap<>();
+    private final IdentityRegistry<CommandComponent<C>, LatencyHistogram> suggestions = new IdentityRegistry<>();
+    private final LatencyHistogram totalSuggestions = new LatencyHistogram();
+    private final Map<Class<? extends Throwable>, LatencyHistogram> exceptionHandling = new ConcurrentHashMap<>();
+    private final IdentityRegistry<CommandComponent<C>, LongAdder> timeouts = new IdentityRegistry<>();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param <C> command sender type
+     * @return the created instance
+     */
+    public static <C> @NonNull HistogramCommandMetrics<C> create() {
+        return new HistogramCommandMetrics<>();
+    }
+
+    private HistogramCommandMetrics() {
+    }
+
+    @Override
+    public void preprocessed(final @NonNull CommandContext<C> context, final long duration) {
+        this.preprocessing.record(duration);
+    }
+
+    @Override
+    public void componentParsed(
+            final @NonNull CommandContext<C> context,
+            final @NonNull CommandComponent<C> component,
+            final boolean success,
+            final long duration
+    ) {
+        this.parsing.get(component, LatencyHistogram::new).record(duration);
+    }
+
+    @Override
+    public void postprocessed(
+            final @NonNull CommandContext<C> context,
+            final @NonNull Command<C> command,
+            final long duration
+    ) {
+        histogram(this.postprocessing, command).record(duration);
+    }
+
+    @Override
+    public void executed(
+            final @NonNull CommandContext<C> context,
+            final @NonNull Command<C> command,
+            final boolean success,
+            final long duration
+    ) {
+        histogram(this.execution, command).record(duration);
+    }
+
+    @Override
+    public void componentSuggested(
+            final @NonNull CommandContext<C> context,
+            final @NonNull CommandComponent<C> component,
+            final long duration
+    ) {
+        this.suggestions.get(component, LatencyHistogram::new).record(duration);
+    }
+
+    @Override
+    public void componentTimedOut(
+            final @NonNull CommandContext<C> context,
+            final @NonNull CommandComponent<C> component
+    ) {
+        this.timeouts.get(component, LongAdder::new).increment();
+    }
+
+    @Override
+    public void commandRemoved(final @NonNull Command<C> command) {
+        this.postprocessing.remove(command);
+        this.execution.remove(command);
+        for (final CommandComponent<C> component : command.components()) {
+            this.parsing.remove(component);
+            this.suggestions.remove(component);
+            this.timeouts.remove(component);
+        }
+    }
+
+    @Override
+    public void suggested(final @NonNull CommandContext<C> context, final long duration) {
+        this.totalSuggestions.record(duration);
+    }
+
+    @Override
+    public void exceptionHandled(
+            final @NonNull CommandContext<C> context,
+            final @NonNull Throwable exception,
+            final long duration
+    ) {
+        histogram(this.exceptionHandling, exception.getClass()).record(duration);
+    }
+
+    /**
+     * Returns a snapshot of the collected histograms.
+     *
+     * @return the snapshot
+     */
+    public @NonNull CommandMetricsSnapshot<C> snapshot() {
+        return CommandMetricsSnapshot.of(
+                this.preprocessing.snapshot(),
+                snapshot(this.parsing.values(), new IdentityHashMap<>()),
+                snapshot(this.postprocessing, new HashMap<>()),
+                snapshot(this.execution, new HashMap<>()),
+                snapshot(this.suggestions.values(), new IdentityHashMap<>()),
+                this.totalSuggestions.snapshot(),
+                snapshot(this.exceptionHandling, new HashMap<>())
+        );
+    }
+
+    /**
+     * Returns the number of times that the parser or the suggestion provider of each component has timed out.
+     *
+     * @return the timeout counts, by component identity
+     */
+    public @NonNull Map<CommandComponent<C>, Long> timeouts() {
+        final Map<CommandComponent<C>, Long> timeouts = new IdentityHashMap<>();
+        this.timeouts.values().forEach((component, count) -> timeouts.put(component, count.sum()));
+        return Collections.unmodifiableMap(timeouts);
+    }
+
+    private static <K> @NonNull LatencyHistogram histogram(final @NonNull Map<K, LatencyHistogram> histograms, final @NonNull K key) {
+        final LatencyHistogram histogram = histograms.get(key);
+        if (histogram != null) {
+            return histogram;
+        }
+        return histograms.computeIfAbsent(key, $ -> new LatencyHistogram());
+    }
+
+    private static <K> @NonNull Map<K, HistogramSnapshot> snapshot(
+            final @NonNull Map<K, LatencyHistogram> histograms,
+            final @NonNull Map<K, HistogramSnapshot> snapshots
+    ) {
+        histograms.forEach((key, histogram) -> snapshots.put(key, histogram.snapshot()));
+        return Collections.unmodifiableMap(snapshots);
+    }
+
+    /**
+     * Concurrent map keyed by identity.
+     */
+    private static final class IdentityRegistry<K, V> {
+
+        private final Map<IdentityKey<K>, V> values = new ConcurrentHashMap<>();
+
+        @NonNull V get(final @NonNull K key, final @NonNull Supplier<V> factory) {
+            final IdentityKey<K> identityKey = new IdentityKey<>(key);
+            final V value = this.values.get(identityKey);
+            if (value != null) {
+                return value;
+            }
+            return this.values.computeIfAbsent(identityKey, $ -> factory.get());
+        }
+
+        void remove(final @NonNull K key) {
+            this.values.remove(new IdentityKey<>(key));
+        }
+
+        @NonNull Map<K, V> values() {
+            final Map<K, V> values = new IdentityHashMap<>();
+            this.values.forEach((key, value) -> values.put(key.key, value));
+            return values;
+        }
+    }
+
+    private static final class IdentityKey<K> {
+
+        private final K key;
+
+        private IdentityKey(final @NonNull K key) {
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            return object instanceof IdentityKey && ((IdentityKey<?>) object).key == this.key;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this.key);
+        }
+    }
+}
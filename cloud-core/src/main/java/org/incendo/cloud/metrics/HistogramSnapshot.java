@@ -0,0 +1,141 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.metrics;
+
+import java.util.concurrent.TimeUnit;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Immutable snapshot of a {@link LatencyHistogram}.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class HistogramSnapshot {
+
+    private final long[] counts;
+    private final long count;
+    private final long sum;
+    private final long max;
+    private final TimeUnit unit;
+
+    HistogramSnapshot(
+            final long @NonNull[] counts,
+            final long count,
+            final long sum,
+            final long max,
+            final @NonNull TimeUnit unit
+    ) {
+        this.counts = counts;
+        this.count = count;
+        this.sum = sum;
+        this.max = max;
+        this.unit = unit;
+    }
+
+    /**
+     * Returns the time unit of the recorded values.
+     *
+     * @return the time unit
+     */
+    public @NonNull TimeUnit unit() {
+        return this.unit;
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return the number of values
+     */
+    public long count() {
+        return this.count;
+    }
+
+    /**
+     * Returns the sum of the recorded values.
+     *
+     * @return the sum
+     */
+    public long sum() {
+        return this.sum;
+    }
+
+    /**
+     * Returns the largest recorded value, or {@code 0} if no values have been recorded.
+     *
+     * @return the largest value
+     */
+    public long max() {
+        return this.max;
+    }
+
+    /**
+     * Returns the mean of the recorded values, or {@code 0} if no values have been recorded.
+     *
+     * @return the mean value
+     */
+    public double mean() {
+        if (this.count == 0) {
+            return 0;
+        }
+        return this.sum / (double) this.count;
+    }
+
+    /**
+     * Returns the value at the given {@code percentile}. The returned value is the highest value that is equivalent to
+     * the recorded values at the percentile, within the precision of the histogram.
+     *
+     * @param percentile the percentile, between {@code 0} and {@code 100}
+     * @return the value at the percentile, or {@code 0} if no values have been recorded
+     */
+    public long valueAtPercentile(final double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100, was " + percentile);
+        }
+        if (this.count == 0) {
+            return 0;
+        }
+        final long target = Math.max(1L, (long) Math.ceil(this.count * (percentile / 100.0D)));
+        long seen = 0;
+        for (int i = 0; i < this.counts.length; i++) {
+            seen += this.counts[i];
+            if (seen >= target) {
+                return Math.min(LatencyHistogram.highestValueInBucket(i), this.max);
+            }
+        }
+        return this.max;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "HistogramSnapshot{count=%d, mean=%.1f, p50=%d, p99=%d, max=%d, unit=%s}",
+                this.count,
+                this.mean(),
+                this.valueAtPercentile(50),
+                this.valueAtPercentile(99),
+                this.max,
+                this.unit
+        );
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Instrumentation of the command pipeline.
+ */
+package org.incendo.cloud.metrics;
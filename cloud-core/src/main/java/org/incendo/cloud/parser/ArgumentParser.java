@@ -23,6 +23,7 @@
 //
 package org.incendo.cloud.parser;
 
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import org.apiguardian.api.API;
@@ -152,6 +153,18 @@ public interface ArgumentParser<C, T> extends SuggestionProviderHolder<C> {
         return this.flatMap((ctx, result) -> result.mapSuccessFuture(value -> mapper.apply(ctx, value)));
     }
 
+    /**
+     * Create a parser that caches the results of this parser per sender and token, for the given duration.
+     *
+     * @param expiry the time after which cached results expire
+     * @return caching parser
+     * @see CachingArgumentParser#builder(ArgumentParser)
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default @NonNull CachingArgumentParser<C, T> cached(final @NonNull Duration expiry) {
+        return CachingArgumentParser.builder(this).expireAfter(expiry).build();
+    }
+
     /**
      * Returns the suggestion provider.
      * <p>
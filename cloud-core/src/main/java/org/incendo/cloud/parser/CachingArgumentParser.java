@@ -0,0 +1,260 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.parser;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.common.returnsreceiver.qual.This;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.suggestion.SuggestionProvider;
+
+/**
+ * Parser that memoizes the results of another parser, keyed by the scope of the sender and the token that is parsed.
+ * <p>
+ * This is intended for expensive parsers, such as parsers that perform lookups, which are invoked repeatedly for the
+ * same token while the sender is typing a command. Successful results are cached until they expire or until the cache
+ * is full. Failed results are not cached, as their exceptions reference the {@link CommandContext} of the parse that
+ * produced them. Only results of parses that consumed at most a single token are cached, and the cursor of the input is
+ * moved the same way as the original parse moved it when a cached result is returned.
+ * <p>
+ * The wrapped parser must produce the same result for the same token within the same scope. Changes that the wrapped
+ * parser makes to the {@link CommandContext} are not replayed when a cached result is returned.
+ *
+ * @param <C> command sender type
+ * @param <T> value type
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class CachingArgumentParser<C, T> implements ArgumentParser.FutureArgumentParser<C, T> {
+
+    private final ArgumentParser<C, T> parser;
+    private final Function<@NonNull CommandContext<C>, @NonNull Object> scope;
+    private final long expiryNanos;
+    private final Map<Key, Entry<T>> cache;
+
+    private CachingArgumentParser(final @NonNull Builder<C, T> builder) {
+        this.parser = builder.parser;
+        this.scope = builder.scope;
+        this.expiryNanos = builder.expiry.toNanos();
+        final int maximumSize = builder.maximumSize;
+        this.cache = new LinkedHashMap<Key, Entry<T>>(16, 0.75f, true /* accessOrder */) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, Entry<T>> eldest) {
+                return this.size() > maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Returns a new builder for a parser that caches the results of the given {@code parser}.
+     *
+     * @param <C>    command sender type
+     * @param <T>    value type
+     * @param parser the parser to cache the results of
+     * @return the builder
+     */
+    public static <C, T> @NonNull Builder<C, T> builder(final @NonNull ArgumentParser<C, T> parser) {
+        return new Builder<>(parser);
+    }
+
+    /**
+     * Returns the parser whose results are cached.
+     *
+     * @return the wrapped parser
+     */
+    public @NonNull ArgumentParser<C, T> parser() {
+        return this.parser;
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public void invalidateAll() {
+        synchronized (this.cache) {
+            this.cache.clear();
+        }
+    }
+
+    @Override
+    public @NonNull CompletableFuture<@NonNull ArgumentParseResult<T>> parseFuture(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull CommandInput commandInput
+    ) {
+        final int cursor = commandInput.cursor();
+        final String token = commandInput.peekString();
+        final int tokenStart = commandInput.input().indexOf(token, cursor);
+        final Key key = new Key(this.scope.apply(commandContext), token);
+        final long now = System.nanoTime();
+
+        final Entry<T> cached;
+        synchronized (this.cache) {
+            cached = this.cache.get(key);
+        }
+        if (cached != null && cached.expiresAt - now > 0) {
+            commandInput.cursor(Math.max(cursor, tokenStart + cached.consumed));
+            return CompletableFuture.completedFuture(cached.result);
+        }
+
+        return this.parser.parseFuture(commandContext, commandInput).thenApply(result -> {
+            final int consumed = commandInput.cursor() - tokenStart;
+            if (result.parsedValue().isPresent() && consumed <= token.length()) {
+                synchronized (this.cache) {
+                    this.cache.put(key, new Entry<>(result, consumed, now + this.expiryNanos));
+                }
+            }
+            return result;
+        });
+    }
+
+    @Override
+    public @NonNull SuggestionProvider<C> suggestionProvider() {
+        return this.parser.suggestionProvider();
+    }
+
+    /**
+     * Builder for {@link CachingArgumentParser}.
+     *
+     * @param <C> command sender type
+     * @param <T> value type
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public static final class Builder<C, T> {
+
+        private final ArgumentParser<C, T> parser;
+        private Function<@NonNull CommandContext<C>, @NonNull Object> scope = CommandContext::sender;
+        private Duration expiry = Duration.ofSeconds(5L);
+        private int maximumSize = 1024;
+
+        private Builder(final @NonNull ArgumentParser<C, T> parser) {
+            this.parser = Objects.requireNonNull(parser, "parser");
+        }
+
+        /**
+         * Sets the function that determines the scope that results are cached in. Results are only shared between
+         * parses with equal scopes. Defaults to the {@link CommandContext#sender() sender}.
+         *
+         * @param scope the scope function
+         * @return this builder
+         */
+        public @This @NonNull Builder<C, T> scope(final @NonNull Function<@NonNull CommandContext<C>, @NonNull Object> scope) {
+            this.scope = Objects.requireNonNull(scope, "scope");
+            return this;
+        }
+
+        /**
+         * Sets the scope so that results are shared between all senders.
+         *
+         * @return this builder
+         */
+        public @This @NonNull Builder<C, T> globalScope() {
+            return this.scope(context -> Boolean.TRUE);
+        }
+
+        /**
+         * Sets the time after which cached results expire. Defaults to five seconds.
+         *
+         * @param expiry the expiry, must be positive
+         * @return this builder
+         */
+        public @This @NonNull Builder<C, T> expireAfter(final @NonNull Duration expiry) {
+            if (expiry.isNegative() || expiry.isZero()) {
+                throw new IllegalArgumentException("expiry must be positive: " + expiry);
+            }
+            this.expiry = expiry;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of cached results. The least recently used results are removed once the cache is full.
+         * Defaults to {@code 1024}.
+         *
+         * @param maximumSize the maximum size, must be positive
+         * @return this builder
+         */
+        public @This @NonNull Builder<C, T> maximumSize(final int maximumSize) {
+            if (maximumSize < 1) {
+                throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Builds the parser.
+         *
+         * @return the parser
+         */
+        public @NonNull CachingArgumentParser<C, T> build() {
+            return new CachingArgumentParser<>(this);
+        }
+    }
+
+    private static final class Key {
+
+        private final Object scope;
+        private final String token;
+
+        private Key(final @NonNull Object scope, final @NonNull String token) {
+            this.scope = scope;
+            this.token = token;
+        }
+
+        @Override
+        public boolean equals(final @Nullable Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof Key)) {
+                return false;
+            }
+            final Key that = (Key) object;
+            return this.scope.equals(that.scope) && this.token.equals(that.token);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * this.scope.hashCode() + this.token.hashCode();
+        }
+    }
+
+    private static final class Entry<T> {
+
+        private final ArgumentParseResult<T> result;
+        private final int consumed;
+        private final long expiresAt;
+
+        private Entry(final @NonNull ArgumentParseResult<T> result, final int consumed, final long expiresAt) {
+            this.result = result;
+            this.consumed = consumed;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -25,6 +25,10 @@ package org.incendo.cloud.parser;
 
 /**
  * Contributes to the {@link ParserRegistry}.
+ * <p>
+ * Contributors are loaded as services once, and the same instance contributes to every
+ * {@link StandardParserRegistry} that is created afterwards, possibly from multiple threads at once. Implementations
+ * should therefore not keep state between invocations of {@link #contribute(ParserRegistry)}.
  */
 public interface ParserContributor {
 
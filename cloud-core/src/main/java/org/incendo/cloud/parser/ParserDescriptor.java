@@ -24,6 +24,7 @@
 package org.incendo.cloud.parser;
 
 import io.leangen.geantyref.TypeToken;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import org.apiguardian.api.API;
@@ -141,6 +142,17 @@ public interface ParserDescriptor<C, T> {
         return parserDescriptor(this.parser().mapSuccess(mapper), mappedType);
     }
 
+    /**
+     * Create a descriptor for a {@link ArgumentParser#cached(Duration) cached} parser.
+     *
+     * @param expiry the time after which cached results expire
+     * @return cached parser descriptor
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default @NonNull ParserDescriptor<C, T> withCache(final @NonNull Duration expiry) {
+        return parserDescriptor(this.parser().cached(expiry), this.valueType());
+    }
+
     /**
      * Creates a new parser descriptor.
      *
@@ -0,0 +1,38 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.parser;
+
+import org.apiguardian.api.API;
+
+/**
+ * Marker interface for {@link ArgumentParser parsers} that are safe to share between multiple components.
+ * <p>
+ * A parser implementing this interface must be immutable, and its behaviour must be fully determined by the type and
+ * the {@link ParserParameters} that were used to create it. The {@link StandardParserRegistry} may then return the same
+ * instance for every component that requests a parser with equal parameters, if
+ * {@link org.incendo.cloud.setting.ManagerSetting#INTERN_PARSERS parser interning} is enabled.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public interface ShareableParser {
+}
@@ -28,15 +28,25 @@ import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.geantyref.TypeToken;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedType;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
 import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.common.returnsreceiver.qual.This;
 import org.incendo.cloud.annotation.specifier.FlagYielding;
 import org.incendo.cloud.annotation.specifier.Greedy;
@@ -86,12 +96,47 @@ public final class StandardParserRegistry<C> implements ParserRegistry<C> {
     private final Map<AnnotatedType, Function<ParserParameters, ArgumentParser<C, ?>>> parserSuppliers = new AnnotatedTypeMap<>();
     private final Map<Class<? extends Annotation>, AnnotationMapper<?>> annotationMappers = new HashMap<>();
     private final Map<String, SuggestionProvider<C>> namedSuggestionProviders = new HashMap<>();
+    private final Map<InternKey, ArgumentParser<C, ?>> internedParsers = new ConcurrentHashMap<>();
+    private final BooleanSupplier interning;
+    // Registry holding the standard annotation mappers and parser suppliers, or null if this is that registry
+    private final @Nullable StandardParserRegistry<?> standard;
 
     /**
      * Construct a new {@link StandardParserRegistry} instance. This will also
      * register all standard annotation mappers and parser suppliers
      */
     public StandardParserRegistry() {
+        this(() -> false);
+    }
+
+    /**
+     * Construct a new {@link StandardParserRegistry} instance. This will also
+     * register all standard annotation mappers and parser suppliers.
+     * <p>
+     * While {@code interning} returns {@code true}, parsers implementing {@link ShareableParser} are reused for
+     * all requests to the same parser supplier with equal {@link ParserParameters}.
+     * <p>
+     * The standard annotation mappers and parser suppliers are created once and shared by all registries. Registrations
+     * made to this registry take precedence over them. The {@link ParserContributor} services are loaded once as well, and
+     * the same contributor instances contribute to every registry. Contributors that fail to load are skipped.
+     *
+     * @param interning whether shareable parsers should be interned
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public StandardParserRegistry(final @NonNull BooleanSupplier interning) {
+        this(Standard.REGISTRY, interning);
+        Standard.CONTRIBUTORS.forEach(contributor -> contributor.contribute(this));
+    }
+
+    private StandardParserRegistry(
+            final @Nullable StandardParserRegistry<?> standard,
+            final @NonNull BooleanSupplier interning
+    ) {
+        this.interning = Objects.requireNonNull(interning, "interning");
+        this.standard = standard;
+        if (standard != null) {
+            return;
+        }
         /* Register standard mappers */
         this.registerAnnotationMapper(Range.class, new RangeMapper());
         this.registerAnnotationMapper(Greedy.class, new GreedyMapper());
@@ -176,12 +221,6 @@ public final class StandardParserRegistry<C> implements ParserRegistry<C> {
         });
         this.registerParser(UUIDParser.uuidParser());
         this.registerParser(DurationParser.durationParser());
-
-        final ServiceLoader<ParserContributor> loader = ServiceLoader.load(
-                ParserContributor.class,
-                ParserContributor.class.getClassLoader()
-        );
-        loader.iterator().forEachRemaining(contributor -> contributor.contribute(this));
     }
 
     private static boolean isPrimitive(final @NonNull TypeToken<?> type) {
@@ -195,6 +234,7 @@ public final class StandardParserRegistry<C> implements ParserRegistry<C> {
                     @NonNull ArgumentParser<C, ?>> supplier
     ) {
         this.parserSuppliers.put(type.getAnnotatedType(), supplier);
+        this.internedParsers.clear();
         return this;
     }
 
@@ -205,6 +245,7 @@ public final class StandardParserRegistry<C> implements ParserRegistry<C> {
                     @NonNull ArgumentParser<C, ?>> supplier
     ) {
         this.namedParsers.put(name, supplier);
+        this.internedParsers.clear();
         return this;
     }
 
@@ -226,7 +267,10 @@ public final class StandardParserRegistry<C> implements ParserRegistry<C> {
         final ParserParameters parserParameters = new ParserParameters();
         annotations.forEach(annotation -> {
             // noinspection all
-            final AnnotationMapper mapper = this.annotationMappers.get(annotation.annotationType());
+            AnnotationMapper mapper = this.annotationMappers.get(annotation.annotationType());
+            if (mapper == null && this.standard != null) {
+                mapper = this.standard.annotationMappers.get(annotation.annotationType());
+            }
             if (mapper == null) {
                 return;
             }
@@ -248,19 +292,28 @@ public final class StandardParserRegistry<C> implements ParserRegistry<C> {
         } else {
             actualType = type;
         }
-        final Function<ParserParameters, ArgumentParser<C, ?>> producer = this.parserSuppliers.get(actualType.getAnnotatedType());
+        Function<ParserParameters, ArgumentParser<C, ?>> producer = this.parserSuppliers.get(actualType.getAnnotatedType());
+        if (producer == null && this.standard != null) {
+            producer = (Function) this.standard.parserSuppliers.get(actualType.getAnnotatedType());
+        }
         if (producer == null) {
             /* Give enums special treatment */
             if (GenericTypeReflector.isSuperType(Enum.class, actualType.getType())) {
-                @SuppressWarnings("rawtypes") final EnumParser enumArgument = new EnumParser(
-                        GenericTypeReflector.erase(actualType.getType())
+                final Class<?> enumClass = GenericTypeReflector.erase(actualType.getType());
+                @SuppressWarnings("rawtypes") final ArgumentParser enumArgument = this.produce(
+                        enumClass,
+                        parserParameters,
+                        parameters -> new EnumParser(enumClass)
                 );
                 return Optional.of(enumArgument);
             }
             return Optional.empty();
         }
-        @SuppressWarnings("unchecked") final ArgumentParser<C, T> parser = (ArgumentParser<C, T>) producer.apply(
-                parserParameters);
+        @SuppressWarnings("unchecked") final ArgumentParser<C, T> parser = (ArgumentParser<C, T>) this.produce(
+                producer,
+                parserParameters,
+                producer
+        );
         return Optional.of(parser);
     }
 
@@ -273,11 +326,38 @@ public final class StandardParserRegistry<C> implements ParserRegistry<C> {
         if (producer == null) {
             return Optional.empty();
         }
-        @SuppressWarnings("unchecked") final ArgumentParser<C, T> parser = (ArgumentParser<C, T>) producer.apply(
-                parserParameters);
+        @SuppressWarnings("unchecked") final ArgumentParser<C, T> parser = (ArgumentParser<C, T>) this.produce(
+                producer,
+                parserParameters,
+                producer
+        );
         return Optional.of(parser);
     }
 
+    private @NonNull ArgumentParser<C, ?> produce(
+            final @NonNull Object source,
+            final @NonNull ParserParameters parserParameters,
+            final @NonNull Function<@NonNull ParserParameters, @NonNull ArgumentParser<C, ?>> producer
+    ) {
+        if (!this.interning.getAsBoolean()) {
+            return producer.apply(parserParameters);
+        }
+        /* The parameters are mutable, so the key holds a copy of them */
+        final ParserParameters parametersCopy = ParserParameters.empty();
+        parametersCopy.merge(parserParameters);
+        final InternKey key = new InternKey(source, parametersCopy);
+        final ArgumentParser<C, ?> interned = this.internedParsers.get(key);
+        if (interned != null) {
+            return interned;
+        }
+        final ArgumentParser<C, ?> parser = producer.apply(parserParameters);
+        if (!(parser instanceof ShareableParser)) {
+            return parser;
+        }
+        final ArgumentParser<C, ?> existing = this.internedParsers.putIfAbsent(key, parser);
+        return existing == null ? parser : existing;
+    }
+
     @Override
     public void registerSuggestionProvider(
             final @NonNull String name,
@@ -295,6 +375,66 @@ public final class StandardParserRegistry<C> implements ParserRegistry<C> {
     }
 
 
+    private static final class Standard {
+
+        private static final Logger LOGGER = Logger.getLogger(StandardParserRegistry.class.getName());
+        private static final StandardParserRegistry<?> REGISTRY = new StandardParserRegistry<>(null, () -> false);
+        // Loaded once and shared by all registries, see ParserContributor
+        private static final List<ParserContributor> CONTRIBUTORS = new ArrayList<>();
+
+        static {
+            final Iterator<ParserContributor> iterator = ServiceLoader.load(
+                    ParserContributor.class,
+                    ParserContributor.class.getClassLoader()
+            ).iterator();
+            while (true) {
+                try {
+                    if (!iterator.hasNext()) {
+                        break;
+                    }
+                } catch (final ServiceConfigurationError e) {
+                    // The lookup itself failed and the iterator may not advance past the failure, so no further providers are loaded
+                    LOGGER.log(Level.WARNING, "Failed to look up parser contributors, skipping the remaining contributors", e);
+                    break;
+                }
+                try {
+                    CONTRIBUTORS.add(iterator.next());
+                } catch (final ServiceConfigurationError e) {
+                    // A broken provider must not prevent the other providers, and this class, from loading
+                    LOGGER.log(Level.WARNING, "Skipping parser contributor that failed to load", e);
+                }
+            }
+        }
+    }
+
+    private static final class InternKey {
+
+        private final Object source;
+        private final ParserParameters parameters;
+
+        private InternKey(final @NonNull Object source, final @NonNull ParserParameters parameters) {
+            this.source = source;
+            this.parameters = parameters;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || this.getClass() != o.getClass()) {
+                return false;
+            }
+            final InternKey that = (InternKey) o;
+            return this.source.equals(that.source) && this.parameters.equals(that.parameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * this.source.hashCode() + this.parameters.hashCode();
+        }
+    }
+
     private static final class RangeMapper implements AnnotationMapper<Range> {
 
         @Override
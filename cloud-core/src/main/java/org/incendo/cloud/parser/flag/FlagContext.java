@@ -61,6 +61,26 @@ public final class FlagContext {
         return new FlagContext();
     }
 
+    /**
+     * Removes all stored flag values, allowing the instance to be reused.
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    public void clear() {
+        this.flagValues.clear();
+    }
+
+    /**
+     * Returns a new flag context containing the values stored in this context.
+     *
+     * @return the copy
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    public @NonNull FlagContext copy() {
+        final FlagContext copy = new FlagContext();
+        this.flagValues.forEach((name, values) -> copy.flagValues.put(name, new ArrayList<>(values)));
+        return copy;
+    }
+
     /**
      * Indicate that a presence flag was supplied
      *
@@ -38,10 +38,12 @@ import org.incendo.cloud.exception.parsing.ParserException;
 import org.incendo.cloud.parser.ArgumentParseResult;
 import org.incendo.cloud.parser.ArgumentParser;
 import org.incendo.cloud.parser.ParserDescriptor;
-import org.incendo.cloud.suggestion.BlockingSuggestionProvider;
+import org.incendo.cloud.parser.ShareableParser;
+import org.incendo.cloud.suggestion.StaticSuggestionProvider;
 
 @API(status = API.Status.STABLE)
-public final class BooleanParser<C> implements ArgumentParser<C, Boolean>, BlockingSuggestionProvider.Strings<C> {
+public final class BooleanParser<C> implements ArgumentParser<C, Boolean>, StaticSuggestionProvider.Strings<C>,
+        ShareableParser {
 
     private static final List<String> STRICT_LOWER = CommandInput.BOOLEAN_STRICT
             .stream().map(s -> s.toLowerCase(Locale.ROOT)).collect(Collectors.toList());
@@ -110,8 +112,7 @@ public final class BooleanParser<C> implements ArgumentParser<C, Boolean>, Block
     }
 
     @Override
-    public @NonNull Iterable<@NonNull String> stringSuggestions(final @NonNull CommandContext<C> commandContext,
-                                                                final @NonNull CommandInput input) {
+    public @NonNull Iterable<@NonNull String> staticStringSuggestions() {
         if (!this.liberal) {
             return STRICT_LOWER;
         }
@@ -35,9 +35,10 @@ import org.incendo.cloud.exception.parsing.ParserException;
 import org.incendo.cloud.parser.ArgumentParseResult;
 import org.incendo.cloud.parser.ArgumentParser;
 import org.incendo.cloud.parser.ParserDescriptor;
+import org.incendo.cloud.parser.ShareableParser;
 
 @API(status = API.Status.STABLE)
-public final class CharacterParser<C> implements ArgumentParser<C, Character> {
+public final class CharacterParser<C> implements ArgumentParser<C, Character>, ShareableParser {
 
     /**
      * Creates a new character parser.
@@ -31,11 +31,12 @@ import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.exception.parsing.NumberParseException;
 import org.incendo.cloud.parser.ArgumentParseResult;
 import org.incendo.cloud.parser.ParserDescriptor;
+import org.incendo.cloud.parser.ShareableParser;
 import org.incendo.cloud.type.range.DoubleRange;
 import org.incendo.cloud.type.range.Range;
 
 @API(status = API.Status.STABLE)
-public final class DoubleParser<C> extends NumberParser<C, Double, DoubleRange> {
+public final class DoubleParser<C> extends NumberParser<C, Double, DoubleRange> implements ShareableParser {
 
     /**
      * Constant for the default/unset minimum value.
@@ -41,6 +41,7 @@ import org.incendo.cloud.exception.parsing.ParserException;
 import org.incendo.cloud.parser.ArgumentParseResult;
 import org.incendo.cloud.parser.ArgumentParser;
 import org.incendo.cloud.parser.ParserDescriptor;
+import org.incendo.cloud.parser.ShareableParser;
 import org.incendo.cloud.suggestion.BlockingSuggestionProvider;
 
 /**
@@ -49,7 +50,8 @@ import org.incendo.cloud.suggestion.BlockingSuggestionProvider;
  * @param <C> command sender type
  */
 @API(status = API.Status.STABLE)
-public final class DurationParser<C> implements ArgumentParser<C, Duration>, BlockingSuggestionProvider.Strings<C> {
+public final class DurationParser<C> implements ArgumentParser<C, Duration>, BlockingSuggestionProvider.Strings<C>,
+        ShareableParser {
 
     /**
      * Creates a new duration parser.
@@ -40,11 +40,12 @@ import org.incendo.cloud.exception.parsing.ParserException;
 import org.incendo.cloud.parser.ArgumentParseResult;
 import org.incendo.cloud.parser.ArgumentParser;
 import org.incendo.cloud.parser.ParserDescriptor;
-import org.incendo.cloud.suggestion.BlockingSuggestionProvider;
+import org.incendo.cloud.parser.ShareableParser;
+import org.incendo.cloud.suggestion.StaticSuggestionProvider;
 
 @API(status = API.Status.STABLE)
 public final class EnumParser<C, E extends Enum<E>> implements ArgumentParser<C, E>,
-        BlockingSuggestionProvider.Strings<C> {
+        StaticSuggestionProvider.Strings<C>, ShareableParser {
 
     /**
      * Creates a new enum parser.
@@ -122,8 +123,7 @@ public final class EnumParser<C, E extends Enum<E>> implements ArgumentParser<C,
     }
 
     @Override
-    public @NonNull Iterable<@NonNull String> stringSuggestions(final @NonNull CommandContext<C> commandContext,
-                                                                final @NonNull CommandInput input) {
+    public @NonNull Iterable<@NonNull String> staticStringSuggestions() {
         return EnumSet.allOf(this.enumClass).stream().map(e -> e.name().toLowerCase(Locale.ROOT)).collect(Collectors.toList());
     }
 
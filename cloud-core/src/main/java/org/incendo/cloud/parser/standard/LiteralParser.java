@@ -23,14 +23,13 @@
 //
 package org.incendo.cloud.parser.standard;
 
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
-import java.util.TreeSet;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -39,9 +38,9 @@ import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.parser.ArgumentParseResult;
 import org.incendo.cloud.parser.ArgumentParser;
 import org.incendo.cloud.parser.ParserDescriptor;
-import org.incendo.cloud.suggestion.BlockingSuggestionProvider;
+import org.incendo.cloud.suggestion.StaticSuggestionProvider;
 
-public final class LiteralParser<C> implements ArgumentParser<C, String>, BlockingSuggestionProvider.Strings<C> {
+public final class LiteralParser<C> implements ArgumentParser<C, String>, StaticSuggestionProvider.Strings<C> {
 
     /**
      * Creates a new literal parser that accepts the given {@code name} and {@code aliases}.
@@ -59,17 +58,26 @@ public final class LiteralParser<C> implements ArgumentParser<C, String>, Blocki
         return ParserDescriptor.of(new LiteralParser<>(name, aliases), String.class);
     }
 
-    private final Set<String> allAcceptedAliases = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-    private final Set<String> alternativeAliases = new HashSet<>();
+    private static final String[] NO_ALIASES = new String[0];
+
+    // The alias arrays are replaced rather than modified, so that they may be read while aliases are inserted.
+    // The accepted aliases are sorted case-insensitively and contain no case-insensitive duplicates.
+    private volatile String[] allAcceptedAliases;
+    private volatile String[] alternativeAliases;
 
     private final String name;
+    // The aliases that the parser was created with, excluding the ones that have been inserted since
+    private final String[] declaredAliases;
 
     private LiteralParser(final @NonNull String name, final @NonNull String... aliases) {
         validateNames(name, aliases);
-        this.name = name;
-        this.allAcceptedAliases.add(this.name);
-        this.allAcceptedAliases.addAll(Arrays.asList(aliases));
-        this.alternativeAliases.addAll(Arrays.asList(aliases));
+        this.name = name.intern();
+        this.allAcceptedAliases = new String[]{this.name};
+        this.alternativeAliases = NO_ALIASES;
+        for (final String alias : aliases) {
+            this.addAlias(alias);
+        }
+        this.declaredAliases = this.alternativeAliases;
     }
 
     @Override
@@ -78,7 +86,7 @@ public final class LiteralParser<C> implements ArgumentParser<C, String>, Blocki
             final @NonNull CommandInput commandInput
     ) {
         final String string = commandInput.peekString();
-        if (this.allAcceptedAliases.contains(string)) {
+        if (Arrays.binarySearch(this.allAcceptedAliases, string, String.CASE_INSENSITIVE_ORDER) >= 0) {
             commandInput.readString();
             return ArgumentParseResult.success(this.name);
         }
@@ -86,8 +94,7 @@ public final class LiteralParser<C> implements ArgumentParser<C, String>, Blocki
     }
 
     @Override
-    public @NonNull Iterable<@NonNull String> stringSuggestions(final @NonNull CommandContext<C> commandContext,
-                                                                final @NonNull CommandInput input) {
+    public @NonNull Iterable<@NonNull String> staticStringSuggestions() {
         return Collections.singletonList(this.name);
     }
 
@@ -101,7 +108,7 @@ public final class LiteralParser<C> implements ArgumentParser<C, String>, Blocki
      */
     @API(status = API.Status.STABLE)
     public @NonNull Collection<@NonNull String> aliases() {
-        return Collections.unmodifiableCollection(this.allAcceptedAliases);
+        return new AliasView(this.allAcceptedAliases);
     }
 
     /**
@@ -114,7 +121,29 @@ public final class LiteralParser<C> implements ArgumentParser<C, String>, Blocki
      */
     @API(status = API.Status.STABLE)
     public @NonNull Collection<@NonNull String> alternativeAliases() {
-        return Collections.unmodifiableCollection(this.alternativeAliases);
+        return Collections.unmodifiableList(Arrays.asList(this.alternativeAliases));
+    }
+
+    /**
+     * Returns the aliases that the parser was created with, excluding the name and the aliases that have been
+     * {@link #insertAlias(String) inserted} since.
+     *
+     * @return the declared aliases
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    public @NonNull Collection<@NonNull String> declaredAliases() {
+        return Collections.unmodifiableList(Arrays.asList(this.declaredAliases));
+    }
+
+    /**
+     * Returns a new parser with the same name and {@link #declaredAliases() declared aliases} as this parser. Aliases
+     * that have been inserted into this parser are not copied.
+     *
+     * @return the copy
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    public @NonNull LiteralParser<C> copy() {
+        return new LiteralParser<>(this.name, this.declaredAliases);
     }
 
     /**
@@ -124,8 +153,33 @@ public final class LiteralParser<C> implements ArgumentParser<C, String>, Blocki
      */
     public void insertAlias(final @NonNull String alias) {
         validateNames("valid", new String[]{alias});
-        this.allAcceptedAliases.add(alias);
-        this.alternativeAliases.add(alias);
+        this.addAlias(alias);
+    }
+
+    private synchronized void addAlias(final @NonNull String alias) {
+        final String interned = alias.intern();
+        final String[] alternativeAliases = this.alternativeAliases;
+        if (!Arrays.asList(alternativeAliases).contains(interned)) {
+            final String[] newAlternativeAliases = Arrays.copyOf(alternativeAliases, alternativeAliases.length + 1);
+            newAlternativeAliases[alternativeAliases.length] = interned;
+            this.alternativeAliases = newAlternativeAliases;
+        }
+        final String[] allAcceptedAliases = this.allAcceptedAliases;
+        final int index = Arrays.binarySearch(allAcceptedAliases, interned, String.CASE_INSENSITIVE_ORDER);
+        if (index < 0) {
+            final int insertionPoint = -(index + 1);
+            final String[] newAllAcceptedAliases = new String[allAcceptedAliases.length + 1];
+            System.arraycopy(allAcceptedAliases, 0, newAllAcceptedAliases, 0, insertionPoint);
+            newAllAcceptedAliases[insertionPoint] = interned;
+            System.arraycopy(
+                    allAcceptedAliases,
+                    insertionPoint,
+                    newAllAcceptedAliases,
+                    insertionPoint + 1,
+                    allAcceptedAliases.length - insertionPoint
+            );
+            this.allAcceptedAliases = newAllAcceptedAliases;
+        }
     }
 
     private static void validateNames(final String name, final @NonNull String[] aliases) {
@@ -154,4 +208,32 @@ public final class LiteralParser<C> implements ArgumentParser<C, String>, Blocki
         }
         return errors;
     }
+
+    /**
+     * Read-only set view of the accepted aliases. Like the case-insensitive set that the aliases used to be stored in,
+     * {@link #contains(Object)} ignores the case of the aliases.
+     */
+    private static final class AliasView extends AbstractSet<String> {
+
+        private final String[] aliases;
+
+        private AliasView(final @NonNull String @NonNull[] aliases) {
+            this.aliases = aliases;
+        }
+
+        @Override
+        public @NonNull Iterator<@NonNull String> iterator() {
+            return Arrays.asList(this.aliases).iterator();
+        }
+
+        @Override
+        public int size() {
+            return this.aliases.length;
+        }
+
+        @Override
+        public boolean contains(final @Nullable Object o) {
+            return o instanceof String && Arrays.binarySearch(this.aliases, (String) o, String.CASE_INSENSITIVE_ORDER) >= 0;
+        }
+    }
 }
@@ -34,6 +34,7 @@ import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.parser.ArgumentParseResult;
 import org.incendo.cloud.parser.ArgumentParser;
 import org.incendo.cloud.parser.ParserDescriptor;
+import org.incendo.cloud.parser.ShareableParser;
 
 /**
  * Parser that parses input into a string array
@@ -41,7 +42,7 @@ import org.incendo.cloud.parser.ParserDescriptor;
  * @param <C> command sender type
  */
 @API(status = API.Status.STABLE)
-public final class StringArrayParser<C> implements ArgumentParser<C, String[]> {
+public final class StringArrayParser<C> implements ArgumentParser<C, String[]>, ShareableParser {
 
     private static final Pattern FLAG_PATTERN = Pattern.compile("(-[A-Za-z_\\-0-9])|(--[A-Za-z_\\-0-9]*)");
 
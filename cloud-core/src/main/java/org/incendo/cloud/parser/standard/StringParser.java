@@ -37,11 +37,12 @@ import org.incendo.cloud.exception.parsing.ParserException;
 import org.incendo.cloud.parser.ArgumentParseResult;
 import org.incendo.cloud.parser.ArgumentParser;
 import org.incendo.cloud.parser.ParserDescriptor;
+import org.incendo.cloud.parser.ShareableParser;
 import org.incendo.cloud.util.StringUtils;
 
 @SuppressWarnings("UnnecessaryLambda")
 @API(status = API.Status.STABLE)
-public final class StringParser<C> implements ArgumentParser<C, String> {
+public final class StringParser<C> implements ArgumentParser<C, String>, ShareableParser {
 
     private static final Pattern QUOTED_DOUBLE = Pattern.compile("\"(?<inner>(?:[^\"\\\\]|\\\\.)*)\"");
     private static final Pattern QUOTED_SINGLE = Pattern.compile("'(?<inner>(?:[^'\\\\]|\\\\.)*)'");
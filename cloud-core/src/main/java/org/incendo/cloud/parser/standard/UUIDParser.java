@@ -36,9 +36,10 @@ import org.incendo.cloud.exception.parsing.ParserException;
 import org.incendo.cloud.parser.ArgumentParseResult;
 import org.incendo.cloud.parser.ArgumentParser;
 import org.incendo.cloud.parser.ParserDescriptor;
+import org.incendo.cloud.parser.ShareableParser;
 
 @API(status = API.Status.STABLE)
-public final class UUIDParser<C> implements ArgumentParser<C, UUID> {
+public final class UUIDParser<C> implements ArgumentParser<C, UUID>, ShareableParser {
 
     /**
      * Creates a new UUID parser.
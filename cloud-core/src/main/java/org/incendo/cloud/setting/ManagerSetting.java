@@ -61,5 +61,95 @@ public enum ManagerSetting implements Setting {
      * and code inspecting the command tree may need to be adjusted.
      */
     @API(status = API.Status.EXPERIMENTAL)
-    LIBERAL_FLAG_PARSING
+    LIBERAL_FLAG_PARSING,
+
+    /**
+     * Skips recording of parse timings and consumed input in the {@link org.incendo.cloud.context.ParsingContext parsing
+     * contexts} created during command parsing.
+     * <p>
+     * When enabled, {@link org.incendo.cloud.context.ParsingContext#parseDuration()} and
+     * {@link org.incendo.cloud.context.ParsingContext#consumedInput()} are unavailable, and
+     * {@link org.incendo.cloud.context.ParsingContext#exactAlias()} will always return {@code null}.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    LIGHTWEIGHT_PARSING_CONTEXTS,
+
+    /**
+     * Records a {@link org.incendo.cloud.context.ParsingContext parsing context} for every component that the command tree
+     * attempts to parse, including failed attempts such as non-matching literal siblings.
+     * <p>
+     * By default only the components that were parsed successfully are recorded.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    DETAILED_PARSE_TRACING,
+
+    /**
+     * Reuses {@link org.incendo.cloud.context.CommandContext command contexts} between command executions.
+     * <p>
+     * Contexts are created by the configured {@link org.incendo.cloud.context.CommandContextFactory} and are returned to a
+     * bounded pool once the execution has completed successfully. The context may not be used after the execution has
+     * completed, which includes the {@link org.incendo.cloud.execution.CommandResult#commandContext() context of the result}
+     * and references held by command handlers. Contexts of failed executions are never reused.
+     * This is intended for high-frequency command sources and does not affect suggestions.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    POOLED_EXECUTION,
+
+    /**
+     * Makes {@link #POOLED_EXECUTION} discard released contexts instead of reusing them, and makes any access to a released
+     * context fail with an {@link IllegalStateException}.
+     * <p>
+     * This is intended to be used in tests to detect code that retains command contexts beyond the execution.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    POOLED_EXECUTION_SAFETY_CHECKS,
+
+    /**
+     * Enables per-sender suggestion sessions.
+     * <p>
+     * When enabled, the suggestion factory remembers the deepest node that was reached for the previous suggestion request
+     * of a sender, together with the values that were parsed on the way there. If the next request extends the input that
+     * was consumed to reach that node, the suggestion lookup resumes from the node instead of re-parsing the input from the
+     * root. Resumed requests skip the permission checks of the skipped nodes, but the command preprocessors are invoked
+     * for every request.
+     * <p>
+     * Sessions are invalidated when the command tree changes, and are dropped once they have not been used for a short
+     * amount of time.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    INCREMENTAL_SUGGESTIONS,
+
+    /**
+     * Enables coalescing of suggestion requests.
+     * <p>
+     * When enabled, a new suggestion request of a sender cancels the in-flight request of the same sender. The future of
+     * the superseded request completes with an empty result, and the
+     * {@link org.incendo.cloud.context.CommandContext#cancelled() cancellation}
+     * propagates into the command tree and the pending suggestion provider futures, so that work whose result would be
+     * discarded is dropped instead.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    COALESCE_SUGGESTIONS,
+
+    /**
+     * Enables interning of the parsers created by the {@link org.incendo.cloud.parser.StandardParserRegistry}.
+     * <p>
+     * When enabled, parsers implementing {@link org.incendo.cloud.parser.ShareableParser} are cached by the parser supplier
+     * that created them and the {@link org.incendo.cloud.parser.ParserParameters} they were created with, and the same
+     * instance is returned for every later request with equal parameters. This reduces the memory used by large numbers of
+     * components that use identical parsers, such as enum arguments or arguments with the same range.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    INTERN_PARSERS,
+
+    /**
+     * Enables concurrent requests to the suggestion providers of sibling nodes.
+     * <p>
+     * When enabled, and the sender is typing the token that the children of a node would parse, the suggestion providers of
+     * all children of that node are started together on the suggestion executor instead of one after another. The
+     * suggestions are merged in the same order as when this setting is disabled. This reduces the latency of suggestions for
+     * nodes whose children have slow, such as I/O-bound, suggestion providers. Nodes with a flag child are not affected.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    PARALLEL_SUGGESTIONS
 }
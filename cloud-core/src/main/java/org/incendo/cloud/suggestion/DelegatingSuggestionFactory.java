@@ -28,12 +28,17 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.CommandManager;
 import org.incendo.cloud.CommandTree;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandContextFactory;
 import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.execution.ExecutionCoordinator;
+import org.incendo.cloud.internal.SuggestionRequests;
+import org.incendo.cloud.internal.SuggestionSession;
+import org.incendo.cloud.internal.SuggestionSessions;
+import org.incendo.cloud.metrics.CommandMetrics;
 import org.incendo.cloud.services.State;
 import org.incendo.cloud.setting.ManagerSetting;
 
@@ -52,6 +57,8 @@ public final class DelegatingSuggestionFactory<C, S extends Suggestion> implemen
     private final CommandContextFactory<C> contextFactory;
     private final ExecutionCoordinator<C> executionCoordinator;
     private final SuggestionMapper<S> mapper;
+    private final SuggestionSessions<C> sessions = new SuggestionSessions<>();
+    private final SuggestionRequests<C> requests = new SuggestionRequests<>();
 
     /**
      * Creates a new {@link DelegatingSuggestionFactory}.
@@ -108,23 +115,65 @@ public final class DelegatingSuggestionFactory<C, S extends Suggestion> implemen
             final @NonNull CommandContext<C> context,
             final @NonNull String input
     ) {
+        final CommandMetrics<C> metrics = this.commandManager.commandMetrics();
+        final long start = metrics.enabled() ? System.nanoTime() : 0L;
         final @NonNull CommandInput commandInput = CommandInput.of(input);
         /* Store a copy of the input queue in the context */
         context.store("__raw_input__", commandInput.copy());
 
+        /* Supersede the in-flight request of the sender */
+        final SuggestionRequests.@Nullable Request<C> request;
+        if (this.commandManager.settings().get(ManagerSetting.COALESCE_SUGGESTIONS)) {
+            request = this.requests.begin(context.sender(), context);
+        } else {
+            request = null;
+        }
+
+        /* Resume from the previous request of the sender, if possible */
+        SuggestionSession.Checkpoint<C> checkpoint = null;
+        if (this.commandManager.settings().get(ManagerSetting.INCREMENTAL_SUGGESTIONS)) {
+            final long modificationCount = this.commandTree.modificationCount();
+            final SuggestionSession<C> session = this.sessions.session(context.sender(), modificationCount);
+            checkpoint = session.resumableCheckpoint(input, modificationCount);
+            context.store(SuggestionSession.SESSION_KEY, session);
+            if (checkpoint != null) {
+                context.store(SuggestionSession.RESUME_KEY, checkpoint);
+            }
+        }
+
+        /* Preprocessors run for every request, including the ones that resume from a checkpoint */
         if (this.commandManager.preprocessContext(context, commandInput) != State.ACCEPTED) {
+            if (request != null) {
+                this.requests.complete(context.sender(), request);
+            }
             if (this.commandManager.settings().get(ManagerSetting.FORCE_SUGGESTION)) {
                 return CompletableFuture.completedFuture(Suggestions.create(context, this.singleEmptySuggestion, commandInput));
             }
             return CompletableFuture.completedFuture(Suggestions.create(context, Collections.emptyList(), commandInput));
         }
 
-        return this.executionCoordinator.coordinateSuggestions(this.commandTree, context, commandInput, this.mapper)
+        final CompletableFuture<Suggestions<C, S>> future = this.executionCoordinator.coordinateSuggestions(
+                        this.commandTree,
+                        context,
+                        commandInput,
+                        this.mapper
+                )
                 .thenApply(suggestions -> {
                     if (this.commandManager.settings().get(ManagerSetting.FORCE_SUGGESTION) && suggestions.list().isEmpty()) {
                         return Suggestions.create(suggestions.commandContext(), this.singleEmptySuggestion, commandInput);
                     }
                     return suggestions;
+                })
+                .whenComplete((suggestions, throwable) -> {
+                    if (metrics.enabled()) {
+                        metrics.suggested(context, System.nanoTime() - start);
+                    }
                 });
+        if (request != null) {
+            final C sender = context.sender();
+            request.attach(future, Suggestions.create(context, Collections.emptyList(), commandInput));
+            future.whenComplete((suggestions, throwable) -> this.requests.complete(sender, request));
+        }
+        return future;
     }
 }
@@ -0,0 +1,104 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.suggestion;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+
+/**
+ * Specialized variant of {@link BlockingSuggestionProvider} that always provides the same suggestions, independently of
+ * the command context and the input.
+ *
+ * <p>The command tree may cache the suggestions of static providers, in which case the provider is not invoked
+ * for every suggestion request. Implementations must therefore return the same suggestions every time
+ * {@link #staticSuggestions()} is invoked.</p>
+ *
+ * @param <C> command sender type
+ */
+@FunctionalInterface
+@API(status = API.Status.EXPERIMENTAL)
+public interface StaticSuggestionProvider<C> extends BlockingSuggestionProvider<C> {
+
+    /**
+     * Returns the suggestions.
+     *
+     * @return the suggestions
+     */
+    @NonNull Iterable<? extends @NonNull Suggestion> staticSuggestions();
+
+    @Override
+    default @NonNull Iterable<? extends @NonNull Suggestion> suggestions(
+            final @NonNull CommandContext<C> context,
+            final @NonNull CommandInput input
+    ) {
+        return this.staticSuggestions();
+    }
+
+    /**
+     * Specialized variant of {@link StaticSuggestionProvider} that has {@link String} results
+     * instead of {@link Suggestion} results.
+     *
+     * @param <C> command sender type
+     */
+    @FunctionalInterface
+    @API(status = API.Status.EXPERIMENTAL)
+    interface Strings<C> extends StaticSuggestionProvider<C>, BlockingSuggestionProvider.Strings<C> {
+
+        /**
+         * Returns the suggestions.
+         *
+         * @return the suggestions
+         */
+        @NonNull Iterable<@NonNull String> staticStringSuggestions();
+
+        @Override
+        default @NonNull Iterable<@NonNull Suggestion> staticSuggestions() {
+            final List<Suggestion> suggestions = new ArrayList<>();
+            for (final String suggestion : this.staticStringSuggestions()) {
+                suggestions.add(Suggestion.suggestion(suggestion));
+            }
+            return suggestions;
+        }
+
+        @Override
+        default @NonNull Iterable<@NonNull String> stringSuggestions(
+                final @NonNull CommandContext<C> commandContext,
+                final @NonNull CommandInput input
+        ) {
+            return this.staticStringSuggestions();
+        }
+
+        @Override
+        default @NonNull Iterable<@NonNull Suggestion> suggestions(
+                final @NonNull CommandContext<C> context,
+                final @NonNull CommandInput input
+        ) {
+            return this.staticSuggestions();
+        }
+    }
+}
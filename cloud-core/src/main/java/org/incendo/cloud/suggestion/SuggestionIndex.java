@@ -0,0 +1,322 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.suggestion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Immutable index over a fixed set of suggestions, used to look up the suggestions matching an input without testing
+ * every suggestion.
+ * <p>
+ * The suggestions are case-folded and indexed once into a sorted prefix index and a trigram index. Matches are ordered by
+ * their quality:
+ * <ol>
+ *     <li>exact matches,</li>
+ *     <li>prefix matches, shortest first,</li>
+ *     <li>matches anywhere in the suggestion, earliest occurrence first,</li>
+ *     <li>fuzzy matches, where a prefix of the suggestion is within one edit of the input, or two edits for inputs of
+ *     eight or more characters, fewest edits first.</li>
+ * </ol>
+ * Inputs shorter than three characters only match prefixes, and inputs shorter than four characters
+ * are not matched fuzzily.
+ * <p>
+ * Prefix lookups cost a binary search plus the number of matches. The other lookups do not scan the indexed suggestions,
+ * but they are bounded by the posting lists of the trigrams of the input rather than by the number of matches: infix
+ * matches by the shortest posting list, and fuzzy matches by the combined length of the posting lists. Fuzzy matching
+ * only considers suggestions that share enough trigrams with the input, so an edit that removes every trigram of a
+ * short input is not matched.
+ * <p>
+ * Use {@link SuggestionProvider#indexed(SuggestionIndex)} to suggest from an index.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class SuggestionIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final int FUZZY_LENGTH = 4;
+    private static final int TWO_EDITS_LENGTH = 8;
+
+    private final Suggestion[] suggestions;
+    private final String[] folded;
+    private final int[] sorted;
+    private final Map<String, int[]> grams;
+
+    private SuggestionIndex(final @NonNull List<@NonNull Suggestion> suggestions) {
+        this.suggestions = suggestions.toArray(new Suggestion[0]);
+        this.folded = new String[this.suggestions.length];
+        for (int i = 0; i < this.suggestions.length; i++) {
+            this.folded[i] = fold(this.suggestions[i].suggestion());
+        }
+        this.sorted = sortedIds(this.folded);
+        this.grams = gramPostings(this.folded);
+    }
+
+    /**
+     * Creates a new index over the given {@code suggestions}.
+     *
+     * @param suggestions the suggestions to index
+     * @return the index
+     */
+    public static @NonNull SuggestionIndex of(final @NonNull Iterable<? extends @NonNull Suggestion> suggestions) {
+        final List<@NonNull Suggestion> list = new ArrayList<>();
+        suggestions.forEach(list::add);
+        return new SuggestionIndex(list);
+    }
+
+    /**
+     * Creates a new index over the given string {@code suggestions}.
+     *
+     * @param suggestions the suggestions to index
+     * @return the index
+     */
+    public static @NonNull SuggestionIndex ofStrings(final @NonNull Iterable<@NonNull String> suggestions) {
+        final List<@NonNull Suggestion> list = new ArrayList<>();
+        suggestions.forEach(suggestion -> list.add(Suggestion.suggestion(suggestion)));
+        return new SuggestionIndex(list);
+    }
+
+    /**
+     * Returns the number of indexed suggestions.
+     *
+     * @return the number of suggestions
+     */
+    public int size() {
+        return this.suggestions.length;
+    }
+
+    /**
+     * Returns the suggestions that match the given {@code input}, ignoring case, ordered by the quality of the match.
+     * All suggestions are returned in their original order if the input is empty.
+     *
+     * @param input the input
+     * @return the matching suggestions
+     */
+    public @NonNull List<@NonNull Suggestion> matches(final @NonNull String input) {
+        if (input.isEmpty()) {
+            return Collections.unmodifiableList(Arrays.asList(this.suggestions));
+        }
+        final String query = fold(input);
+        final List<Suggestion> matches = new ArrayList<>();
+        this.prefixMatches(query, matches);
+        if (query.length() >= GRAM_LENGTH) {
+            this.infixMatches(query, matches);
+        }
+        if (query.length() >= FUZZY_LENGTH) {
+            this.fuzzyMatches(query, matches);
+        }
+        return Collections.unmodifiableList(matches);
+    }
+
+    private void prefixMatches(final @NonNull String query, final @NonNull List<Suggestion> matches) {
+        final List<Integer> ids = new ArrayList<>();
+        for (int i = this.lowerBound(query); i < this.sorted.length && this.folded[this.sorted[i]].startsWith(query); i++) {
+            ids.add(this.sorted[i]);
+        }
+        // Sorting is stable, so suggestions of the same length remain in lexicographic order.
+        ids.sort(Comparator.comparingInt(id -> this.folded[id].length()));
+        ids.forEach(id -> matches.add(this.suggestions[id]));
+    }
+
+    private void infixMatches(final @NonNull String query, final @NonNull List<Suggestion> matches) {
+        final List<int[]> postingLists = new ArrayList<>();
+        for (int i = 0; i + GRAM_LENGTH <= query.length(); i++) {
+            final int[] postings = this.grams.get(query.substring(i, i + GRAM_LENGTH));
+            if (postings == null) {
+                return;
+            }
+            postingLists.add(postings);
+        }
+        // Intersecting from the shortest list keeps every intermediate result as small as possible.
+        postingLists.sort(Comparator.comparingInt(postings -> postings.length));
+        int[] candidates = postingLists.get(0);
+        for (int i = 1; i < postingLists.size() && candidates.length > 0; i++) {
+            candidates = intersect(candidates, postingLists.get(i));
+        }
+        final List<Integer> ids = new ArrayList<>();
+        for (final int id : candidates) {
+            final String suggestion = this.folded[id];
+            if (suggestion.indexOf(query) > 0) {
+                ids.add(id);
+            }
+        }
+        ids.sort(Comparator.<Integer>comparingInt(id -> this.folded[id].indexOf(query))
+                .thenComparingInt(id -> this.folded[id].length()));
+        ids.forEach(id -> matches.add(this.suggestions[id]));
+    }
+
+    private void fuzzyMatches(final @NonNull String query, final @NonNull List<Suggestion> matches) {
+        final int maxEdits = query.length() >= TWO_EDITS_LENGTH ? 2 : 1;
+        final int gramCount = query.length() - GRAM_LENGTH + 1;
+        // Each edit changes at most GRAM_LENGTH of the trigrams of the input.
+        final int minSharedGrams = Math.max(1, gramCount - maxEdits * GRAM_LENGTH);
+        final Map<Integer, Integer> sharedGrams = new HashMap<>();
+        for (int i = 0; i < gramCount; i++) {
+            final int[] postings = this.grams.get(query.substring(i, i + GRAM_LENGTH));
+            if (postings == null) {
+                continue;
+            }
+            for (final int id : postings) {
+                sharedGrams.merge(id, 1, Integer::sum);
+            }
+        }
+        final List<Integer> ids = new ArrayList<>();
+        final Map<Integer, Integer> distances = new HashMap<>();
+        sharedGrams.forEach((id, shared) -> {
+            if (shared < minSharedGrams || this.folded[id].contains(query)) {
+                return;
+            }
+            final int distance = prefixDistance(query, this.folded[id], maxEdits);
+            if (distance <= maxEdits) {
+                ids.add(id);
+                distances.put(id, distance);
+            }
+        });
+        ids.sort(Comparator.<Integer>comparingInt(distances::get)
+                .thenComparingInt(id -> this.folded[id].length())
+                .thenComparingInt(id -> id));
+        ids.forEach(id -> matches.add(this.suggestions[id]));
+    }
+
+    // Smallest edit distance between the query and a prefix of the suggestion, or maxEdits + 1 if it exceeds maxEdits.
+    private static int prefixDistance(final @NonNull String query, final @NonNull String suggestion, final int maxEdits) {
+        final int columns = Math.min(suggestion.length(), query.length() + maxEdits);
+        int[] previous = new int[columns + 1];
+        int[] current = new int[columns + 1];
+        for (int j = 0; j <= columns; j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= query.length(); i++) {
+            current[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= columns; j++) {
+                final int substitution = previous[j - 1] + (query.charAt(i - 1) == suggestion.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxEdits) {
+                return maxEdits + 1;
+            }
+            final int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        int distance = previous[0];
+        for (int j = 1; j <= columns; j++) {
+            distance = Math.min(distance, previous[j]);
+        }
+        return distance;
+    }
+
+    private static int @NonNull [] intersect(final int @NonNull [] smaller, final int @NonNull [] larger) {
+        final int[] intersection = new int[smaller.length];
+        int size = 0;
+        int from = 0;
+        for (final int id : smaller) {
+            final int index = Arrays.binarySearch(larger, from, larger.length, id);
+            if (index >= 0) {
+                intersection[size++] = id;
+                from = index + 1;
+            } else {
+                from = -index - 1;
+            }
+            if (from == larger.length) {
+                break;
+            }
+        }
+        return Arrays.copyOf(intersection, size);
+    }
+
+    private int lowerBound(final @NonNull String query) {
+        int low = 0;
+        int high = this.sorted.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (this.folded[this.sorted[mid]].compareTo(query) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int @NonNull [] sortedIds(final @NonNull String @NonNull [] folded) {
+        final Integer[] ids = new Integer[folded.length];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = i;
+        }
+        Arrays.sort(ids, Comparator.comparing(id -> folded[id]));
+        final int[] sorted = new int[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            sorted[i] = ids[i];
+        }
+        return sorted;
+    }
+
+    private static @NonNull Map<String, int[]> gramPostings(final @NonNull String @NonNull [] folded) {
+        final Map<String, Postings> postings = new HashMap<>();
+        for (int id = 0; id < folded.length; id++) {
+            final String suggestion = folded[id];
+            for (int i = 0; i + GRAM_LENGTH <= suggestion.length(); i++) {
+                postings.computeIfAbsent(suggestion.substring(i, i + GRAM_LENGTH), $ -> new Postings()).add(id);
+            }
+        }
+        final Map<String, int[]> grams = new HashMap<>(postings.size() * 4 / 3 + 1);
+        postings.forEach((gram, ids) -> grams.put(gram, ids.toArray()));
+        return grams;
+    }
+
+    private static @NonNull String fold(final @NonNull String string) {
+        return string.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Postings {
+
+        private int[] ids = new int[4];
+        private int size;
+
+        private void add(final int id) {
+            // Ids are added in increasing order, so a suggestion that contains a gram twice is only added once.
+            if (this.size > 0 && this.ids[this.size - 1] == id) {
+                return;
+            }
+            if (this.size == this.ids.length) {
+                this.ids = Arrays.copyOf(this.ids, this.size * 2);
+            }
+            this.ids[this.size++] = id;
+        }
+
+        private int @NonNull [] toArray() {
+            return Arrays.copyOf(this.ids, this.size);
+        }
+    }
+}
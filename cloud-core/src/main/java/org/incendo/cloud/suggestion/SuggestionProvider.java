@@ -24,6 +24,8 @@
 package org.incendo.cloud.suggestion;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -99,6 +101,7 @@ public interface SuggestionProvider<C> {
 
     /**
      * Create a {@link SuggestionProvider} that provides constant suggestions.
+     * The returned provider is a {@link StaticSuggestionProvider}.
      *
      * @param suggestions list of strings to suggest
      * @param <C>         command sender type
@@ -107,11 +110,14 @@ public interface SuggestionProvider<C> {
     static <C> @NonNull SuggestionProvider<C> suggesting(
             final @NonNull Suggestion @NonNull... suggestions
     ) {
-        return suggesting(Arrays.asList(suggestions));
+        final List<@NonNull Suggestion> list = Collections.unmodifiableList(Arrays.asList(suggestions.clone()));
+        final StaticSuggestionProvider<C> provider = () -> list;
+        return provider;
     }
 
     /**
      * Create a {@link SuggestionProvider} that provides constant string suggestions.
+     * The returned provider is a {@link StaticSuggestionProvider}.
      *
      * @param suggestions list of strings to suggest
      * @param <C>         command sender type
@@ -120,7 +126,9 @@ public interface SuggestionProvider<C> {
     static <C> @NonNull SuggestionProvider<C> suggestingStrings(
             final @NonNull String @NonNull... suggestions
     ) {
-        return suggestingStrings(Arrays.asList(suggestions));
+        final List<@NonNull String> list = Collections.unmodifiableList(Arrays.asList(suggestions.clone()));
+        final StaticSuggestionProvider.Strings<C> provider = () -> list;
+        return provider;
     }
 
     /**
@@ -148,4 +156,22 @@ public interface SuggestionProvider<C> {
     ) {
         return blockingStrings((ctx, input) -> suggestions);
     }
+
+    /**
+     * Create a {@link SuggestionProvider} that provides the suggestions of the given {@code index} that match the
+     * {@link CommandInput#lastRemainingToken() token that is currently being typed}, ordered by the quality of the match.
+     * <p>
+     * The matches are still passed through the {@link org.incendo.cloud.CommandManager#suggestionProcessor() suggestion
+     * processor}. The default processor only keeps suggestions that contain the input, which drops fuzzy matches. Use
+     * {@link SuggestionProcessor#passThrough()} to keep them.
+     *
+     * @param index the suggestion index
+     * @param <C>   command sender type
+     * @return suggestion provider
+     * @see SuggestionIndex#matches(String)
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    static <C> @NonNull SuggestionProvider<C> indexed(final @NonNull SuggestionIndex index) {
+        return blocking((ctx, input) -> index.matches(input.lastRemainingToken()));
+    }
 }
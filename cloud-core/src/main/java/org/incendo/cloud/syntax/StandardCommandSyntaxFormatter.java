@@ -25,8 +25,12 @@ package org.incendo.cloud.syntax;
 
 import io.leangen.geantyref.GenericTypeReflector;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
@@ -56,15 +60,40 @@ import org.incendo.cloud.permission.Permission;
 @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
 public class StandardCommandSyntaxFormatter<C> implements CommandSyntaxFormatter<C> {
 
+    /**
+     * A suggested maximum amount of cached syntax strings, for use with
+     * {@link #StandardCommandSyntaxFormatter(CommandManager, int)}.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public static final int DEFAULT_CACHE_SIZE = 512;
+
     private final CommandManager<C> manager;
+    private final @Nullable SyntaxCache<C> cache;
 
     /**
-     * Creates a new {@link StandardCommandSyntaxFormatter}.
+     * Creates a new {@link StandardCommandSyntaxFormatter} that does not cache syntax strings.
      *
      * @param manager command manager
      */
     public StandardCommandSyntaxFormatter(final @NonNull CommandManager<C> manager) {
+        this(manager, 0 /* cacheSize */);
+    }
+
+    /**
+     * Creates a new {@link StandardCommandSyntaxFormatter}.
+     * <p>
+     * The formatter caches up to {@code cacheSize} syntax strings, and the permissions of up to {@code cacheSize} pairs of
+     * nodes and sender types. A syntax string is reused for as long as the command tree is not modified, and the sender
+     * has access to the same nodes as the sender that the string was produced for. The cache is opt-in, and subclasses
+     * that produce different strings for identical inputs should not enable it.
+     *
+     * @param manager   command manager
+     * @param cacheSize the maximum amount of cached syntax strings, or {@code 0} to disable the cache
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public StandardCommandSyntaxFormatter(final @NonNull CommandManager<C> manager, final int cacheSize) {
         this.manager = manager;
+        this.cache = cacheSize > 0 ? new SyntaxCache<>(cacheSize) : null;
     }
 
     /**
@@ -76,23 +105,116 @@ public class StandardCommandSyntaxFormatter<C> implements CommandSyntaxFormatter
             final @NonNull List<@NonNull CommandComponent<C>> commandComponents,
             final @Nullable CommandNode<C> node
     ) {
-        return this.apply(commandComponents, node, n -> {
-            if (sender == null) {
+        final SyntaxCache<C> cache = this.cache;
+        if (cache == null) {
+            return this.apply(commandComponents, node, n -> this.isVisible(sender, n, null));
+        }
+        final long modificationCount = this.manager.commandTree().modificationCount();
+        cache.invalidateIfModified(modificationCount);
+
+        // The syntax only depends on the sender through the visibility of the nodes that follow the given node
+        final Map<CommandNode<C>, Boolean> visibility = new IdentityHashMap<>();
+        final Predicate<CommandNode<C>> filter = n -> visibility.computeIfAbsent(n, key -> this.isVisible(sender, key, cache));
+        final BitSet signature = new BitSet();
+        final int signatureLength = visibilitySignature(node, filter, signature);
+
+        final SyntaxKey<C> key = new SyntaxKey<>(commandComponents, node, signature, signatureLength);
+        final String cached = cache.syntax(key);
+        if (cached != null) {
+            return cached;
+        }
+        final String syntax = this.apply(commandComponents, node, filter);
+        /* The signature and the syntax are only cached if the tree has not been modified while they were computed, so
+           that both describe the same snapshot of the tree */
+        if (this.manager.commandTree().modificationCount() == modificationCount) {
+            cache.syntax(key, syntax, modificationCount);
+        }
+        return syntax;
+    }
+
+    private boolean isVisible(
+            final @Nullable C sender,
+            final @NonNull CommandNode<C> node,
+            final @Nullable SyntaxCache<C> cache
+    ) {
+        if (sender == null) {
+            return true;
+        }
+        final List<Permission> permissions = cache == null
+                ? applicablePermissions(node, sender.getClass())
+                : cache.permissions(node, sender.getClass());
+        for (final Permission permission : permissions) {
+            if (this.manager.testPermission(sender, permission).allowed()) {
                 return true;
             }
-            final Map<Type, Permission> accessMap = n.nodeMeta().getOrDefault(
-                    CommandNode.META_KEY_ACCESS,
-                    Collections.emptyMap()
-            );
-            for (final Map.Entry<Type, Permission> entry : accessMap.entrySet()) {
-                if (GenericTypeReflector.isSuperType(entry.getKey(), sender.getClass())) {
-                    if (this.manager.testPermission(sender, entry.getValue()).allowed()) {
-                        return true;
-                    }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the permissions of the access map of the given {@code node} that apply to senders of the given type.
+     *
+     * @param node       the node
+     * @param senderType the sender type
+     * @param <C>        command sender type
+     * @return the applicable permissions
+     */
+    private static <C> @NonNull List<@NonNull Permission> applicablePermissions(
+            final @NonNull CommandNode<C> node,
+            final @NonNull Class<?> senderType
+    ) {
+        final Map<Type, Permission> accessMap = node.nodeMeta().getOrDefault(
+                CommandNode.META_KEY_ACCESS,
+                Collections.emptyMap()
+        );
+        final List<Permission> permissions = new ArrayList<>(accessMap.size());
+        for (final Map.Entry<Type, Permission> entry : accessMap.entrySet()) {
+            if (GenericTypeReflector.isSuperType(entry.getKey(), senderType)) {
+                permissions.add(entry.getValue());
+            }
+        }
+        return permissions;
+    }
+
+    /**
+     * Records the visibility of the nodes that are inspected when the syntax following the given {@code node} is
+     * formatted, in the order that they are inspected in. The syntax is fully determined by the components, the node
+     * and the recorded visibility.
+     *
+     * @param node      the node
+     * @param filter    the visibility filter
+     * @param signature the bit set to record the visibility to
+     * @param <C>       command sender type
+     * @return the number of recorded nodes
+     */
+    private static <C> int visibilitySignature(
+            final @Nullable CommandNode<C> node,
+            final @NonNull Predicate<@NonNull CommandNode<C>> filter,
+            final @NonNull BitSet signature
+    ) {
+        int index = 0;
+        CommandNode<C> tail = node;
+        while (tail != null && !tail.isLeaf()) {
+            final boolean visible = filter.test(tail);
+            signature.set(index++, visible);
+            if (!visible) {
+                break;
+            }
+            if (tail.children().size() > 1) {
+                for (final CommandNode<C> child : tail.children()) {
+                    signature.set(index++, filter.test(child));
                 }
+                break;
+            }
+            final CommandNode<C> child = tail.children().get(0);
+            final boolean childVisible = filter.test(child);
+            signature.set(index++, childVisible);
+            if (!childVisible) {
+                break;
             }
-            return false;
-        });
+            tail = child;
+        }
+        return index;
     }
 
     private @NonNull String apply(
@@ -362,4 +484,142 @@ public class StandardCommandSyntaxFormatter<C> implements CommandSyntaxFormatter
             this.builder.append(' ');
         }
     }
+
+
+    private static final class SyntaxKey<C> {
+
+        private final CommandComponent<?>[] components;
+        private final @Nullable CommandNode<C> node;
+        private final BitSet signature;
+        private final int signatureLength;
+        private final int hashCode;
+
+        private SyntaxKey(
+                final @NonNull List<@NonNull CommandComponent<C>> components,
+                final @Nullable CommandNode<C> node,
+                final @NonNull BitSet signature,
+                final int signatureLength
+        ) {
+            this.components = components.toArray(new CommandComponent<?>[0]);
+            this.node = node;
+            this.signature = signature;
+            this.signatureLength = signatureLength;
+            int hashCode = System.identityHashCode(node);
+            for (final CommandComponent<?> component : this.components) {
+                hashCode = 31 * hashCode + System.identityHashCode(component);
+            }
+            this.hashCode = 31 * (31 * hashCode + signature.hashCode()) + signatureLength;
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof SyntaxKey)) {
+                return false;
+            }
+            final SyntaxKey<?> other = (SyntaxKey<?>) object;
+            if (this.node != other.node || this.signatureLength != other.signatureLength
+                    || this.components.length != other.components.length || !this.signature.equals(other.signature)) {
+                return false;
+            }
+            for (int i = 0; i < this.components.length; i++) {
+                if (this.components[i] != other.components[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+    }
+
+    /**
+     * Bounded cache of syntax strings and of the permissions that apply to a sender type. The cache is cleared when the
+     * command tree is modified.
+     *
+     * @param <C> command sender type
+     */
+    private static final class SyntaxCache<C> {
+
+        private final Map<SyntaxKey<C>, String> syntax;
+        private final Map<PermissionKey<C>, List<Permission>> permissions;
+        private long modificationCount = -1;
+
+        private SyntaxCache(final int maximumSize) {
+            this.syntax = boundedMap(maximumSize);
+            this.permissions = boundedMap(maximumSize);
+        }
+
+        private static <K, V> @NonNull Map<K, V> boundedMap(final int maximumSize) {
+            return new LinkedHashMap<K, V>(16, 0.75F, true /* accessOrder */) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+                    return this.size() > maximumSize;
+                }
+            };
+        }
+
+        private synchronized void invalidateIfModified(final long modificationCount) {
+            if (this.modificationCount != modificationCount) {
+                this.syntax.clear();
+                this.permissions.clear();
+                this.modificationCount = modificationCount;
+            }
+        }
+
+        private synchronized @Nullable String syntax(final @NonNull SyntaxKey<C> key) {
+            return this.syntax.get(key);
+        }
+
+        private synchronized void syntax(final @NonNull SyntaxKey<C> key, final @NonNull String syntax, final long modificationCount) {
+            if (this.modificationCount == modificationCount) {
+                this.syntax.put(key, syntax);
+            }
+        }
+
+        private synchronized @NonNull List<@NonNull Permission> permissions(
+                final @NonNull CommandNode<C> node,
+                final @NonNull Class<?> senderType
+        ) {
+            return this.permissions.computeIfAbsent(
+                    new PermissionKey<>(node, senderType),
+                    key -> applicablePermissions(node, senderType)
+            );
+        }
+    }
+
+    /**
+     * Key of the permissions of a node that apply to a sender type. Nodes are compared by identity.
+     *
+     * @param <C> command sender type
+     */
+    private static final class PermissionKey<C> {
+
+        private final CommandNode<C> node;
+        private final Class<?> senderType;
+
+        private PermissionKey(final @NonNull CommandNode<C> node, final @NonNull Class<?> senderType) {
+            this.node = node;
+            this.senderType = senderType;
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            if (!(object instanceof PermissionKey)) {
+                return false;
+            }
+            final PermissionKey<?> other = (PermissionKey<?>) object;
+            return this.node == other.node && this.senderType == other.senderType;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(this.node) + this.senderType.hashCode();
+        }
+    }
 }
@@ -0,0 +1,54 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.execution;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Access to virtual threads.
+ * <p>
+ * This is the Java 21 variant of the class, which is loaded from the multi-release jar on runtimes that support virtual
+ * threads.
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+final class VirtualThreads {
+
+    private static final ThreadFactory THREAD_FACTORY = Thread.ofVirtual().name("cloud-command-", 0L).factory();
+    private static final Executor EXECUTOR = task -> THREAD_FACTORY.newThread(task).start();
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Returns an executor that runs each task on a new virtual thread.
+     *
+     * @return the executor
+     */
+    static @NonNull Executor executor() {
+        return EXECUTOR;
+    }
+}
@@ -28,6 +28,8 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.exception.NoSuchCommandException;
 import org.incendo.cloud.execution.CommandExecutionHandler;
 import org.incendo.cloud.execution.ExecutionCoordinator;
+import org.incendo.cloud.help.result.CommandEntry;
+import org.incendo.cloud.help.result.IndexCommandResult;
 import org.incendo.cloud.internal.CommandRegistrationHandler;
 import org.incendo.cloud.suggestion.Suggestion;
 import org.junit.jupiter.api.BeforeEach;
@@ -166,4 +168,21 @@ class CommandDeletionTest {
                 .contains(Suggestion.suggestion("test"));
         assertThat(this.commandManager.commandTree().rootNodes()).hasSize(1);
     }
+
+    @Test
+    void deleteCommandRemovesHelpEntries() {
+        // Arrange
+        this.commandManager.command(this.commandManager.commandBuilder("test").literal("a").build());
+        this.commandManager.command(this.commandManager.commandBuilder("test").literal("b").build());
+        this.commandManager.command(this.commandManager.commandBuilder("tester").build());
+
+        // Act
+        this.commandManager.deleteRootCommand("test");
+
+        // Assert
+        assertThat(this.commandManager.helpIndex().size()).isEqualTo(1);
+        final IndexCommandResult<TestCommandSender> result = this.commandManager.createHelpHandler()
+                .queryRootIndex(new TestCommandSender());
+        assertThat(result.entries().stream().map(CommandEntry::syntax)).containsExactly("tester");
+    }
 }
@@ -28,6 +28,7 @@ import java.lang.annotation.Annotation;
 import java.util.Collections;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.annotation.specifier.Range;
 import org.incendo.cloud.parser.ArgumentParser;
@@ -35,7 +36,9 @@ import org.incendo.cloud.parser.ParserParameters;
 import org.incendo.cloud.parser.ParserRegistry;
 import org.incendo.cloud.parser.StandardParameters;
 import org.incendo.cloud.parser.StandardParserRegistry;
+import org.incendo.cloud.parser.standard.EnumParser;
 import org.incendo.cloud.parser.standard.IntegerParser;
+import org.incendo.cloud.parser.standard.StringParser;
 import org.incendo.cloud.setting.ManagerSetting;
 import org.junit.jupiter.api.Test;
 
@@ -143,4 +146,85 @@ public class ParserRegistryTest {
         // Then
         assertThat(parserOptional).isPresent();
     }
+
+    @Test
+    void interning_returns_shared_instances_for_equal_parameters() {
+        // Given
+        final ParserRegistry<TestCommandSender> parserRegistry = new StandardParserRegistry<>(() -> true);
+        final ParserParameters first = parserRegistry.parseAnnotations(TypeToken.get(int.class), Collections.singleton(RANGE));
+        final ParserParameters second = parserRegistry.parseAnnotations(TypeToken.get(int.class), Collections.singleton(RANGE));
+
+        // When
+        final ArgumentParser<TestCommandSender, ?> firstParser = parserRegistry.createParser(TypeToken.get(int.class), first)
+                .orElseThrow(() -> new NullPointerException("No parser found"));
+        final ArgumentParser<TestCommandSender, ?> secondParser = parserRegistry.createParser(TypeToken.get(Integer.class), second)
+                .orElseThrow(() -> new NullPointerException("No parser found"));
+        final ArgumentParser<TestCommandSender, ?> unboundedParser = parserRegistry.createParser(
+                TypeToken.get(int.class),
+                ParserParameters.empty()
+        ).orElseThrow(() -> new NullPointerException("No parser found"));
+
+        // Then
+        assertThat(secondParser).isSameInstanceAs(firstParser);
+        assertThat(unboundedParser).isNotSameInstanceAs(firstParser);
+    }
+
+    @Test
+    void interning_returns_shared_enum_parsers() {
+        // Given
+        final ParserRegistry<TestCommandSender> parserRegistry = new StandardParserRegistry<>(() -> true);
+
+        // When
+        final Optional<?> first = parserRegistry.createParser(TypeToken.get(ManagerSetting.class), ParserParameters.empty());
+        final Optional<?> second = parserRegistry.createParser(TypeToken.get(ManagerSetting.class), ParserParameters.empty());
+
+        // Then
+        assertThat(first.get()).isInstanceOf(EnumParser.class);
+        assertThat(second.get()).isSameInstanceAs(first.get());
+    }
+
+    @Test
+    void interning_does_not_share_parsers_that_are_not_shareable() {
+        // Given
+        final ParserRegistry<TestCommandSender> parserRegistry = new StandardParserRegistry<>(() -> true);
+        parserRegistry.registerNamedParserSupplier("mapped", parameters -> new IntegerParser<TestCommandSender>(0, 1)
+                .mapSuccess((context, value) -> CompletableFuture.completedFuture(value)));
+
+        // When
+        final Optional<?> first = parserRegistry.createParser("mapped", ParserParameters.empty());
+        final Optional<?> second = parserRegistry.createParser("mapped", ParserParameters.empty());
+
+        // Then
+        assertThat(second.get()).isNotSameInstanceAs(first.get());
+    }
+
+    @Test
+    void parsers_are_not_interned_by_default() {
+        // Given
+        final ParserRegistry<TestCommandSender> parserRegistry = new StandardParserRegistry<>();
+
+        // When
+        final Optional<?> first = parserRegistry.createParser(TypeToken.get(String.class), ParserParameters.empty());
+        final Optional<?> second = parserRegistry.createParser(TypeToken.get(String.class), ParserParameters.empty());
+
+        // Then
+        assertThat(first.get()).isInstanceOf(StringParser.class);
+        assertThat(second.get()).isNotSameInstanceAs(first.get());
+    }
+
+    @Test
+    void overriding_standard_parser_does_not_affect_other_registries() {
+        // Given
+        final ParserRegistry<TestCommandSender> first = new StandardParserRegistry<>();
+        final ParserRegistry<TestCommandSender> second = new StandardParserRegistry<>();
+        first.registerParserSupplier(TypeToken.get(Integer.class), parameters -> new StringParser<>(StringParser.StringMode.SINGLE));
+
+        // When
+        final Optional<?> overridden = first.createParser(TypeToken.get(int.class), ParserParameters.empty());
+        final Optional<?> standard = second.createParser(TypeToken.get(int.class), ParserParameters.empty());
+
+        // Then
+        assertThat(overridden.get()).isInstanceOf(StringParser.class);
+        assertThat(standard.get()).isInstanceOf(IntegerParser.class);
+    }
 }
@@ -27,12 +27,14 @@ import org.incendo.cloud.CommandManager;
 import org.incendo.cloud.TestCommandSender;
 import org.incendo.cloud.execution.CommandResult;
 import org.incendo.cloud.parser.standard.IntegerParser;
+import org.incendo.cloud.setting.ManagerSetting;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static com.google.common.truth.Truth.assertThat;
 import static org.incendo.cloud.parser.standard.StringParser.greedyStringParser;
 import static org.incendo.cloud.util.TestUtils.createManager;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ParsingContextTest {
 
@@ -88,4 +90,65 @@ class ParsingContextTest {
         assertThat(context.parsingContext("foo").exactAlias()).isEqualTo("f");
         assertThat(context.parsingContext("bar").exactAlias()).isEqualTo("bar");
     }
+
+    @Test
+    void testFailedLiteralSiblingsAreNotRecorded() throws Exception {
+        // Arrange
+        this.commandManager.command(this.commandManager.commandBuilder("test").literal("foo"));
+        this.commandManager.command(this.commandManager.commandBuilder("test").literal("bar"));
+
+        // Act
+        final CommandResult<TestCommandSender> result = this.commandManager.commandExecutor().executeCommand(
+                new TestCommandSender(),
+                "test foo"
+        ).get();
+
+        // Assert
+        final CommandContext<TestCommandSender> context = result.commandContext();
+        assertThat(context.parsingContexts()).hasSize(2);
+        assertThat(context.parsingContext(1).component().name()).isEqualTo("foo");
+        assertThat(context.parsingContexts().stream().allMatch(ParsingContext::success)).isTrue();
+    }
+
+    @Test
+    void testDetailedParseTracingRecordsFailedAttempts() throws Exception {
+        // Arrange
+        this.commandManager.settings().set(ManagerSetting.DETAILED_PARSE_TRACING, true);
+        this.commandManager.command(this.commandManager.commandBuilder("test").literal("foo"));
+        this.commandManager.command(this.commandManager.commandBuilder("test").literal("bar"));
+
+        // Act
+        final CommandResult<TestCommandSender> result = this.commandManager.commandExecutor().executeCommand(
+                new TestCommandSender(),
+                "test foo"
+        ).get();
+
+        // Assert
+        final CommandContext<TestCommandSender> context = result.commandContext();
+        assertThat(context.parsingContexts()).hasSize(3);
+        assertThat(context.parsingContext("bar").success()).isFalse();
+        assertThat(context.parsingContext("foo").success()).isTrue();
+    }
+
+    @Test
+    void testLightweightParsingContexts() throws Exception {
+        // Arrange
+        this.commandManager.settings().set(ManagerSetting.LIGHTWEIGHT_PARSING_CONTEXTS, true);
+        this.commandManager.command(
+                this.commandManager.commandBuilder("test", "t")
+                        .required("int", IntegerParser.integerParser())
+        );
+
+        // Act
+        final CommandResult<TestCommandSender> result = this.commandManager.commandExecutor().executeCommand(
+                new TestCommandSender(),
+                "t 1337"
+        ).get();
+
+        // Assert
+        final CommandContext<TestCommandSender> context = result.commandContext();
+        assertThat(context.parsingContext("test").success()).isTrue();
+        assertThat(context.parsingContext("test").exactAlias()).isNull();
+        assertThrows(IllegalStateException.class, () -> context.parsingContext("int").parseDuration());
+    }
 }
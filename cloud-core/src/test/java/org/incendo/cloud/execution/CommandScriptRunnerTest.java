@@ -0,0 +1,203 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.execution;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.TestCommandSender;
+import org.incendo.cloud.context.CommandContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.parser.standard.StringParser.stringParser;
+import static org.incendo.cloud.util.TestUtils.createManager;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CommandScriptRunnerTest {
+
+    private final List<String> executed = Collections.synchronizedList(new ArrayList<>());
+    private final BlockingQueue<CompletableFuture<Void>> pending = new LinkedBlockingQueue<>();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicInteger maxWaiting = new AtomicInteger();
+    private CommandManager<TestCommandSender> commandManager;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = createManager();
+        this.commandManager.command(
+                this.commandManager.commandBuilder("run")
+                        .required("name", stringParser())
+                        .handler(context -> this.executed.add(context.get("name")))
+        );
+        this.commandManager.command(
+                this.commandManager.commandBuilder("wait")
+                        .required("name", stringParser())
+                        .futureHandler(context -> {
+                            this.maxWaiting.accumulateAndGet(this.waiting.incrementAndGet(), Math::max);
+                            final CompletableFuture<Void> future = new CompletableFuture<>();
+                            this.pending.add(future);
+                            return future.whenComplete(($, $$) -> this.waiting.decrementAndGet());
+                        })
+        );
+    }
+
+    @Test
+    void testExecutesScriptSequentially() {
+        // Arrange
+        final List<Long> lines = Collections.synchronizedList(new ArrayList<>());
+        final CommandScriptRunner<TestCommandSender> runner = CommandScriptRunner.builder(this.commandManager.commandExecutor())
+                .listener(result -> lines.add(result.line()))
+                .build();
+        final String script = "run a\n# comment\n\nrun b\nunknown\nrun c\n";
+
+        // Act
+        final CommandScriptRunner.Summary summary = runner.run(new TestCommandSender(), new StringReader(script)).join();
+
+        // Assert
+        assertThat(this.executed).containsExactly("a", "b", "c").inOrder();
+        assertThat(lines).containsExactly(1L, 4L, 5L, 6L).inOrder();
+        assertThat(summary.executed()).isEqualTo(4);
+        assertThat(summary.failed()).isEqualTo(1);
+    }
+
+    @Test
+    void testBoundsCommandsInFlight() throws Exception {
+        // Arrange
+        final CommandScriptRunner<TestCommandSender> runner = CommandScriptRunner.builder(this.commandManager.commandExecutor())
+                .ordering(CommandScriptRunner.Ordering.UNORDERED)
+                .maxInFlight(2)
+                .build();
+
+        // Act
+        final CompletableFuture<CommandScriptRunner.Summary> future =
+                runner.run(new TestCommandSender(), new StringReader("wait a\nwait b\nwait c\nwait d"));
+        for (int i = 0; i < 4; i++) {
+            this.pending.poll(5, TimeUnit.SECONDS).complete(null);
+        }
+
+        // Assert
+        assertThat(future.get(5, TimeUnit.SECONDS).executed()).isEqualTo(4);
+        assertThat(this.maxWaiting.get()).isAtMost(2);
+    }
+
+    @Test
+    void testOrdersCommandsPerSender() throws Exception {
+        // Arrange
+        final TestCommandSender first = new TestCommandSender();
+        final TestCommandSender second = new TestCommandSender();
+        final CountDownLatch secondExecuted = new CountDownLatch(1);
+        final CommandScriptRunner<TestCommandSender> runner = CommandScriptRunner.builder(this.commandManager.commandExecutor())
+                .ordering(CommandScriptRunner.Ordering.PER_SENDER)
+                .listener(result -> {
+                    if (result.result().request().sender() == second) {
+                        secondExecuted.countDown();
+                    }
+                })
+                .build();
+        final String script = "first wait a\nfirst run b\nsecond run c";
+
+        // Act
+        final CompletableFuture<CommandScriptRunner.Summary> future = runner.run(new StringReader(script), line -> {
+            final int separator = line.indexOf(' ');
+            return CommandRequest.of(line.startsWith("first") ? first : second, line.substring(separator + 1));
+        });
+        final CompletableFuture<Void> waitA = this.pending.poll(5, TimeUnit.SECONDS);
+        assertThat(secondExecuted.await(5, TimeUnit.SECONDS)).isTrue();
+        final List<String> executedBefore = new ArrayList<>(this.executed);
+        waitA.complete(null);
+
+        // Assert
+        assertThat(future.get(5, TimeUnit.SECONDS).executed()).isEqualTo(3);
+        assertThat(executedBefore).containsExactly("c");
+        assertThat(this.executed).containsExactly("c", "b").inOrder();
+    }
+
+    @Test
+    void testSynchronousExecutorFailureIsReported() {
+        // Arrange
+        final CommandExecutor<TestCommandSender> delegate = this.commandManager.commandExecutor();
+        final CommandExecutor<TestCommandSender> throwingExecutor = new CommandExecutor<TestCommandSender>() {
+            @Override
+            public @NonNull CompletableFuture<CommandResult<TestCommandSender>> executeCommand(
+                    final @NonNull TestCommandSender commandSender,
+                    final @NonNull String input,
+                    final @NonNull Consumer<CommandContext<TestCommandSender>> contextConsumer
+            ) {
+                if (input.equals("throw")) {
+                    throw new IllegalStateException();
+                }
+                return delegate.executeCommand(commandSender, input, contextConsumer);
+            }
+
+            @Override
+            public @NonNull ExecutionCoordinator<TestCommandSender> executionCoordinator() {
+                return delegate.executionCoordinator();
+            }
+        };
+        final CommandScriptRunner<TestCommandSender> runner = CommandScriptRunner.builder(throwingExecutor).build();
+
+        // Act
+        final CommandScriptRunner.Summary summary =
+                runner.run(new TestCommandSender(), new StringReader("run a\nthrow\nrun b")).join();
+
+        // Assert
+        assertThat(this.executed).containsExactly("a", "b").inOrder();
+        assertThat(summary.executed()).isEqualTo(3);
+        assertThat(summary.failed()).isEqualTo(1);
+    }
+
+    @Test
+    void testListenerFailureFailsScript() {
+        // Arrange
+        final IllegalStateException failure = new IllegalStateException();
+        final CommandScriptRunner<TestCommandSender> runner = CommandScriptRunner.builder(this.commandManager.commandExecutor())
+                .listener(result -> {
+                    throw failure;
+                })
+                .build();
+
+        // Act
+        final CompletionException exception = assertThrows(
+                CompletionException.class,
+                () -> runner.run(new TestCommandSender(), new StringReader("run a\nrun b")).join()
+        );
+
+        // Assert
+        assertThat(exception).hasCauseThat().isSameInstanceAs(failure);
+        assertThat(this.executed).containsExactly("a");
+    }
+}
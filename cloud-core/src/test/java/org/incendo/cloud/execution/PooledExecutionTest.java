@@ -0,0 +1,130 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.execution;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.TestCommandSender;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.parser.standard.IntegerParser;
+import org.incendo.cloud.setting.ManagerSetting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.util.TestUtils.createManager;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PooledExecutionTest {
+
+    private final List<CommandContext<TestCommandSender>> contexts = new ArrayList<>();
+    private final List<Object> values = new ArrayList<>();
+    private CommandManager<TestCommandSender> commandManager;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = createManager();
+        this.commandManager.settings().set(ManagerSetting.POOLED_EXECUTION, true);
+        this.commandManager.command(
+                this.commandManager.commandBuilder("test")
+                        .optional("int", IntegerParser.integerParser())
+                        .handler(context -> {
+                            this.contexts.add(context);
+                            this.values.add(context.getOrDefault("int", -1));
+                        })
+        );
+    }
+
+    @Test
+    void testContextsAreReused() {
+        // Act
+        this.commandManager.commandExecutor().executeCommand(new TestCommandSender(), "test 1").join();
+        this.commandManager.commandExecutor().executeCommand(new TestCommandSender(), "test").join();
+
+        // Assert
+        assertThat(this.contexts).hasSize(2);
+        assertThat(this.contexts.get(0)).isSameInstanceAs(this.contexts.get(1));
+        assertThat(this.values).containsExactly(1, -1).inOrder();
+    }
+
+    @Test
+    void testResultContainsPooledContext() {
+        // Act
+        final CommandResult<TestCommandSender> result = this.commandManager.commandExecutor()
+                .executeCommand(new TestCommandSender(), "test 1")
+                .join();
+        this.commandManager.commandExecutor().executeCommand(new TestCommandSender(), "test 2").join();
+
+        // Assert
+        assertThat(result.commandContext()).isSameInstanceAs(this.contexts.get(0));
+        assertThat(this.contexts.get(0)).isSameInstanceAs(this.contexts.get(1));
+    }
+
+    @Test
+    void testFailedExecutionsAreNotReused() {
+        // Act
+        this.commandManager.commandExecutor().executeCommand(new TestCommandSender(), "test abc")
+                .exceptionally(throwable -> null)
+                .join();
+        this.commandManager.commandExecutor().executeCommand(new TestCommandSender(), "test 1").join();
+        this.commandManager.commandExecutor().executeCommand(new TestCommandSender(), "test 2").join();
+
+        // Assert
+        assertThat(this.contexts).hasSize(2);
+        assertThat(this.contexts.get(0)).isSameInstanceAs(this.contexts.get(1));
+    }
+
+    @Test
+    void testSafetyChecksDetectUseAfterRelease() {
+        // Arrange
+        this.commandManager.settings().set(ManagerSetting.POOLED_EXECUTION_SAFETY_CHECKS, true);
+
+        // Act
+        final CommandResult<TestCommandSender> result = this.commandManager.commandExecutor()
+                .executeCommand(new TestCommandSender(), "test 1")
+                .join();
+        this.commandManager.commandExecutor().executeCommand(new TestCommandSender(), "test 2").join();
+
+        // Assert
+        assertThat(this.contexts.get(0)).isNotSameInstanceAs(this.contexts.get(1));
+        assertThrows(IllegalStateException.class, () -> result.commandContext().get("int"));
+        assertThrows(IllegalStateException.class, () -> this.contexts.get(0).sender());
+        assertThrows(IllegalStateException.class, () -> this.contexts.get(0).get("int"));
+    }
+
+    @Test
+    void testContextsOutsideThePoolAreNotChecked() {
+        // Arrange
+        this.commandManager.settings().set(ManagerSetting.POOLED_EXECUTION, false);
+
+        // Act
+        final CommandResult<TestCommandSender> result = this.commandManager.commandExecutor()
+                .executeCommand(new TestCommandSender(), "test 1")
+                .join();
+
+        // Assert
+        assertThat(result.commandContext().<Integer>get("int")).isEqualTo(1);
+    }
+}
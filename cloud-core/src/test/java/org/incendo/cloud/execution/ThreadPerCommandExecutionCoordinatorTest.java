@@ -0,0 +1,165 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.execution;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.TestCommandSender;
+import org.incendo.cloud.internal.CommandRegistrationHandler;
+import org.incendo.cloud.parser.ArgumentParseResult;
+import org.incendo.cloud.parser.ArgumentParser;
+import org.incendo.cloud.parser.ParserDescriptor;
+import org.incendo.cloud.suggestion.Suggestion;
+import org.incendo.cloud.suggestion.SuggestionProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ThreadPerCommandExecutionCoordinatorTest {
+
+    private final ExecutorService commandExecutor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "command"));
+    private final ExecutorService parserExecutor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "parser"));
+    private CommandManager<TestCommandSender> commandManager;
+
+    @BeforeEach
+    void setup() {
+        final CommandRegistrationHandler<TestCommandSender> registrationHandler = (command) -> true;
+        this.commandManager = new CommandManager<TestCommandSender>(
+                ExecutionCoordinator.<TestCommandSender>builder()
+                        .executor(this.commandExecutor)
+                        .threadPerCommand()
+                        .build(),
+                registrationHandler
+        ) {
+            @Override
+            public boolean hasPermission(final @NonNull TestCommandSender sender, final @NonNull String permission) {
+                return true;
+            }
+        };
+    }
+
+    @AfterEach
+    void teardown() {
+        this.commandExecutor.shutdownNow();
+        this.parserExecutor.shutdownNow();
+    }
+
+    @Test
+    void testHandlerRunsOnCommandThreadAfterAsyncParser() {
+        // Arrange
+        final ArgumentParser<TestCommandSender, Integer> parser = this.asyncParser();
+        final AtomicReference<String> handlerThread = new AtomicReference<>();
+        this.commandManager.command(
+                this.commandManager.commandBuilder("test")
+                        .required("arg", ParserDescriptor.of(parser, Integer.class))
+                        .handler(context -> handlerThread.set(Thread.currentThread().getName()))
+        );
+
+        // Act
+        this.commandManager.commandExecutor().executeCommand(new TestCommandSender(), "test 123").join();
+
+        // Assert
+        assertThat(handlerThread.get()).isEqualTo("command");
+    }
+
+    @Test
+    void testSuggestionsRunOnCommandThread() {
+        // Arrange
+        final AtomicReference<String> providerThread = new AtomicReference<>();
+        final SuggestionProvider<TestCommandSender> provider = SuggestionProvider.blocking((context, input) -> {
+            providerThread.set(Thread.currentThread().getName());
+            return Collections.singletonList(Suggestion.suggestion("abc"));
+        });
+        this.commandManager.command(
+                this.commandManager.commandBuilder("test")
+                        .required("arg", ParserDescriptor.of(failingParser(), Integer.class), provider)
+        );
+
+        // Act
+        final List<? extends Suggestion> suggestions = this.commandManager.suggestionFactory()
+                .suggest(new TestCommandSender(), "test ")
+                .join()
+                .list();
+
+        // Assert
+        assertThat(suggestions).hasSize(1);
+        assertThat(providerThread.get()).isEqualTo("command");
+    }
+
+    @Test
+    void testSuggestionsContinueOnCommandThreadAfterAsyncParser() {
+        // Arrange
+        final AtomicReference<String> providerThread = new AtomicReference<>();
+        final SuggestionProvider<TestCommandSender> provider = SuggestionProvider.blocking((context, input) -> {
+            providerThread.set(Thread.currentThread().getName());
+            return Collections.singletonList(Suggestion.suggestion("abc"));
+        });
+        this.commandManager.command(
+                this.commandManager.commandBuilder("test")
+                        .required("first", ParserDescriptor.of(this.asyncParser(), Integer.class))
+                        .required("second", ParserDescriptor.of(failingParser(), Integer.class), provider)
+        );
+
+        // Act
+        final List<? extends Suggestion> suggestions = this.commandManager.suggestionFactory()
+                .suggest(new TestCommandSender(), "test 123 ")
+                .join()
+                .list();
+
+        // Assert
+        assertThat(suggestions).hasSize(1);
+        assertThat(providerThread.get()).isEqualTo("command");
+    }
+
+    @Test
+    void testThreadPerCommandRequiresExecutors() {
+        // Arrange
+        final ExecutionCoordinator.Builder<TestCommandSender> builder = ExecutionCoordinator.<TestCommandSender>builder()
+                .parsingExecutor(this.commandExecutor)
+                .threadPerCommand();
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+
+    private ArgumentParser<TestCommandSender, Integer> asyncParser() {
+        return (ArgumentParser.FutureArgumentParser<TestCommandSender, Integer>) (commandContext, commandInput) -> {
+            final int value = Integer.parseInt(commandInput.readString());
+            return CompletableFuture.supplyAsync(() -> ArgumentParseResult.success(value), this.parserExecutor);
+        };
+    }
+
+    private static ArgumentParser<TestCommandSender, Integer> failingParser() {
+        return (commandContext, commandInput) -> ArgumentParseResult.failure(new IllegalArgumentException());
+    }
+}
@@ -0,0 +1,137 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.feature;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.TestCommandSender;
+import org.incendo.cloud.component.CommandComponent;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.exception.NoSuchCommandException;
+import org.incendo.cloud.execution.CommandBatchResult;
+import org.incendo.cloud.execution.CommandRequest;
+import org.incendo.cloud.metrics.CommandMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.parser.standard.IntegerParser.integerParser;
+import static org.incendo.cloud.util.TestUtils.createManager;
+
+class BatchExecutionTest {
+
+    private final List<String> executed = new ArrayList<>();
+    private CommandManager<TestCommandSender> commandManager;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = createManager();
+        this.commandManager.command(
+                this.commandManager.commandBuilder("set")
+                        .required("value", integerParser())
+                        .handler(context -> this.executed.add("set " + context.<Integer>get("value")))
+        );
+        this.commandManager.command(
+                this.commandManager.commandBuilder("get")
+                        .handler(context -> this.executed.add("get"))
+        );
+    }
+
+    @Test
+    void testReturnsResultsInRequestOrder() {
+        // Arrange
+        final TestCommandSender sender = new TestCommandSender();
+        final List<CommandRequest<TestCommandSender>> requests = Arrays.asList(
+                CommandRequest.of(sender, "set 1"),
+                CommandRequest.of(sender, "get"),
+                CommandRequest.of(sender, "unknown"),
+                CommandRequest.of(sender, "set 2")
+        );
+
+        // Act
+        final List<CommandBatchResult<TestCommandSender>> results = this.commandManager.commandExecutor()
+                .executeBatch(requests)
+                .join();
+
+        // Assert
+        assertThat(results).hasSize(4);
+        for (int i = 0; i < requests.size(); i++) {
+            assertThat(results.get(i).request()).isEqualTo(requests.get(i));
+        }
+        assertThat(results.get(0).successful()).isTrue();
+        assertThat(results.get(0).result()).isNotNull();
+        assertThat(results.get(1).successful()).isTrue();
+        assertThat(results.get(2).successful()).isFalse();
+        assertThat(results.get(2).failure()).isInstanceOf(NoSuchCommandException.class);
+        assertThat(results.get(3).successful()).isTrue();
+    }
+
+    @Test
+    void testExecutesRequestsInSubmissionOrder() {
+        // Arrange
+        final TestCommandSender sender = new TestCommandSender();
+        final List<CommandRequest<TestCommandSender>> requests = Arrays.asList(
+                CommandRequest.of(sender, "set 1"),
+                CommandRequest.of(sender, "get"),
+                CommandRequest.of(sender, "set 2")
+        );
+
+        // Act
+        this.commandManager.commandExecutor().executeBatch(requests).join();
+
+        // Assert
+        assertThat(this.executed).containsExactly("set 1", "get", "set 2").inOrder();
+    }
+
+    @Test
+    void testOnlyParsesResolvedRootNodes() {
+        // Arrange
+        final List<String> parsed = new ArrayList<>();
+        this.commandManager.commandMetrics(new CommandMetrics<TestCommandSender>() {
+            @Override
+            public void componentParsed(
+                    final CommandContext<TestCommandSender> context,
+                    final CommandComponent<TestCommandSender> component,
+                    final boolean success,
+                    final long duration
+            ) {
+                parsed.add(component.name() + (success ? "" : " (failed)"));
+            }
+        });
+        final TestCommandSender sender = new TestCommandSender();
+        final List<CommandRequest<TestCommandSender>> requests = Arrays.asList(
+                CommandRequest.of(sender, "get"),
+                CommandRequest.of(sender, "set 1"),
+                CommandRequest.of(sender, "get")
+        );
+
+        // Act
+        this.commandManager.commandExecutor().executeBatch(requests).join();
+
+        // Assert
+        assertThat(parsed).containsExactly("get", "set", "value", "get").inOrder();
+    }
+}
@@ -0,0 +1,117 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.feature;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.TestCommandSender;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.parser.ArgumentParseResult;
+import org.incendo.cloud.parser.ArgumentParser;
+import org.incendo.cloud.parser.ParserDescriptor;
+import org.incendo.cloud.suggestion.SuggestionProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.parser.standard.StringParser.stringParser;
+import static org.incendo.cloud.util.TestUtils.createManager;
+
+class CachingParserTest {
+
+    private final AtomicInteger parses = new AtomicInteger();
+    private CommandManager<TestCommandSender> commandManager;
+    private CommandContext<TestCommandSender> executedContext;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = createManager();
+        final ArgumentParser<TestCommandSender, Integer> parser = (context, input) -> {
+            this.parses.incrementAndGet();
+            if (!input.isValidInteger(Integer.MIN_VALUE, Integer.MAX_VALUE)) {
+                return ArgumentParseResult.failure(new IllegalArgumentException(input.peekString()));
+            }
+            return ArgumentParseResult.success(input.readInteger());
+        };
+        this.commandManager.command(
+                this.commandManager.commandBuilder("command")
+                        .required("number", ParserDescriptor.of(parser, Integer.class).withCache(Duration.ofHours(1L)))
+                        .required("string", stringParser(), SuggestionProvider.suggestingStrings("a"))
+                        .handler(context -> this.executedContext = context)
+        );
+    }
+
+    @Test
+    void testReusesResultsForSameToken() {
+        // Arrange
+        final TestCommandSender sender = new TestCommandSender();
+
+        // Act
+        this.commandManager.suggestionFactory().suggestImmediately(sender, "command 5 ");
+        this.commandManager.suggestionFactory().suggestImmediately(sender, "command 5 a");
+        this.commandManager.commandExecutor().executeCommand(sender, "command 5 abc").join();
+
+        // Assert
+        assertThat(this.parses.get()).isEqualTo(1);
+        assertThat(this.executedContext.<Integer>get("number")).isEqualTo(5);
+        assertThat(this.executedContext.<String>get("string")).isEqualTo("abc");
+    }
+
+    @Test
+    void testReusesFailures() {
+        // Arrange
+        final TestCommandSender sender = new TestCommandSender();
+
+        // Act
+        this.commandManager.suggestionFactory().suggestImmediately(sender, "command x ");
+        this.commandManager.suggestionFactory().suggestImmediately(sender, "command x a");
+
+        // Assert
+        assertThat(this.parses.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testScopesResultsBySender() {
+        // Act
+        this.commandManager.suggestionFactory().suggestImmediately(new TestCommandSender(), "command 5 ");
+        this.commandManager.suggestionFactory().suggestImmediately(new TestCommandSender(), "command 5 ");
+
+        // Assert
+        assertThat(this.parses.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testParsesDifferentTokens() {
+        // Arrange
+        final TestCommandSender sender = new TestCommandSender();
+
+        // Act
+        this.commandManager.suggestionFactory().suggestImmediately(sender, "command 5 ");
+        this.commandManager.suggestionFactory().suggestImmediately(sender, "command 6 ");
+
+        // Assert
+        assertThat(this.parses.get()).isEqualTo(2);
+    }
+}
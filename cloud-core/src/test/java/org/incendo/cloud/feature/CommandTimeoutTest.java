@@ -0,0 +1,232 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.feature;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.TestCommandSender;
+import org.incendo.cloud.component.CommandComponent;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.exception.ComponentTimeoutException;
+import org.incendo.cloud.internal.Timeouts;
+import org.incendo.cloud.metrics.HistogramCommandMetrics;
+import org.incendo.cloud.parser.ArgumentParser;
+import org.incendo.cloud.suggestion.Suggestion;
+import org.incendo.cloud.suggestion.SuggestionProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.parser.standard.ArgumentTestHelper.suggestionList;
+import static org.incendo.cloud.parser.standard.StringParser.stringParser;
+import static org.incendo.cloud.util.TestUtils.createManager;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CommandTimeoutTest {
+
+    private CommandManager<TestCommandSender> commandManager;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = createManager();
+    }
+
+    @Test
+    void testContextDeadlineFromManager() {
+        // Arrange
+        this.commandManager.commandTimeout(Duration.ofMinutes(1));
+
+        // Act
+        final CommandContext<TestCommandSender> context = new CommandContext<>(new TestCommandSender(), this.commandManager);
+
+        // Assert
+        assertThat(context.remainingTime().isPresent()).isTrue();
+        assertThat(context.remainingTime().get()).isAtMost(Duration.ofMinutes(1));
+    }
+
+    @Test
+    void testSuggestionsCompleteWithPartialResults() {
+        // Arrange
+        final HistogramCommandMetrics<TestCommandSender> metrics = HistogramCommandMetrics.create();
+        this.commandManager.commandMetrics(metrics);
+        this.commandManager.commandTimeout(Duration.ofMillis(20));
+        final SuggestionProvider<TestCommandSender> provider = (context, input) -> new CompletableFuture<List<Suggestion>>();
+        this.commandManager.command(this.commandManager.commandBuilder("test").required("string", stringParser(), provider));
+        this.commandManager.command(this.commandManager.commandBuilder("test").literal("literal"));
+
+        // Act
+        final List<? extends Suggestion> suggestions = this.commandManager.suggestionFactory()
+                .suggest(new TestCommandSender(), "test ")
+                .join()
+                .list();
+
+        // Assert
+        assertThat(suggestions).containsExactlyElementsIn(suggestionList("literal"));
+        assertThat(metrics.timeouts()).hasSize(1);
+        assertThat(metrics.timeouts().keySet().iterator().next().name()).isEqualTo("string");
+    }
+
+    @Test
+    void testParsingFailsWithTimeoutException() {
+        // Arrange
+        final ArgumentParser.FutureArgumentParser<TestCommandSender, String> parser =
+                (context, input) -> new CompletableFuture<>();
+        this.commandManager.command(
+                this.commandManager.commandBuilder("test")
+                        .argument(
+                                CommandComponent.<TestCommandSender, String>builder()
+                                        .name("slow")
+                                        .valueType(String.class)
+                                        .parser(parser)
+                                        .timeout(Duration.ofMillis(20))
+                        )
+        );
+        final AtomicReference<ComponentTimeoutException> handled = new AtomicReference<>();
+        this.commandManager.exceptionController().registerHandler(
+                ComponentTimeoutException.class,
+                context -> handled.set(context.exception())
+        );
+
+        // Act
+        assertThrows(
+                CompletionException.class,
+                () -> this.commandManager.commandExecutor().executeCommand(new TestCommandSender(), "test abc").join()
+        );
+
+        // Assert
+        assertThat(handled.get()).isNotNull();
+        assertThat(handled.get().component().name()).isEqualTo("slow");
+        assertThat(handled.get().timeout()).isEqualTo(Duration.ofMillis(20));
+    }
+
+    @Test
+    void testExpiredDeadlineFailsParsing() {
+        // Arrange
+        final ArgumentParser.FutureArgumentParser<TestCommandSender, String> parser =
+                (context, input) -> new CompletableFuture<>();
+        this.commandManager.command(
+                this.commandManager.commandBuilder("test")
+                        .argument(
+                                CommandComponent.<TestCommandSender, String>builder()
+                                        .name("slow")
+                                        .valueType(String.class)
+                                        .parser(parser)
+                        )
+        );
+
+        // Act
+        final CompletionException exception = assertThrows(
+                CompletionException.class,
+                () -> this.commandManager.commandExecutor()
+                        .executeCommand(new TestCommandSender(), "test abc", context -> context.deadline(Duration.ZERO))
+                        .join()
+        );
+
+        // Assert
+        assertThat(exception).hasCauseThat().isInstanceOf(ComponentTimeoutException.class);
+    }
+
+    @Test
+    void testTimeoutReportsConfiguredLimit() {
+        // Arrange
+        final ArgumentParser.FutureArgumentParser<TestCommandSender, String> parser =
+                (context, input) -> new CompletableFuture<>();
+        this.commandManager.command(
+                this.commandManager.commandBuilder("test")
+                        .argument(
+                                CommandComponent.<TestCommandSender, String>builder()
+                                        .name("slow")
+                                        .valueType(String.class)
+                                        .parser(parser)
+                                        .timeout(Duration.ofMinutes(1))
+                        )
+        );
+
+        // Act
+        final CompletionException exception = assertThrows(
+                CompletionException.class,
+                () -> this.commandManager.commandExecutor()
+                        .executeCommand(new TestCommandSender(), "test abc", context -> context.deadline(Duration.ofMillis(20)))
+                        .join()
+        );
+
+        // Assert
+        assertThat(exception).hasCauseThat().isInstanceOf(ComponentTimeoutException.class);
+        final ComponentTimeoutException timeoutException = (ComponentTimeoutException) exception.getCause();
+        assertThat(timeoutException.timeout()).isEqualTo(Duration.ofMillis(20));
+        assertThat(timeoutException.getMessage()).contains("within 20 ms");
+    }
+
+    @Test
+    void testTimeoutIsHandledOnExecutor() throws Exception {
+        // Arrange
+        final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "timeout-handler"));
+        final AtomicReference<String> thread = new AtomicReference<>();
+
+        try {
+            // Act
+            final CompletableFuture<String> future = Timeouts.<String>within(
+                    new CompletableFuture<>(),
+                    Duration.ofMillis(20).toNanos(),
+                    executor,
+                    bounded -> {
+                        thread.set(Thread.currentThread().getName());
+                        bounded.complete("timed out");
+                    }
+            );
+
+            // Assert
+            assertThat(future.get()).isEqualTo("timed out");
+            assertThat(thread.get()).isEqualTo("timeout-handler");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testTimeoutDoesNotCancelSourceFuture() {
+        // Arrange
+        final CompletableFuture<String> source = new CompletableFuture<>();
+
+        // Act
+        final CompletableFuture<String> future = Timeouts.<String>within(
+                source,
+                Duration.ofMillis(20).toNanos(),
+                Runnable::run,
+                bounded -> bounded.complete("timed out")
+        );
+
+        // Assert
+        assertThat(future.join()).isEqualTo("timed out");
+        assertThat(source.isCancelled()).isFalse();
+        source.complete("late");
+        assertThat(future.join()).isEqualTo("timed out");
+    }
+}
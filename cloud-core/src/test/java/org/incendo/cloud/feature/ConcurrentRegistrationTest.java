@@ -0,0 +1,88 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.feature;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.TestCommandSender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.parser.standard.IntegerParser.integerParser;
+import static org.incendo.cloud.util.TestUtils.createManager;
+
+class ConcurrentRegistrationTest {
+
+    private static final int COMMAND_COUNT = 500;
+
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    private CommandManager<TestCommandSender> commandManager;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = createManager();
+        this.commandManager.command(this.commandManager.commandBuilder("test").literal("base"));
+    }
+
+    @AfterEach
+    void shutdown() {
+        this.executorService.shutdownNow();
+    }
+
+    @Test
+    void testReadersDuringRegistration() throws Exception {
+        // Arrange
+        final AtomicBoolean registering = new AtomicBoolean(true);
+        final Future<?> reader = this.executorService.submit(() -> {
+            while (registering.get()) {
+                this.commandManager.commandExecutor().executeCommand(new TestCommandSender(), "test base").join();
+                this.commandManager.suggestionFactory().suggestImmediately(new TestCommandSender(), "test ");
+            }
+        });
+
+        // Act
+        try {
+            for (int i = 0; i < COMMAND_COUNT; i++) {
+                this.commandManager.command(
+                        this.commandManager.commandBuilder("test")
+                                .literal("sub" + i)
+                                .required("value", integerParser())
+                );
+            }
+        } finally {
+            registering.set(false);
+        }
+
+        // Assert
+        reader.get(30, TimeUnit.SECONDS);
+        assertThat(this.commandManager.suggestionFactory().suggestImmediately(new TestCommandSender(), "test ").list())
+                .hasSize(COMMAND_COUNT + 1);
+    }
+}
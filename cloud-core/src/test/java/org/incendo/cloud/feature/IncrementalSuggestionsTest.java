@@ -0,0 +1,158 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.feature;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.TestCommandSender;
+import org.incendo.cloud.execution.preprocessor.CommandPreprocessingContext;
+import org.incendo.cloud.internal.SuggestionSession;
+import org.incendo.cloud.internal.SuggestionSessions;
+import org.incendo.cloud.parser.ArgumentParseResult;
+import org.incendo.cloud.parser.ArgumentParser;
+import org.incendo.cloud.parser.ParserDescriptor;
+import org.incendo.cloud.services.types.ConsumerService;
+import org.incendo.cloud.setting.ManagerSetting;
+import org.incendo.cloud.suggestion.BlockingSuggestionProvider;
+import org.incendo.cloud.suggestion.Suggestion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.parser.standard.ArgumentTestHelper.suggestionList;
+import static org.incendo.cloud.parser.standard.StringParser.stringParser;
+import static org.incendo.cloud.util.TestUtils.createManager;
+
+class IncrementalSuggestionsTest {
+
+    private final AtomicInteger preprocessorInvocations = new AtomicInteger();
+    private final AtomicInteger parserInvocations = new AtomicInteger();
+    private final TestCommandSender sender = new TestCommandSender();
+    private boolean denied;
+    private CommandManager<TestCommandSender> commandManager;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = createManager();
+        this.commandManager.settings().set(ManagerSetting.INCREMENTAL_SUGGESTIONS, true);
+        this.commandManager.registerCommandPreProcessor(this::preprocess);
+
+        final BlockingSuggestionProvider.Strings<TestCommandSender> provider = (context, input) -> {
+            final int number = context.get("number");
+            return Arrays.asList(number + "a", number + "b");
+        };
+        final ArgumentParser<TestCommandSender, Integer> numberParser = (context, input) -> {
+            this.parserInvocations.incrementAndGet();
+            return ArgumentParseResult.success(input.readInteger());
+        };
+        this.commandManager.command(
+                this.commandManager.commandBuilder("test")
+                        .required("number", ParserDescriptor.of(numberParser, Integer.class))
+                        .required("string", stringParser(), provider)
+        );
+    }
+
+    @Test
+    void testResumesFromPreviousRequest() {
+        // Arrange
+        final List<? extends Suggestion> initial = this.suggest("test 5 ");
+
+        // Act
+        final List<? extends Suggestion> resumed = this.suggest("test 5 5");
+
+        // Assert
+        assertThat(initial).containsExactlyElementsIn(suggestionList("5a", "5b"));
+        assertThat(resumed).containsExactlyElementsIn(suggestionList("5a", "5b"));
+        assertThat(this.parserInvocations.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testPreprocessorsRunForResumedRequests() {
+        // Arrange
+        this.suggest("test 5 ");
+
+        // Act
+        this.suggest("test 5 5");
+        this.denied = true;
+        final List<? extends Suggestion> denied = this.suggest("test 5 5");
+
+        // Assert
+        assertThat(this.preprocessorInvocations.get()).isEqualTo(3);
+        assertThat(denied).isEmpty();
+    }
+
+    @Test
+    void testUnusedSessionsExpire() throws Exception {
+        // Arrange
+        final SuggestionSessions<TestCommandSender> sessions = new SuggestionSessions<>(16, 1L);
+        final SuggestionSession<TestCommandSender> session = sessions.session(this.sender, 0L);
+
+        // Act
+        Thread.sleep(1L);
+        sessions.session(new TestCommandSender(), 0L);
+
+        // Assert
+        assertThat(sessions.size()).isEqualTo(1);
+        assertThat(sessions.session(this.sender, 0L)).isNotSameInstanceAs(session);
+    }
+
+    @Test
+    void testDoesNotResumeForDifferentPrefix() {
+        // Arrange
+        this.suggest("test 5 ");
+
+        // Act
+        final List<? extends Suggestion> suggestions = this.suggest("test 6 ");
+
+        // Assert
+        assertThat(suggestions).containsExactlyElementsIn(suggestionList("6a", "6b"));
+        assertThat(this.parserInvocations.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testTreeChangesInvalidateSessions() {
+        // Arrange
+        this.suggest("test 5 ");
+        this.commandManager.command(this.commandManager.commandBuilder("other"));
+
+        // Act
+        this.suggest("test 5 5");
+
+        // Assert
+        assertThat(this.parserInvocations.get()).isEqualTo(2);
+    }
+
+    private void preprocess(final CommandPreprocessingContext<TestCommandSender> context) {
+        this.preprocessorInvocations.incrementAndGet();
+        if (this.denied) {
+            ConsumerService.interrupt();
+        }
+    }
+
+    private List<? extends Suggestion> suggest(final String input) {
+        return this.commandManager.suggestionFactory().suggestImmediately(this.sender, input).list();
+    }
+}
@@ -0,0 +1,152 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.feature;
+
+import java.util.Arrays;
+import java.util.List;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.TestCommandSender;
+import org.incendo.cloud.suggestion.Suggestion;
+import org.incendo.cloud.suggestion.SuggestionIndex;
+import org.incendo.cloud.suggestion.SuggestionProcessor;
+import org.incendo.cloud.suggestion.SuggestionProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.parser.standard.ArgumentTestHelper.suggestionList;
+import static org.incendo.cloud.parser.standard.StringParser.greedyStringParser;
+import static org.incendo.cloud.parser.standard.StringParser.stringParser;
+import static org.incendo.cloud.util.TestUtils.createManager;
+
+class IndexedSuggestionsTest {
+
+    private static final SuggestionIndex INDEX = SuggestionIndex.ofStrings(
+            Arrays.asList("stone", "Stonebrick", "cobblestone", "redstone_block", "st", "diamond")
+    );
+
+    private CommandManager<TestCommandSender> commandManager;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = createManager();
+        this.commandManager.command(
+                this.commandManager.commandBuilder("command")
+                        .required("block", stringParser(), SuggestionProvider.indexed(INDEX))
+        );
+    }
+
+    @Test
+    void testOrdersMatchesByQuality() {
+        // Act
+        final List<? extends Suggestion> suggestions = this.commandManager.suggestionFactory()
+                .suggestImmediately(new TestCommandSender(), "command sto")
+                .list();
+
+        // Assert
+        assertThat(suggestions).containsExactlyElementsIn(
+                suggestionList("stone", "Stonebrick", "redstone_block", "cobblestone")
+        ).inOrder();
+    }
+
+    @Test
+    void testExactMatchFirst() {
+        // Act
+        final List<? extends Suggestion> suggestions = this.commandManager.suggestionFactory()
+                .suggestImmediately(new TestCommandSender(), "command STONE")
+                .list();
+
+        // Assert
+        assertThat(suggestions).containsExactlyElementsIn(
+                suggestionList("stone", "Stonebrick", "redstone_block", "cobblestone")
+        ).inOrder();
+    }
+
+    @Test
+    void testShortInputMatchesPrefixesOnly() {
+        // Act
+        final List<? extends Suggestion> suggestions = this.commandManager.suggestionFactory()
+                .suggestImmediately(new TestCommandSender(), "command st")
+                .list();
+
+        // Assert
+        assertThat(suggestions).containsExactlyElementsIn(suggestionList("st", "stone", "Stonebrick")).inOrder();
+    }
+
+    @Test
+    void testEmptyInputMatchesEverything() {
+        // Act
+        final List<? extends Suggestion> suggestions = this.commandManager.suggestionFactory()
+                .suggestImmediately(new TestCommandSender(), "command ")
+                .list();
+
+        // Assert
+        assertThat(suggestions).hasSize(INDEX.size());
+    }
+
+    @Test
+    void testUnknownInputMatchesNothing() {
+        // Act
+        final List<? extends Suggestion> suggestions = this.commandManager.suggestionFactory()
+                .suggestImmediately(new TestCommandSender(), "command gravel")
+                .list();
+
+        // Assert
+        assertThat(suggestions).isEmpty();
+    }
+
+    @Test
+    void testMisspelledInputMatchesFuzzily() {
+        // Arrange
+        this.commandManager.suggestionProcessor(SuggestionProcessor.passThrough());
+
+        // Act
+        final List<? extends Suggestion> suggestions = this.commandManager.suggestionFactory()
+                .suggestImmediately(new TestCommandSender(), "command diamnd")
+                .list();
+
+        // Assert
+        assertThat(suggestions).containsExactlyElementsIn(suggestionList("diamond"));
+    }
+
+    @Test
+    void testMatchesCurrentToken() {
+        // Arrange
+        this.commandManager.suggestionProcessor(SuggestionProcessor.passThrough());
+        this.commandManager.command(
+                this.commandManager.commandBuilder("blocks")
+                        .required("blocks", greedyStringParser(), SuggestionProvider.indexed(INDEX))
+        );
+
+        // Act
+        final List<? extends Suggestion> suggestions = this.commandManager.suggestionFactory()
+                .suggestImmediately(new TestCommandSender(), "blocks diamond sto")
+                .list();
+
+        // Assert
+        assertThat(suggestions).containsExactlyElementsIn(
+                suggestionList("stone", "Stonebrick", "redstone_block", "cobblestone")
+        ).inOrder();
+    }
+}
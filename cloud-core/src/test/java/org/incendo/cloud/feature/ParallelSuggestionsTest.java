@@ -0,0 +1,107 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.feature;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.TestCommandSender;
+import org.incendo.cloud.setting.ManagerSetting;
+import org.incendo.cloud.suggestion.Suggestion;
+import org.incendo.cloud.suggestion.SuggestionProvider;
+import org.incendo.cloud.suggestion.Suggestions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.parser.standard.ArgumentTestHelper.suggestionList;
+import static org.incendo.cloud.parser.standard.LiteralParser.literal;
+import static org.incendo.cloud.parser.standard.StringParser.stringParser;
+import static org.incendo.cloud.util.TestUtils.createManager;
+
+class ParallelSuggestionsTest {
+
+    private final List<CompletableFuture<List<Suggestion>>> literalFutures = new ArrayList<>();
+    private final List<CompletableFuture<List<Suggestion>>> argumentFutures = new ArrayList<>();
+    private CommandManager<TestCommandSender> commandManager;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = createManager();
+        this.commandManager.command(
+                this.commandManager.commandBuilder("command")
+                        .required("players", literal("players"), this.provider(this.literalFutures))
+        );
+        this.commandManager.command(
+                this.commandManager.commandBuilder("command")
+                        .required("name", stringParser(), this.provider(this.argumentFutures))
+        );
+    }
+
+    @Test
+    void testStartsSiblingProvidersTogether() {
+        // Arrange
+        this.commandManager.settings().set(ManagerSetting.PARALLEL_SUGGESTIONS, true);
+
+        // Act
+        final CompletableFuture<? extends Suggestions<TestCommandSender, ?>> future = this.suggest("command p");
+        final int literalsStarted = this.literalFutures.size();
+        final int argumentsStarted = this.argumentFutures.size();
+        this.argumentFutures.get(0).complete(suggestionList("pete"));
+        final boolean completedEarly = future.isDone();
+        this.literalFutures.get(0).complete(suggestionList("players"));
+
+        // Assert
+        assertThat(literalsStarted).isEqualTo(1);
+        assertThat(argumentsStarted).isEqualTo(1);
+        assertThat(completedEarly).isFalse();
+        assertThat(future.join().list()).containsExactlyElementsIn(suggestionList("players", "pete")).inOrder();
+    }
+
+    @Test
+    void testSequentialStartsProvidersOneAfterAnother() {
+        // Act
+        final CompletableFuture<? extends Suggestions<TestCommandSender, ?>> future = this.suggest("command p");
+        final int argumentsStarted = this.argumentFutures.size();
+        this.literalFutures.get(0).complete(suggestionList("players"));
+        this.argumentFutures.get(0).complete(suggestionList("pete"));
+
+        // Assert
+        assertThat(argumentsStarted).isEqualTo(0);
+        assertThat(future.join().list()).containsExactlyElementsIn(suggestionList("players", "pete")).inOrder();
+    }
+
+    private SuggestionProvider<TestCommandSender> provider(final List<CompletableFuture<List<Suggestion>>> futures) {
+        return (context, input) -> {
+            final CompletableFuture<List<Suggestion>> future = new CompletableFuture<>();
+            futures.add(future);
+            return future;
+        };
+    }
+
+    private CompletableFuture<? extends Suggestions<TestCommandSender, ?>> suggest(final String input) {
+        return this.commandManager.suggestionFactory().suggest(new TestCommandSender(), input);
+    }
+}
@@ -0,0 +1,206 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.feature;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.TestCommandSender;
+import org.incendo.cloud.execution.preprocessor.RateLimit;
+import org.incendo.cloud.execution.preprocessor.RateLimitExceededException;
+import org.incendo.cloud.execution.preprocessor.RateLimitingCommandPreprocessor;
+import org.incendo.cloud.services.PipelineException;
+import org.incendo.cloud.setting.ManagerSetting;
+import org.incendo.cloud.suggestion.Suggestion;
+import org.incendo.cloud.suggestion.SuggestionProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.parser.standard.ArgumentTestHelper.suggestionList;
+import static org.incendo.cloud.parser.standard.StringParser.stringParser;
+import static org.incendo.cloud.util.TestUtils.createManager;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RateLimitTest {
+
+    private final AtomicInteger limitedExecutions = new AtomicInteger();
+    private final AtomicInteger freeExecutions = new AtomicInteger();
+    private CommandManager<TestCommandSender> commandManager;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = createManager();
+        this.commandManager.registerCommandPreProcessor(new RateLimitingCommandPreprocessor<>(this.commandManager));
+        this.commandManager.command(
+                this.commandManager.commandBuilder("limited", "alias")
+                        .required("value", stringParser(), SuggestionProvider.suggestingStrings("a"))
+                        .meta(RateLimitingCommandPreprocessor.RATE_LIMIT, RateLimit.cooldown(Duration.ofHours(1L)))
+                        .meta(RateLimitingCommandPreprocessor.SUGGESTION_RATE_LIMIT, RateLimit.of(2, Duration.ofHours(1L)))
+                        .handler(context -> this.limitedExecutions.incrementAndGet())
+        );
+        this.commandManager.command(
+                this.commandManager.commandBuilder("free")
+                        .handler(context -> this.freeExecutions.incrementAndGet())
+        );
+    }
+
+    @Test
+    void testRejectsExecutionBeyondLimit() {
+        // Arrange
+        final TestCommandSender sender = new TestCommandSender();
+        final List<RateLimitExceededException> rejections = new ArrayList<>();
+        this.commandManager.exceptionController().registerHandler(
+                RateLimitExceededException.class,
+                context -> rejections.add(context.exception())
+        );
+
+        // Act
+        this.commandManager.commandExecutor().executeCommand(sender, "limited a").join();
+        this.commandManager.commandExecutor().executeCommand(sender, "alias a").join();
+
+        // Assert
+        assertThat(this.limitedExecutions.get()).isEqualTo(1);
+        assertThat(rejections).hasSize(1);
+        assertThat(rejections.get(0).commandSender()).isSameInstanceAs(sender);
+        assertThat(rejections.get(0).command()).isEqualTo("limited");
+        assertThat(rejections.get(0).rateLimit()).isEqualTo(RateLimit.cooldown(Duration.ofHours(1L)));
+    }
+
+    @Test
+    void testLimitsEachSenderSeparately() {
+        // Act
+        this.commandManager.commandExecutor().executeCommand(new TestCommandSender(), "limited a").join();
+        this.commandManager.commandExecutor().executeCommand(new TestCommandSender(), "limited a").join();
+
+        // Assert
+        assertThat(this.limitedExecutions.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testDoesNotLimitOtherCommands() {
+        // Arrange
+        final TestCommandSender sender = new TestCommandSender();
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            this.commandManager.commandExecutor().executeCommand(sender, "free").join();
+        }
+
+        // Assert
+        assertThat(this.freeExecutions.get()).isEqualTo(3);
+    }
+
+    @Test
+    void testLimitsSubcommandsSeparately() {
+        // Arrange
+        final AtomicInteger unlimitedExecutions = new AtomicInteger();
+        this.commandManager.command(
+                this.commandManager.commandBuilder("tool")
+                        .literal("limited")
+                        .meta(RateLimitingCommandPreprocessor.RATE_LIMIT, RateLimit.cooldown(Duration.ofHours(1L)))
+                        .handler(context -> this.limitedExecutions.incrementAndGet())
+        );
+        this.commandManager.command(
+                this.commandManager.commandBuilder("tool")
+                        .literal("unlimited")
+                        .handler(context -> unlimitedExecutions.incrementAndGet())
+        );
+        final TestCommandSender sender = new TestCommandSender();
+
+        // Act
+        for (int i = 0; i < 2; i++) {
+            this.commandManager.commandExecutor().executeCommand(sender, "tool limited")
+                    .exceptionally(throwable -> null)
+                    .join();
+            this.commandManager.commandExecutor().executeCommand(sender, "tool unlimited").join();
+        }
+
+        // Assert
+        assertThat(this.limitedExecutions.get()).isEqualTo(1);
+        assertThat(unlimitedExecutions.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testOtherPreprocessorFailuresAreNotUnwrapped() {
+        // Arrange
+        this.commandManager.registerCommandPreProcessor(context -> {
+            throw new IllegalStateException();
+        });
+
+        // Act
+        final CompletionException exception = assertThrows(
+                CompletionException.class,
+                () -> this.commandManager.commandExecutor().executeCommand(new TestCommandSender(), "free").join()
+        );
+
+        // Assert
+        assertThat(exception).hasCauseThat().isInstanceOf(PipelineException.class);
+        assertThat(exception).hasCauseThat().hasCauseThat().isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testRejectsSuggestionsBeyondLimit() {
+        // Arrange
+        final TestCommandSender sender = new TestCommandSender();
+
+        // Act
+        final List<? extends Suggestion> first = this.suggest(sender);
+        final List<? extends Suggestion> second = this.suggest(sender);
+        final List<? extends Suggestion> third = this.suggest(sender);
+
+        // Assert
+        assertThat(first).containsExactlyElementsIn(suggestionList("a"));
+        assertThat(second).containsExactlyElementsIn(suggestionList("a"));
+        assertThat(third).isEmpty();
+    }
+
+    @Test
+    void testRejectsResumedSuggestionsBeyondLimit() {
+        // Arrange
+        this.commandManager.settings().set(ManagerSetting.INCREMENTAL_SUGGESTIONS, true);
+        final TestCommandSender sender = new TestCommandSender();
+
+        // Act
+        final List<? extends Suggestion> first = this.suggest(sender);
+        final List<? extends Suggestion> resumed = this.suggest(sender, "limited a");
+        final List<? extends Suggestion> rejected = this.suggest(sender, "limited a");
+
+        // Assert
+        assertThat(first).containsExactlyElementsIn(suggestionList("a"));
+        assertThat(resumed).containsExactlyElementsIn(suggestionList("a"));
+        assertThat(rejected).isEmpty();
+    }
+
+    private List<? extends Suggestion> suggest(final TestCommandSender sender) {
+        return this.suggest(sender, "limited ");
+    }
+
+    private List<? extends Suggestion> suggest(final TestCommandSender sender, final String input) {
+        return this.commandManager.suggestionFactory().suggestImmediately(sender, input).list();
+    }
+}
@@ -0,0 +1,166 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.feature;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.incendo.cloud.CloudCapability;
+import org.incendo.cloud.Command;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.TestCommandSender;
+import org.incendo.cloud.exception.AmbiguousNodeException;
+import org.incendo.cloud.suggestion.Suggestion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.parser.standard.ArgumentTestHelper.suggestionList;
+import static org.incendo.cloud.parser.standard.IntegerParser.integerParser;
+import static org.incendo.cloud.parser.standard.StringParser.stringParser;
+import static org.incendo.cloud.util.TestUtils.createManager;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReplaceCommandsTest {
+
+    private CommandManager<TestCommandSender> commandManager;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = createManager();
+        this.commandManager.command(this.commandManager.commandBuilder("module").literal("a"));
+        this.commandManager.command(this.commandManager.commandBuilder("module").literal("b"));
+        this.commandManager.command(this.commandManager.commandBuilder("other"));
+    }
+
+    @Test
+    void testReplacesCommandsOfRoot() {
+        // Arrange
+        final AtomicBoolean executed = new AtomicBoolean();
+        final Command<TestCommandSender> replacement = this.commandManager.commandBuilder("module")
+                .literal("c")
+                .handler(context -> executed.set(true))
+                .build();
+
+        // Act
+        this.commandManager.replaceCommands(this::isModuleCommand, Collections.singletonList(replacement));
+        this.commandManager.commandExecutor().executeCommand(new TestCommandSender(), "module c").join();
+
+        // Assert
+        assertThat(this.suggest("module ")).containsExactlyElementsIn(suggestionList("c"));
+        assertThat(this.suggest("")).containsExactlyElementsIn(suggestionList("module", "other"));
+        assertThat(this.commandManager.commands()).hasSize(2);
+        assertThat(executed.get()).isTrue();
+    }
+
+    @Test
+    void testKeepsRemainingCommandsOfRoot() {
+        // Arrange
+        final Command<TestCommandSender> replacement = this.commandManager.commandBuilder("module").literal("c").build();
+
+        // Act
+        this.commandManager.replaceCommands(
+                command -> command.toString().equals("module a"),
+                Collections.singletonList(replacement)
+        );
+
+        // Assert
+        assertThat(this.suggest("module ")).containsExactlyElementsIn(suggestionList("b", "c"));
+        assertThat(this.commandManager.commands()).hasSize(3);
+    }
+
+    @Test
+    void testInvalidReplacementLeavesCommandsUnchanged() {
+        // Arrange
+        final List<Command<TestCommandSender>> replacements = Arrays.asList(
+                this.commandManager.commandBuilder("module").required("int", integerParser()).build(),
+                this.commandManager.commandBuilder("module").required("string", stringParser()).build()
+        );
+
+        // Act & Assert
+        assertThrows(
+                AmbiguousNodeException.class,
+                () -> this.commandManager.replaceCommands(this::isModuleCommand, replacements)
+        );
+        assertThat(this.suggest("module ")).containsExactlyElementsIn(suggestionList("a", "b"));
+        assertThat(this.commandManager.commands()).hasSize(3);
+    }
+
+    @Test
+    void testDeletingRootRequiresCapability() {
+        // Act & Assert
+        assertThrows(
+                CloudCapability.CloudCapabilityMissingException.class,
+                () -> this.commandManager.replaceCommands(this::isModuleCommand, Collections.emptyList())
+        );
+        assertThat(this.suggest("module ")).containsExactlyElementsIn(suggestionList("a", "b"));
+    }
+
+    @Test
+    void testAliasesOfRemovedCommandsAreDropped() {
+        // Arrange
+        this.commandManager.command(this.commandManager.commandBuilder("module", "mod").literal("c"));
+        final Command<TestCommandSender> replacement = this.commandManager.commandBuilder("module").literal("d").build();
+
+        // Act
+        this.commandManager.replaceCommands(
+                command -> command.toString().startsWith("module c"),
+                Collections.singletonList(replacement)
+        );
+
+        // Assert
+        assertThat(this.commandManager.commandTree().getNamedNode("module").component().aliases())
+                .containsExactly("module");
+    }
+
+    @Test
+    void testInvalidReplacementDoesNotModifyAliases() {
+        // Arrange
+        final List<Command<TestCommandSender>> replacements = Arrays.asList(
+                this.commandManager.commandBuilder("module", "mod").literal("x").required("int", integerParser()).build(),
+                this.commandManager.commandBuilder("module").literal("x").required("string", stringParser()).build()
+        );
+        final int longestChainLength = this.commandManager.commandTree().longestChainLength();
+
+        // Act
+        assertThrows(
+                AmbiguousNodeException.class,
+                () -> this.commandManager.replaceCommands(command -> false, replacements)
+        );
+
+        // Assert
+        assertThat(this.commandManager.commandTree().getNamedNode("module").component().aliases())
+                .containsExactly("module");
+        assertThat(this.commandManager.commandTree().longestChainLength()).isEqualTo(longestChainLength);
+    }
+
+    private boolean isModuleCommand(final Command<TestCommandSender> command) {
+        return command.rootComponent().name().equals("module");
+    }
+
+    private List<? extends Suggestion> suggest(final String input) {
+        return this.commandManager.suggestionFactory().suggestImmediately(new TestCommandSender(), input).list();
+    }
+}
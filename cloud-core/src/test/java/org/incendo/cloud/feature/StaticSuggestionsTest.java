@@ -0,0 +1,141 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.feature;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.TestCommandSender;
+import org.incendo.cloud.internal.StaticSuggestionIndex;
+import org.incendo.cloud.suggestion.StaticSuggestionProvider;
+import org.incendo.cloud.suggestion.Suggestion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.parser.standard.ArgumentTestHelper.suggestionList;
+import static org.incendo.cloud.parser.standard.StringParser.stringParser;
+import static org.incendo.cloud.util.TestUtils.createManager;
+
+class StaticSuggestionsTest {
+
+    private final AtomicInteger invocations = new AtomicInteger();
+    private CommandManager<TestCommandSender> commandManager;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = createManager();
+        final StaticSuggestionProvider.Strings<TestCommandSender> provider = () -> {
+            this.invocations.incrementAndGet();
+            return Arrays.asList("one", "two");
+        };
+        this.commandManager.command(
+                this.commandManager.commandBuilder("test")
+                        .literal("var")
+                        .required("str", stringParser(), provider)
+        );
+        this.commandManager.command(this.commandManager.commandBuilder("test").literal("alpha"));
+        this.commandManager.command(this.commandManager.commandBuilder("test").literal("alpine"));
+        this.commandManager.command(this.commandManager.commandBuilder("test").literal("beta"));
+    }
+
+    @Test
+    void testStaticSuggestionsAreCached() {
+        // Act
+        final List<? extends Suggestion> first = this.suggest("test var ");
+        final List<? extends Suggestion> second = this.suggest("test var ");
+
+        // Assert
+        assertThat(first).containsExactlyElementsIn(suggestionList("one", "two")).inOrder();
+        assertThat(second).containsExactlyElementsIn(first).inOrder();
+        assertThat(this.invocations.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testLiteralCompletions() {
+        // Act
+        final List<? extends Suggestion> partial = this.suggest("test al");
+        final List<? extends Suggestion> exact = this.suggest("test beta");
+
+        // Assert
+        assertThat(partial).containsExactlyElementsIn(suggestionList("alpha", "alpine"));
+        assertThat(exact).isEmpty();
+    }
+
+    @Test
+    void testReplacingMapperInvalidatesCache() {
+        // Arrange
+        this.suggest("test var ");
+        this.commandManager.appendSuggestionMapper(suggestion -> suggestion.suggestion().endsWith("!")
+                ? suggestion
+                : suggestion.withSuggestion(suggestion.suggestion() + "!"));
+
+        // Act
+        final List<? extends Suggestion> suggestions = this.suggest("test var ");
+
+        // Assert
+        assertThat(suggestions).containsExactlyElementsIn(suggestionList("one!", "two!")).inOrder();
+        assertThat(this.invocations.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testAlternatingMappersShareTheCache() {
+        // Arrange
+        final TestCommandSender sender = new TestCommandSender();
+        this.suggest("test var ");
+
+        // Act
+        final List<? extends Suggestion> mapped = this.commandManager.suggestionFactory()
+                .mapped(suggestion -> suggestion)
+                .suggestImmediately(sender, "test var ")
+                .list();
+        final List<? extends Suggestion> suggestions = this.suggest("test var ");
+
+        // Assert
+        assertThat(mapped).containsExactlyElementsIn(suggestionList("one", "two")).inOrder();
+        assertThat(suggestions).containsExactlyElementsIn(suggestionList("one", "two")).inOrder();
+        assertThat(this.invocations.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testLargeLiteralSetsAreIndexed() {
+        // Arrange
+        for (int i = 0; i < StaticSuggestionIndex.SORTED_THRESHOLD; i++) {
+            this.commandManager.command(this.commandManager.commandBuilder("large").literal("literal" + i));
+        }
+
+        // Act
+        final List<? extends Suggestion> suggestions = this.suggest("large literal1");
+
+        // Assert
+        assertThat(suggestions).containsExactlyElementsIn(
+                suggestionList("literal10", "literal11", "literal12", "literal13", "literal14", "literal15")
+        );
+    }
+
+    private List<? extends Suggestion> suggest(final String input) {
+        return this.commandManager.suggestionFactory().suggestImmediately(new TestCommandSender(), input).list();
+    }
+}
@@ -0,0 +1,116 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.feature;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.TestCommandSender;
+import org.incendo.cloud.setting.ManagerSetting;
+import org.incendo.cloud.suggestion.Suggestion;
+import org.incendo.cloud.suggestion.SuggestionProvider;
+import org.incendo.cloud.suggestion.Suggestions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.parser.standard.ArgumentTestHelper.suggestionList;
+import static org.incendo.cloud.parser.standard.StringParser.stringParser;
+import static org.incendo.cloud.util.TestUtils.createManager;
+
+class SuggestionCoalescingTest {
+
+    private final Deque<CompletableFuture<List<Suggestion>>> providerFutures = new ArrayDeque<>();
+    private final TestCommandSender sender = new TestCommandSender();
+    private CommandManager<TestCommandSender> commandManager;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = createManager();
+        this.commandManager.settings().set(ManagerSetting.COALESCE_SUGGESTIONS, true);
+
+        final SuggestionProvider<TestCommandSender> provider = (context, input) -> {
+            final CompletableFuture<List<Suggestion>> future = new CompletableFuture<>();
+            this.providerFutures.add(future);
+            return future;
+        };
+        this.commandManager.command(
+                this.commandManager.commandBuilder("test")
+                        .required("string", stringParser(), provider)
+        );
+    }
+
+    @Test
+    void testNewerRequestSupersedesInFlightRequest() {
+        // Arrange
+        final CompletableFuture<? extends Suggestions<TestCommandSender, ?>> superseded = this.suggest("test ");
+        final CompletableFuture<List<Suggestion>> supersededProvider = this.providerFutures.removeFirst();
+
+        // Act
+        final CompletableFuture<? extends Suggestions<TestCommandSender, ?>> current = this.suggest("test a");
+        this.providerFutures.removeFirst().complete(Collections.singletonList(Suggestion.suggestion("abc")));
+
+        // Assert
+        assertThat(superseded.isCancelled()).isFalse();
+        assertThat(superseded.join().list()).isEmpty();
+        assertThat(supersededProvider.isCancelled()).isFalse();
+        assertThat(current.join().list()).containsExactlyElementsIn(suggestionList("abc"));
+    }
+
+    @Test
+    void testDoesNotCancelRequestsOfOtherSenders() {
+        // Arrange
+        final CompletableFuture<? extends Suggestions<TestCommandSender, ?>> first = this.suggest("test ");
+        final CompletableFuture<List<Suggestion>> firstProvider = this.providerFutures.removeFirst();
+
+        // Act
+        this.commandManager.suggestionFactory().suggest(new TestCommandSender(), "test ");
+        firstProvider.complete(Collections.singletonList(Suggestion.suggestion("abc")));
+
+        // Assert
+        assertThat(first.isCancelled()).isFalse();
+        assertThat(first.join().list()).containsExactlyElementsIn(suggestionList("abc"));
+    }
+
+    @Test
+    void testDoesNotCancelWhenDisabled() {
+        // Arrange
+        this.commandManager.settings().set(ManagerSetting.COALESCE_SUGGESTIONS, false);
+        final CompletableFuture<? extends Suggestions<TestCommandSender, ?>> first = this.suggest("test ");
+
+        // Act
+        this.suggest("test a");
+
+        // Assert
+        assertThat(first.isCancelled()).isFalse();
+        assertThat(this.providerFutures.peekFirst().isCancelled()).isFalse();
+    }
+
+    private CompletableFuture<? extends Suggestions<TestCommandSender, ?>> suggest(final String input) {
+        return this.commandManager.suggestionFactory().suggest(this.sender, input);
+    }
+}
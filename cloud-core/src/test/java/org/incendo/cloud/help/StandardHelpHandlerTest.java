@@ -23,6 +23,7 @@
 //
 package org.incendo.cloud.help;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.CommandManager;
 import org.incendo.cloud.TestCommandSender;
@@ -31,6 +32,7 @@ import org.incendo.cloud.help.result.HelpQueryResult;
 import org.incendo.cloud.help.result.IndexCommandResult;
 import org.incendo.cloud.help.result.MultipleCommandResult;
 import org.incendo.cloud.help.result.VerboseCommandResult;
+import org.incendo.cloud.syntax.StandardCommandSyntaxFormatter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -40,6 +42,7 @@ import static com.google.common.truth.Truth.assertThat;
 import static org.incendo.cloud.description.CommandDescription.commandDescription;
 import static org.incendo.cloud.parser.standard.IntegerParser.integerParser;
 import static org.incendo.cloud.parser.standard.StringParser.stringParser;
+import static org.incendo.cloud.util.TestUtils.FAILING_PERMISSION;
 import static org.incendo.cloud.util.TestUtils.createManager;
 
 class StandardHelpHandlerTest {
@@ -147,4 +150,75 @@ class StandardHelpHandlerTest {
                 "test int <int>"
         );
     }
+
+    @Test
+    void testRootPrefix() {
+        // Arrange
+        this.commandManager.command(this.commandManager.commandBuilder("tester"));
+        final HelpQuery<TestCommandSender> query = HelpQuery.of(new TestCommandSender(), "te");
+
+        // Act
+        final HelpQueryResult<?> result = this.helpHandler.query(query);
+
+        // Assert
+        assertThat(result).isInstanceOf(IndexCommandResult.class);
+        assertThat(((IndexCommandResult<?>) result).entries().stream().map(CommandEntry::syntax)).containsExactly(
+                "test <string>",
+                "test foo bar",
+                "test int <int>",
+                "tester"
+        ).inOrder();
+    }
+
+    @Test
+    void testRootPrefixSkipsInaccessibleCommands() {
+        // Arrange
+        this.commandManager.command(this.commandManager.commandBuilder("other-hidden").permission(FAILING_PERMISSION));
+        this.commandManager.command(this.commandManager.commandBuilder("other-visible"));
+        final HelpQuery<TestCommandSender> query = HelpQuery.of(new TestCommandSender(), "other-");
+
+        // Act
+        final HelpQueryResult<?> result = this.helpHandler.query(query);
+
+        // Assert
+        assertThat(result).isInstanceOf(IndexCommandResult.class);
+        assertThat(((IndexCommandResult<?>) result).entries().stream().map(CommandEntry::syntax))
+                .containsExactly("other-visible");
+    }
+
+    @Test
+    void testRootAliasIsIndexed() {
+        // Arrange
+        this.commandManager.command(this.commandManager.commandBuilder("alias-test", "aliased"));
+        final HelpQuery<TestCommandSender> query = HelpQuery.of(new TestCommandSender(), "ALIASED");
+
+        // Act
+        final HelpQueryResult<?> result = this.helpHandler.query(query);
+
+        // Assert
+        assertThat(result).isInstanceOf(VerboseCommandResult.class);
+        assertThat(((VerboseCommandResult<?>) result).entry().syntax()).isEqualTo("alias-test");
+    }
+
+    @Test
+    void testEntriesOfFormatterSubclassesAreNotCached() {
+        // Arrange
+        final AtomicInteger instances = new AtomicInteger();
+        this.commandManager.commandSyntaxFormatter(new StandardCommandSyntaxFormatter<TestCommandSender>(this.commandManager, 0) {
+            @Override
+            protected @NonNull FormattingInstance createInstance() {
+                instances.incrementAndGet();
+                return super.createInstance();
+            }
+        });
+        this.helpHandler.queryRootIndex(new TestCommandSender());
+        final int firstQuery = instances.get();
+
+        // Act
+        this.helpHandler.queryRootIndex(new TestCommandSender());
+
+        // Assert
+        assertThat(firstQuery).isGreaterThan(0);
+        assertThat(instances.get()).isEqualTo(2 * firstQuery);
+    }
 }
@@ -0,0 +1,137 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.metrics;
+
+import java.util.Collections;
+import org.incendo.cloud.Command;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.TestCommandSender;
+import org.incendo.cloud.parser.standard.IntegerParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.util.TestUtils.createManager;
+
+class HistogramCommandMetricsTest {
+
+    private CommandManager<TestCommandSender> commandManager;
+    private HistogramCommandMetrics<TestCommandSender> metrics;
+    private Command<TestCommandSender> command;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = createManager();
+        this.metrics = HistogramCommandMetrics.create();
+        this.commandManager.commandMetrics(this.metrics);
+        this.command = this.commandManager.commandBuilder("test")
+                .required("int", IntegerParser.integerParser())
+                .build();
+        this.commandManager.command(this.command);
+    }
+
+    @Test
+    void testExecutionIsRecorded() {
+        // Act
+        this.commandManager.commandExecutor().executeCommand(new TestCommandSender(), "test 5").join();
+        this.commandManager.commandExecutor().executeCommand(new TestCommandSender(), "test 6").join();
+
+        // Assert
+        final CommandMetricsSnapshot<TestCommandSender> snapshot = this.metrics.snapshot();
+        assertThat(snapshot.preprocessing().count()).isEqualTo(2);
+        assertThat(snapshot.execution()).containsKey(this.command);
+        assertThat(snapshot.execution().get(this.command).count()).isEqualTo(2);
+        assertThat(snapshot.postprocessing().get(this.command).count()).isEqualTo(2);
+        assertThat(snapshot.parsing()).containsKey(this.command.components().get(1));
+    }
+
+    @Test
+    void testEqualComponentsOfDifferentCommandsAreRecordedSeparately() {
+        // Arrange
+        final Command<TestCommandSender> other = this.commandManager.commandBuilder("other")
+                .required("int", IntegerParser.integerParser())
+                .build();
+        this.commandManager.command(other);
+
+        // Act
+        this.commandManager.commandExecutor().executeCommand(new TestCommandSender(), "test 5").join();
+        this.commandManager.commandExecutor().executeCommand(new TestCommandSender(), "other 6").join();
+        this.commandManager.commandExecutor().executeCommand(new TestCommandSender(), "other 7").join();
+
+        // Assert
+        final CommandMetricsSnapshot<TestCommandSender> snapshot = this.metrics.snapshot();
+        assertThat(snapshot.parsing().get(this.command.components().get(1)).count()).isEqualTo(1);
+        assertThat(snapshot.parsing().get(other.components().get(1)).count()).isEqualTo(2);
+    }
+
+    @Test
+    void testSuggestionsAreRecorded() {
+        // Act
+        this.commandManager.suggestionFactory().suggestImmediately(new TestCommandSender(), "test ");
+
+        // Assert
+        final CommandMetricsSnapshot<TestCommandSender> snapshot = this.metrics.snapshot();
+        assertThat(snapshot.totalSuggestions().count()).isEqualTo(1);
+        assertThat(snapshot.suggestions()).containsKey(this.command.components().get(1));
+    }
+
+    @Test
+    void testReplacedCommandsAreEvicted() {
+        // Arrange
+        final Command<TestCommandSender> replacement = this.commandManager.commandBuilder("test")
+                .required("int", IntegerParser.integerParser())
+                .build();
+        this.commandManager.commandExecutor().executeCommand(new TestCommandSender(), "test 5").join();
+
+        // Act
+        this.commandManager.replaceCommands(command -> command == this.command, Collections.singletonList(replacement));
+        this.commandManager.commandExecutor().executeCommand(new TestCommandSender(), "test 6").join();
+
+        // Assert
+        final CommandMetricsSnapshot<TestCommandSender> snapshot = this.metrics.snapshot();
+        assertThat(snapshot.execution()).doesNotContainKey(this.command);
+        assertThat(snapshot.execution().get(replacement).count()).isEqualTo(1);
+        assertThat(snapshot.parsing()).doesNotContainKey(this.command.components().get(1));
+        assertThat(snapshot.parsing().get(replacement.components().get(1)).count()).isEqualTo(1);
+    }
+
+    @Test
+    void testHistogramPercentiles() {
+        // Arrange
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        // Act
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value);
+        }
+
+        // Assert
+        final HistogramSnapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.count()).isEqualTo(1000);
+        assertThat(snapshot.max()).isEqualTo(1000);
+        assertThat(snapshot.valueAtPercentile(50.0D)).isAtLeast(500L);
+        assertThat(snapshot.valueAtPercentile(50.0D)).isAtMost(515L);
+        assertThat(snapshot.valueAtPercentile(100.0D)).isAtLeast(1000L);
+    }
+}
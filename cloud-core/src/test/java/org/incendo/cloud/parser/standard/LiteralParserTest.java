@@ -23,6 +23,8 @@
 //
 package org.incendo.cloud.parser.standard;
 
+import java.util.Collection;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 import static com.google.common.truth.Truth.assertThat;
@@ -43,4 +45,20 @@ class LiteralParserTest {
                         "alias' is invalid: contains whitespace"
         );
     }
+
+    @Test
+    void testAliasesAreCaseInsensitiveSet() {
+        // Arrange
+        final LiteralParser<Object> parser = (LiteralParser<Object>) LiteralParser.<Object>literal("Name", "alias").parser();
+        parser.insertAlias("ALIAS");
+
+        // Act
+        final Collection<String> aliases = parser.aliases();
+
+        // Assert
+        assertThat(aliases).isInstanceOf(Set.class);
+        assertThat(aliases).containsExactly("alias", "Name");
+        assertThat(aliases.contains("name")).isTrue();
+        assertThat(aliases.contains("Alias")).isTrue();
+    }
 }
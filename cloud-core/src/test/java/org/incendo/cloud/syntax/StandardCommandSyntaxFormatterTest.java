@@ -106,6 +106,44 @@ class StandardCommandSyntaxFormatterTest {
         assertThat(formatted).isEqualTo(" all");
     }
 
+    @Test
+    void cachedSyntaxAccountsForPermissions() {
+        final CommandSyntaxFormatter<TestCommandSender> formatter = new StandardCommandSyntaxFormatter<>(
+                this.manager,
+                StandardCommandSyntaxFormatter.DEFAULT_CACHE_SIZE
+        );
+        final Command.Builder<TestCommandSender> root = this.manager.commandBuilder("root");
+        this.manager.command(root.literal("all").handler(ctx -> {}));
+        this.manager.command(root.literal("permitted_only").permission("some_permission").handler(ctx -> {}));
+
+        final CommandNode<TestCommandSender> rootNode = this.manager.commandTree().getNamedNode("root");
+        final TestCommandSender sender = new TestCommandSender();
+
+        assertThat(formatter.apply(sender, Collections.emptyList(), rootNode)).isEqualTo(" all");
+        sender.addPermission("some_permission");
+        assertThat(formatter.apply(sender, Collections.emptyList(), rootNode)).isEqualTo(" all|permitted_only");
+        sender.removePermission("some_permission");
+        assertThat(formatter.apply(sender, Collections.emptyList(), rootNode)).isEqualTo(" all");
+    }
+
+    @Test
+    void cachedSyntaxIsInvalidatedOnTreeModification() {
+        final CommandSyntaxFormatter<TestCommandSender> formatter = new StandardCommandSyntaxFormatter<>(
+                this.manager,
+                StandardCommandSyntaxFormatter.DEFAULT_CACHE_SIZE
+        );
+        final Command.Builder<TestCommandSender> root = this.manager.commandBuilder("root");
+        this.manager.command(root.literal("first").handler(ctx -> {}));
+
+        final CommandNode<TestCommandSender> rootNode = this.manager.commandTree().getNamedNode("root");
+        assertThat(formatter.apply(new TestCommandSender(), Collections.emptyList(), rootNode)).isEqualTo(" first");
+
+        this.manager.command(root.literal("second").handler(ctx -> {}));
+
+        assertThat(formatter.apply(new TestCommandSender(), Collections.emptyList(), rootNode))
+                .isEqualTo(" first|second");
+    }
+
     static final class SpecificTestCommandSender extends TestCommandSender {
 
     }
@@ -23,7 +23,6 @@
 //
 package org.incendo.cloud.kotlin.coroutines.annotations
 
-import io.leangen.geantyref.GenericTypeReflector
 import io.leangen.geantyref.TypeToken
 import kotlinx.coroutines.CoroutineScope
 import kotlinx.coroutines.GlobalScope
@@ -31,7 +30,6 @@ import kotlinx.coroutines.future.future
 import org.incendo.cloud.annotations.AnnotationParser
 import org.incendo.cloud.annotations.MethodCommandExecutionHandler
 import org.incendo.cloud.annotations.method.AnnotatedMethodHandler
-import org.incendo.cloud.annotations.method.ParameterValue
 import org.incendo.cloud.annotations.parser.MethodArgumentParserFactory
 import org.incendo.cloud.annotations.suggestion.MethodSuggestionProvider
 import org.incendo.cloud.annotations.suggestion.SuggestionProviderFactory
@@ -43,7 +41,6 @@ import org.incendo.cloud.parser.ArgumentParser.FutureArgumentParser
 import org.incendo.cloud.parser.ParserDescriptor
 import org.incendo.cloud.suggestion.Suggestion
 import org.incendo.cloud.suggestion.SuggestionProvider
-import java.lang.reflect.InvocationTargetException
 import java.lang.reflect.Method
 import java.lang.reflect.Parameter
 import java.util.concurrent.CompletableFuture
@@ -51,12 +48,6 @@ import java.util.function.Predicate
 import kotlin.coroutines.Continuation
 import kotlin.coroutines.CoroutineContext
 import kotlin.coroutines.EmptyCoroutineContext
-import kotlin.reflect.KFunction
-import kotlin.reflect.KParameter
-import kotlin.reflect.full.callSuspend
-import kotlin.reflect.full.callSuspendBy
-import kotlin.reflect.full.instanceParameter
-import kotlin.reflect.full.valueParameters
 import kotlin.reflect.jvm.javaType
 import kotlin.reflect.jvm.jvmErasure
 import kotlin.reflect.jvm.kotlinFunction
@@ -102,20 +93,17 @@ private class KotlinMethodCommandExecutionHandler<C>(
     private val paramsWithoutContinuation = parameters()
         .filterNot { Continuation::class.java == it.type }
         .toTypedArray()
+    private val invoker = SuspendFunctionInvoker(context.method(), context.instance())
 
-    override fun executeFuture(commandContext: CommandContext<C>): CompletableFuture<Void?> {
-        val instance = context().instance()
-        val kFunction = requireNotNull(context().method().kotlinFunction)
-        return executeSuspendFunction(
+    override fun executeFuture(commandContext: CommandContext<C>): CompletableFuture<Void?> =
+        executeSuspendFunction(
             coroutineScope,
             coroutineContext,
-            kFunction,
-            instance,
+            invoker,
             paramsWithoutContinuation,
             commandContext
         )
             .thenApply { null }
-    }
 }
 
 private class KotlinSuggestionProviderFactory<C>(
@@ -131,30 +119,28 @@ private class KotlinSuggestionProviderFactory<C>(
         if (method.kotlinFunction == null) {
             return SuggestionProviderFactory.defaultFactory<C>().createSuggestionProvider(instance, method, injectorRegistry)
         }
-        val kFunction = requireNotNull(method.kotlinFunction)
-        return KotlinSuggestionProvider(coroutineScope, coroutineContext, kFunction, instance)
+        return KotlinSuggestionProvider(coroutineScope, coroutineContext, method, instance)
     }
 }
 
 private class KotlinSuggestionProvider<C>(
     private val coroutineScope: CoroutineScope,
     private val coroutineContext: CoroutineContext,
-    private val kFunction: KFunction<*>,
-    private val instance: Any
+    method: Method,
+    instance: Any
 ) : SuggestionProvider<C> {
 
+    private val invoker = SuspendFunctionInvoker(method, instance)
+    private val valueParameterTypes = method.parameterTypes.filterNot { Continuation::class.java == it }
+
     override fun suggestionsFuture(context: CommandContext<C>, input: CommandInput): CompletableFuture<Iterable<Suggestion>> {
         return coroutineScope.future(coroutineContext) {
-            try {
-                if (kFunction.valueParameters.isEmpty()) {
-                    kFunction.callSuspend(instance)
-                } else if (kFunction.valueParameters[1].type.classifier == String::class) {
-                    kFunction.callSuspend(instance, context, input.lastRemainingToken())
-                } else {
-                    kFunction.callSuspend(instance, context, input)
-                }
-            } catch (e: InvocationTargetException) {
-                e.cause?.let { throw it } ?: throw e // if cause exists, throw, else rethrow invocation exception
+            if (valueParameterTypes.isEmpty()) {
+                invoker.call(emptyArray())
+            } else if (valueParameterTypes[1] == String::class.java) {
+                invoker.call(arrayOf(context, input.lastRemainingToken()))
+            } else {
+                invoker.call(arrayOf(context, input))
             }
         }.thenCompose { result ->
             when (result) {
@@ -207,7 +193,6 @@ private class KotlinMethodArgumentParserFactory<C>(
                 KotlinMethodArgumentParser(
                     coroutineScope,
                     coroutineContext,
-                    kFunction,
                     instance,
                     suggestionProvider,
                     method,
@@ -222,8 +207,7 @@ private class KotlinMethodArgumentParserFactory<C>(
 private class KotlinMethodArgumentParser<C, T>(
     private val coroutineScope: CoroutineScope,
     private val coroutineContext: CoroutineContext,
-    private val kFunction: KFunction<*>,
-    private val instance: Any,
+    instance: Any,
     private val suggestionProvider: SuggestionProvider<C>,
     javaMethod: Method,
     parameterInjectorRegistry: ParameterInjectorRegistry<C>
@@ -232,6 +216,7 @@ private class KotlinMethodArgumentParser<C, T>(
     private val paramsWithoutContinuation = parameters()
         .filterNot { Continuation::class.java == it.type }
         .toTypedArray()
+    private val invoker = SuspendFunctionInvoker(javaMethod, instance)
 
     override fun parseFuture(
         commandContext: CommandContext<C>,
@@ -240,8 +225,7 @@ private class KotlinMethodArgumentParser<C, T>(
         executeSuspendFunction(
             coroutineScope,
             coroutineContext,
-            kFunction,
-            instance,
+            invoker,
             paramsWithoutContinuation,
             commandContext,
             listOf(commandInput)
@@ -264,61 +248,21 @@ private class KotlinMethodArgumentParser<C, T>(
 private fun <C> AnnotatedMethodHandler<C>.executeSuspendFunction(
     coroutineScope: CoroutineScope,
     coroutineContext: CoroutineContext,
-    kFunction: KFunction<*>,
-    instance: Any,
+    invoker: SuspendFunctionInvoker,
     paramsWithoutContinuation: Array<Parameter>,
     commandContext: CommandContext<C>,
     preDefinedParameters: List<Any> = emptyList()
 ): CompletableFuture<*> {
-    val valueParameters = kFunction.valueParameters.associateBy(KParameter::name)
-
-    if (valueParameters.values.none(KParameter::isOptional)) {
-        val params = createParameterValues(
-            commandContext,
-            paramsWithoutContinuation,
-            preDefinedParameters
-        ).map(ParameterValue::value)
-
-        return coroutineScope.future(coroutineContext) {
-            try {
-                kFunction.callSuspend(instance, *params.toTypedArray())
-            } catch (e: InvocationTargetException) {
-                e.cause?.let { throw it } ?: throw e
-            }
-        }
-    }
-
-    val instanceParameter = kFunction.instanceParameter?.let { mapOf(it to instance) } ?: emptyMap()
-
     val params = createParameterValues(
         commandContext,
         paramsWithoutContinuation,
         preDefinedParameters
-    ).associate { parameterValue ->
-        val descriptor = parameterValue.descriptor()
-        val parameter = if (parameterValue.parameter().name in valueParameters) {
-            requireNotNull(valueParameters[parameterValue.parameter().name])
-        } else if (descriptor != null && descriptor.name() in valueParameters) {
-            requireNotNull(valueParameters[descriptor.name()])
-        } else {
-            requireNotNull(valueParameters.values.firstOrNull { it.hasType(parameterValue.parameter().type) }) {
-                "could not find parameter ${parameterValue.parameter().name} of type ${parameterValue.parameter().type}, " +
-                    "kParameters: ${valueParameters.entries.joinToString { "${it.key} (${it.value.type.javaType})" }}"
-            }
-        }
-        parameter to parameterValue.value()
-    }.filter { (parameter, value) ->
-        value != null || (!parameter.isOptional)
-    } + instanceParameter
-
+    )
+    val arguments = arrayOfNulls<Any?>(params.size)
+    for (index in params.indices) {
+        arguments[index] = params[index].value()
+    }
     return coroutineScope.future(coroutineContext) {
-        try {
-            kFunction.callSuspendBy(params)
-        } catch (e: InvocationTargetException) {
-            e.cause?.let { throw it } ?: throw e
-        }
+        invoker.call(arguments)
     }
 }
-
-private fun KParameter.hasType(clazz: Class<*>): Boolean =
-    GenericTypeReflector.erase(type.javaType) == clazz
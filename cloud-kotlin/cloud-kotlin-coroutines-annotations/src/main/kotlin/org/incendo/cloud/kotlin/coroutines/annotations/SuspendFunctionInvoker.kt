@@ -0,0 +1,158 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.kotlin.coroutines.annotations
+
+import java.lang.invoke.MethodHandle
+import java.lang.invoke.MethodHandles
+import java.lang.invoke.MethodType
+import java.lang.reflect.Method
+import kotlin.coroutines.Continuation
+import kotlin.coroutines.intrinsics.suspendCoroutineUninterceptedOrReturn
+import kotlin.reflect.full.valueParameters
+import kotlin.reflect.jvm.kotlinFunction
+
+/**
+ * Invokes a Kotlin function through a [MethodHandle] of its compiled form.
+ *
+ * Suspending functions are compiled into methods that take the [Continuation] as the trailing parameter, and that
+ * return [kotlin.coroutines.intrinsics.COROUTINE_SUSPENDED] if they suspend. The invoker passes the continuation of the
+ * calling coroutine, which is how [kotlin.reflect.full.callSuspend] invokes them as well. Omitted optional parameters are
+ * filled in by invoking the synthetic `$default` method that the compiler generates for functions with default values.
+ *
+ * Everything is resolved once when the invoker is created, so invocations do not go through kotlin-reflect.
+ *
+ * @param method the compiled method
+ * @param instance the instance to invoke the method on
+ */
+internal class SuspendFunctionInvoker(method: Method, instance: Any) {
+
+    private companion object {
+        private val SPREAD_TYPE: MethodType = MethodType.methodType(Any::class.java, Array<Any?>::class.java)
+    }
+
+    private val suspending = method.parameterTypes.lastOrNull() == Continuation::class.java
+    private val parameterCount = method.parameterCount - if (suspending) 1 else 0
+    private val invoker: MethodHandle
+    private val defaultInvoker: MethodHandle?
+    private val optionalParameters: BooleanArray
+    private val defaultPlaceholders: Array<Any?>
+    private val maskCount = (parameterCount + Int.SIZE_BITS - 1) / Int.SIZE_BITS
+
+    init {
+        if (!method.isAccessible) {
+            method.isAccessible = true
+        }
+        invoker = MethodHandles.lookup().unreflect(method)
+            .bindTo(instance)
+            .asSpreader(Array<Any?>::class.java, method.parameterCount)
+            .asType(SPREAD_TYPE)
+
+        val valueParameters = method.kotlinFunction?.valueParameters
+        optionalParameters = BooleanArray(parameterCount) { index -> valueParameters?.getOrNull(index)?.isOptional == true }
+        defaultInvoker = if (optionalParameters.any { it }) findDefaultInvoker(method, instance) else null
+        defaultPlaceholders = Array(parameterCount) { index -> placeholder(method.parameterTypes[index]) }
+    }
+
+    /**
+     * Invokes the function with the given [arguments], which are in the order of the value parameters of the function.
+     * A `null` argument of an optional parameter is replaced by the default value of the parameter.
+     *
+     * @param arguments the arguments
+     * @return the value returned by the function
+     */
+    suspend fun call(arguments: Array<Any?>): Any? {
+        require(arguments.size == parameterCount) {
+            "Expected $parameterCount arguments, got ${arguments.size}"
+        }
+        if (!suspending) {
+            return invoke(arguments, null)
+        }
+        return suspendCoroutineUninterceptedOrReturn { continuation -> invoke(arguments, continuation) }
+    }
+
+    private fun invoke(arguments: Array<Any?>, continuation: Continuation<*>?): Any? {
+        val masks = defaultMasks(arguments)
+        val trailingCount = if (suspending) 1 else 0
+        if (masks == null) {
+            val spread = arguments.copyOf(parameterCount + trailingCount)
+            if (suspending) {
+                spread[parameterCount] = continuation
+            }
+            return invoker.invokeExact(spread)
+        }
+        val spread = arrayOfNulls<Any?>(parameterCount + trailingCount + maskCount + 1)
+        for (index in 0 until parameterCount) {
+            spread[index] = arguments[index] ?: defaultPlaceholders[index]
+        }
+        if (suspending) {
+            spread[parameterCount] = continuation
+        }
+        for (index in masks.indices) {
+            spread[parameterCount + trailingCount + index] = masks[index]
+        }
+        return requireNotNull(defaultInvoker).invokeExact(spread)
+    }
+
+    private fun defaultMasks(arguments: Array<Any?>): IntArray? {
+        if (defaultInvoker == null) {
+            return null
+        }
+        var masks: IntArray? = null
+        for (index in 0 until parameterCount) {
+            if (arguments[index] == null && optionalParameters[index]) {
+                masks = masks ?: IntArray(maskCount)
+                masks[index / Int.SIZE_BITS] = masks[index / Int.SIZE_BITS] or (1 shl (index % Int.SIZE_BITS))
+            }
+        }
+        return masks
+    }
+
+    private fun findDefaultInvoker(method: Method, instance: Any): MethodHandle {
+        // static name$default(instance, parameters..., [continuation], masks..., marker)
+        val parameterTypes = listOf(method.declaringClass) +
+            method.parameterTypes +
+            List(maskCount) { Int::class.javaPrimitiveType!! } +
+            Any::class.java
+        val defaultMethod = method.declaringClass.getDeclaredMethod("${method.name}\$default", *parameterTypes.toTypedArray())
+        if (!defaultMethod.isAccessible) {
+            defaultMethod.isAccessible = true
+        }
+        return MethodHandles.lookup().unreflect(defaultMethod)
+            .bindTo(instance)
+            .asSpreader(Array<Any?>::class.java, parameterTypes.size - 1)
+            .asType(SPREAD_TYPE)
+    }
+
+    private fun placeholder(type: Class<*>): Any? = when (type) {
+        Boolean::class.javaPrimitiveType -> false
+        Char::class.javaPrimitiveType -> 0.toChar()
+        Byte::class.javaPrimitiveType -> 0.toByte()
+        Short::class.javaPrimitiveType -> 0.toShort()
+        Int::class.javaPrimitiveType -> 0
+        Long::class.javaPrimitiveType -> 0L
+        Float::class.javaPrimitiveType -> 0F
+        Double::class.javaPrimitiveType -> 0.0
+        else -> null
+    }
+}
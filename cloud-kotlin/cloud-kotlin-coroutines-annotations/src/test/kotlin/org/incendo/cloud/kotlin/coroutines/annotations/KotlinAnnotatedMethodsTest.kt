@@ -100,6 +100,18 @@ class KotlinAnnotatedMethodsTest {
         assertThat(result.commandContext().get<Int>("the-value")).isEqualTo(5)
     }
 
+    @Test
+    fun `test suspending method with default value`(): Unit = runBlocking {
+        AnnotationParser(commandManager, TestCommandSender::class.java)
+            .installCoroutineSupport()
+            .parse(CommandMethods())
+
+        val defaulted = commandManager.commandExecutor().executeCommand(TestCommandSender(), "suspending-with-default").await()
+        val provided = commandManager.commandExecutor().executeCommand(TestCommandSender(), "suspending-with-default 3").await()
+        assertThat(defaulted.commandContext().get<Int>("the-value")).isEqualTo(7)
+        assertThat(provided.commandContext().get<Int>("the-value")).isEqualTo(3)
+    }
+
     @Test
     fun `test suspending suggestion method`(): Unit = runBlocking {
         AnnotationParser(commandManager, TestCommandSender::class.java)
@@ -217,6 +229,14 @@ class KotlinAnnotatedMethodsTest {
         public fun commandWithDefault(@Argument("value") value: Int = 5, context: CommandContext<TestCommandSender>) {
             context["the-value"] = value
         }
+
+        @Command("suspending-with-default [value]")
+        public suspend fun suspendingCommandWithDefault(
+            @Argument("value") value: Int = 7,
+            context: CommandContext<TestCommandSender>
+        ): Unit = withContext(Dispatchers.Default) {
+            context["the-value"] = value
+        }
     }
 
     class SuggestionMethods {
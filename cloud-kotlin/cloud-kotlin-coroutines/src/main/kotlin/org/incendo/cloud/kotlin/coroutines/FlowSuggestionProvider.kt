@@ -0,0 +1,142 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.kotlin.coroutines
+
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.GlobalScope
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.toList
+import kotlinx.coroutines.flow.transformWhile
+import kotlinx.coroutines.future.future
+import org.incendo.cloud.CommandManager
+import org.incendo.cloud.context.CommandContext
+import org.incendo.cloud.context.CommandInput
+import org.incendo.cloud.execution.ExecutionCoordinator
+import org.incendo.cloud.suggestion.Suggestion
+import org.incendo.cloud.suggestion.SuggestionProvider
+import kotlin.coroutines.CoroutineContext
+import kotlin.coroutines.EmptyCoroutineContext
+
+/**
+ * Version of [SuggestionProvider] that streams its suggestions using a [Flow].
+ *
+ * The flow is collected until [CommandContext.suggestionLimit] suggestions that are accepted by the suggestion
+ * processor have been emitted, after which the flow is cancelled. This allows for large or paginated sources
+ * to be suggested from without materializing them completely. The emitted suggestions are passed to the suggestion
+ * processor in batches of at most [SUGGESTION_BATCH_SIZE], so the flow may be collected past the limit by up to
+ * one batch.
+ *
+ * The suggestion limit is unbounded by default, in which case the flow is collected completely. Set a
+ * [limit][CommandManager.suggestionLimit] when suggesting from large sources.
+ *
+ * NOTE: It is highly advised to not use [ExecutionCoordinator.simpleCoordinator] together
+ * with coroutine support. Consider using [ExecutionCoordinator.asyncCoordinator] instead.
+ *
+ * @param C command sender type.
+ * @see CommandManager.suggestionLimit
+ */
+public fun interface FlowSuggestionProvider<C : Any> {
+    /**
+     * Returns a flow of suggestions for the given [input].
+     *
+     * @param context the context of the suggestion lookup
+     * @param input   the current input
+     * @return the suggestions
+     */
+    public operator fun invoke(context: CommandContext<C>, input: CommandInput): Flow<Suggestion>
+
+    /**
+     * Creates a new [SuggestionProvider] backed by this [FlowSuggestionProvider].
+     *
+     * @param scope coroutine scope
+     * @param context coroutine context
+     * @return new [SuggestionProvider]
+     */
+    public fun asSuggestionProvider(
+        scope: CoroutineScope = GlobalScope,
+        context: CoroutineContext = EmptyCoroutineContext
+    ): SuggestionProvider<C> = createSuggestionProvider(scope, context, this)
+
+    public companion object {
+        /**
+         * Creates a new [SuggestionProvider] backed by the given [FlowSuggestionProvider].
+         *
+         * @param scope coroutine scope
+         * @param context coroutine context
+         * @param provider flow provider
+         * @return new [SuggestionProvider]
+         */
+        public fun <C : Any> createSuggestionProvider(
+            scope: CoroutineScope = GlobalScope,
+            context: CoroutineContext = EmptyCoroutineContext,
+            provider: FlowSuggestionProvider<C>
+        ): SuggestionProvider<C> =
+            SuggestionProvider { ctx, input ->
+                scope.future(context) {
+                    provider(ctx, input).collectSuggestions(ctx, input)
+                }
+            }
+    }
+}
+
+/**
+ * Creates a flow suggestion provider backed by the given [provider].
+ *
+ * @param scope coroutine scope
+ * @param context coroutine context
+ * @return the provider
+ */
+public fun <C : Any> flowSuggestionProvider(
+    scope: CoroutineScope = GlobalScope,
+    context: CoroutineContext = EmptyCoroutineContext,
+    provider: (CommandContext<C>, CommandInput) -> Flow<Suggestion>
+): SuggestionProvider<C> = FlowSuggestionProvider<C> { commandContext, input ->
+    provider(commandContext, input)
+}.asSuggestionProvider(scope, context)
+
+/**
+ * Maximum number of suggestions that a [FlowSuggestionProvider] passes to the suggestion processor at once.
+ */
+public const val SUGGESTION_BATCH_SIZE: Int = 64
+
+/**
+ * Collects the suggestions emitted by this flow until the suggestion limit of the [context] has been reached.
+ */
+internal suspend fun Flow<Suggestion>.collectSuggestions(context: CommandContext<*>, input: CommandInput): List<Suggestion> {
+    val limit = context.suggestionLimit()
+    if (limit == Int.MAX_VALUE) {
+        return toList()
+    }
+    val batch = ArrayList<Suggestion>(minOf(limit, SUGGESTION_BATCH_SIZE))
+    var accepted = 0
+    return transformWhile { suggestion ->
+        emit(suggestion)
+        batch += suggestion
+        if (batch.size >= minOf(limit - accepted, SUGGESTION_BATCH_SIZE)) {
+            accepted += context.acceptedSuggestions(input, batch)
+            batch.clear()
+        }
+        accepted < limit
+    }.toList()
+}
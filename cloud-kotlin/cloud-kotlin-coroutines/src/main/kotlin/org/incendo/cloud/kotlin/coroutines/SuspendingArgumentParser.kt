@@ -95,7 +95,7 @@ public fun interface SuspendingArgumentParser<C : Any, T : Any> {
         ): ArgumentParser<C, T> = ArgumentParser.FutureArgumentParser { ctx, commandInput ->
             scope.future(context) {
                 parser(ctx, commandInput)
-            }
+            }.also(ctx::cancelWith)
         }
     }
 }
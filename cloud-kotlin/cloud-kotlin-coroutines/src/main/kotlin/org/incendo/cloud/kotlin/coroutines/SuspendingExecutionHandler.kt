@@ -80,7 +80,7 @@ public fun interface SuspendingExecutionHandler<C : Any> {
             scope.future(context) {
                 handler(ctx)
                 null
-            }
+            }.also(ctx::cancelWith)
         }
     }
 }
@@ -0,0 +1,62 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.kotlin.coroutines.extension
+
+import kotlinx.coroutines.future.await
+import org.incendo.cloud.CommandManager
+import org.incendo.cloud.context.CommandContext
+import org.incendo.cloud.execution.CommandResult
+import java.util.concurrent.atomic.AtomicReference
+import kotlin.coroutines.cancellation.CancellationException
+
+/**
+ * Executes the given [input] on behalf of the [sender] and suspends until the command has been executed.
+ *
+ * This is a convenience wrapper that [awaits][await] the future returned by the
+ * [command executor][CommandManager.commandExecutor], so parsers and handlers run on the executors of the execution
+ * coordinator, and suspending parsers and handlers run in the scope that they were created with. Cancelling the calling
+ * coroutine [cancels][CommandContext.cancel] the command context, which in turn cancels the pending futures of
+ * suspending parsers and handlers.
+ *
+ * @param sender the sender of the command
+ * @param input the input provided by the sender
+ * @return the command result, or `null` if the command was filtered out by a preprocessor or postprocessor
+ * @see CommandManager.commandExecutor
+ */
+public suspend fun <C : Any> CommandManager<C>.executeSuspending(
+    sender: C,
+    input: String
+): CommandResult<C>? {
+    val commandContext = AtomicReference<CommandContext<C>>()
+    val future = commandExecutor().executeCommand(sender, input, commandContext::set)
+    try {
+        return future.await()
+    } catch (e: CancellationException) {
+        // The context is released once the command has completed, so it is only cancelled if the command was still running.
+        if (future.isCancelled) {
+            commandContext.get()?.cancel()
+        }
+        throw e
+    }
+}
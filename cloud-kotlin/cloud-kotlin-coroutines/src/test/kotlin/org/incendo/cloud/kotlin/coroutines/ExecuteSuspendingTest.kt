@@ -0,0 +1,106 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.kotlin.coroutines
+
+import com.google.common.truth.Truth.assertThat
+import kotlinx.coroutines.CompletableDeferred
+import kotlinx.coroutines.awaitCancellation
+import kotlinx.coroutines.cancelAndJoin
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.runBlocking
+import kotlinx.coroutines.withTimeout
+import org.incendo.cloud.CommandManager
+import org.incendo.cloud.execution.ExecutionCoordinator
+import org.incendo.cloud.internal.CommandRegistrationHandler
+import org.incendo.cloud.kotlin.coroutines.extension.executeSuspending
+import org.incendo.cloud.kotlin.coroutines.extension.suspendingHandler
+import org.incendo.cloud.kotlin.extension.buildAndRegister
+import org.incendo.cloud.parser.ArgumentParseResult
+import org.junit.jupiter.api.Test
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+
+class ExecuteSuspendingTest {
+
+    companion object {
+        val executorService: ExecutorService = Executors.newSingleThreadExecutor()
+    }
+
+    @Test
+    fun `test command result is returned`(): Unit = runBlocking {
+        val manager = TestCommandManager()
+        val parser = suspendingArgumentParser<TestCommandSender, Int> { _, commandInput ->
+            ArgumentParseResult.success(commandInput.readInteger())
+        }
+
+        manager.buildAndRegister("test") {
+            required("int", parser)
+            suspendingHandler {}
+        }
+
+        val result = manager.executeSuspending(TestCommandSender(), "test 123")
+
+        assertThat(result?.commandContext()?.get<Int>("int")).isEqualTo(123)
+    }
+
+    @Test
+    fun `test cancelling caller cancels handler`(): Unit = runBlocking {
+        val manager = TestCommandManager()
+        val started = CompletableDeferred<Unit>()
+        val cancelled = CompletableDeferred<Unit>()
+
+        manager.buildAndRegister("wait") {
+            suspendingHandler {
+                started.complete(Unit)
+                try {
+                    awaitCancellation()
+                } finally {
+                    cancelled.complete(Unit)
+                }
+            }
+        }
+
+        val job = launch {
+            manager.executeSuspending(TestCommandSender(), "wait")
+        }
+        started.await()
+        job.cancelAndJoin()
+
+        withTimeout(1000L) {
+            cancelled.await()
+        }
+    }
+
+    private class TestCommandSender
+
+    private class TestCommandManager : CommandManager<TestCommandSender>(
+        ExecutionCoordinator.builder<TestCommandSender>()
+            .executor(executorService)
+            .build(),
+        CommandRegistrationHandler.nullCommandRegistrationHandler()
+    ) {
+
+        override fun hasPermission(sender: TestCommandSender, permission: String): Boolean = true
+    }
+}
@@ -0,0 +1,134 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.kotlin.coroutines
+
+import com.google.common.truth.Truth.assertThat
+import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.future.await
+import kotlinx.coroutines.runBlocking
+import org.incendo.cloud.CommandManager
+import org.incendo.cloud.execution.ExecutionCoordinator
+import org.incendo.cloud.internal.CommandRegistrationHandler
+import org.incendo.cloud.kotlin.extension.buildAndRegister
+import org.incendo.cloud.parser.standard.StringParser.stringParser
+import org.incendo.cloud.suggestion.Suggestion
+import org.junit.jupiter.api.Test
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+
+class FlowSuggestionProviderTest {
+
+    companion object {
+        val executorService: ExecutorService = Executors.newSingleThreadExecutor()
+    }
+
+    @Test
+    fun `test collection stops at suggestion limit`(): Unit = runBlocking {
+        var emitted = 0
+        val provider = flowSuggestionProvider<TestCommandSender> { _, _ ->
+            flow {
+                while (true) {
+                    emit(Suggestion.suggestion(if (emitted % 2 == 0) "b$emitted" else "a$emitted"))
+                    emitted++
+                }
+            }
+        }
+        val manager = TestCommandManager()
+        manager.suggestionLimit(2)
+
+        manager.buildAndRegister("test") {
+            required("string", stringParser()) {
+                suggestionProvider(provider)
+            }
+        }
+
+        val suggestions = manager.suggestionFactory().suggest(TestCommandSender(), "test a").await().list()
+
+        assertThat(suggestions).containsExactly(
+            Suggestion.suggestion("a1"),
+            Suggestion.suggestion("a3")
+        ).inOrder()
+        assertThat(emitted).isEqualTo(3)
+    }
+
+    @Test
+    fun `test suggestions are processed in batches`(): Unit = runBlocking {
+        val provider = flowSuggestionProvider<TestCommandSender> { _, _ ->
+            flow {
+                (1..100).forEach { emit(Suggestion.suggestion(it.toString())) }
+            }
+        }
+        var processed = 0
+        val manager = TestCommandManager()
+        manager.suggestionLimit(10)
+        manager.suggestionProcessor { _, suggestions ->
+            processed++
+            suggestions
+        }
+
+        manager.buildAndRegister("test") {
+            required("string", stringParser()) {
+                suggestionProvider(provider)
+            }
+        }
+
+        val suggestions = manager.suggestionFactory().suggest(TestCommandSender(), "test ").await().list()
+
+        assertThat(suggestions).hasSize(10)
+        // One batch while collecting the flow, and one when the final suggestions are made
+        assertThat(processed).isEqualTo(2)
+    }
+
+    @Test
+    fun `test flow is collected completely without limit`(): Unit = runBlocking {
+        val provider = flowSuggestionProvider<TestCommandSender> { _, _ ->
+            flow {
+                (1..5).forEach { emit(Suggestion.suggestion(it.toString())) }
+            }
+        }
+        val manager = TestCommandManager()
+
+        manager.buildAndRegister("test") {
+            required("string", stringParser()) {
+                suggestionProvider(provider)
+            }
+        }
+
+        val suggestions = manager.suggestionFactory().suggest(TestCommandSender(), "test ").await().list()
+
+        assertThat(suggestions).hasSize(5)
+    }
+
+    private class TestCommandSender
+
+    private class TestCommandManager : CommandManager<TestCommandSender>(
+        ExecutionCoordinator.builder<TestCommandSender>()
+            .executor(executorService)
+            .build(),
+        CommandRegistrationHandler.nullCommandRegistrationHandler()
+    ) {
+
+        override fun hasPermission(sender: TestCommandSender, permission: String): Boolean = true
+    }
+}